@@ -24,7 +24,9 @@ import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.widgets.FileDialog;
 import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swtchart.IAxisSet;
 import org.eclipse.swtchart.ISeries;
+import org.eclipse.swtchart.Range;
 import org.eclipse.swtchart.extensions.core.BaseChart;
 import org.eclipse.swtchart.extensions.core.IAxisScaleConverter;
 import org.eclipse.swtchart.extensions.core.IAxisSettings;
@@ -116,7 +118,7 @@ public abstract class AbstractSeparatedValueHandler extends AbstractSeriesExport
 						ISeries<?>[] series = baseChart.getSeriesSet().getSeries();
 						for(ISeries<?> dataSeries : series) {
 							if(dataSeries != null && dataSeries.isVisible()) {
-								exportSeries(dataSeries, widthPlotArea, axisSettings, printWriter);
+								exportSeries(dataSeries, widthPlotArea, axisSettings, baseChart.getAxisSet(), printWriter);
 							}
 						}
 						//
@@ -136,7 +138,7 @@ public abstract class AbstractSeparatedValueHandler extends AbstractSeriesExport
 		}
 	}
 
-	private void exportSeries(ISeries<?> dataSeries, int widthPlotArea, AxisSettings axisSettings, PrintWriter printWriter) {
+	private void exportSeries(ISeries<?> dataSeries, int widthPlotArea, AxisSettings axisSettings, IAxisSet axisSet, PrintWriter printWriter) {
 
 		int indexAxisX = axisSettings.getIndexAxisX();
 		int indexAxisY = axisSettings.getIndexAxisY();
@@ -153,14 +155,15 @@ public abstract class AbstractSeparatedValueHandler extends AbstractSeriesExport
 		//
 		double[] xSeries = dataSeries.getXSeries();
 		double[] ySeries = dataSeries.getYSeries();
-		int size = dataSeries.getXSeries().length;
+		Range xRange = axisSet.getXAxis(dataSeries.getXAxisId()).getRange();
+		int[] indexRange = dataSeries.getXIndexRange(xRange.lower, xRange.upper);
 		//
-		for(int i = 0; i < size; i++) {
+		for(int i = indexRange[0]; i < indexRange[1]; i++) {
 			/*
-			 * Only export if the data point is visible.
+			 * Only export if the data point is visible and not a gap.
 			 */
 			Point point = dataSeries.getPixelCoordinates(i);
-			if(point.x >= 0 && point.x <= widthPlotArea) {
+			if(point.x >= 0 && point.x <= widthPlotArea && !Double.isNaN(ySeries[i])) {
 				printValue(printWriter, xSeries[i], indexAxisX, BaseChart.ID_PRIMARY_X_AXIS, decimalFormatX, axisScaleConverterX);
 				printWriter.print(delimiter);
 				printValue(printWriter, ySeries[i], indexAxisY, BaseChart.ID_PRIMARY_Y_AXIS, decimalFormatY, axisScaleConverterY);
@@ -174,10 +174,10 @@ public class LaTeXTableExportHandler extends AbstractSeriesExportHandler impleme
 		//
 		for(int i = 0; i < size; i++) {
 			/*
-			 * Only export if the data point is visible.
+			 * Only export if the data point is visible and not a gap.
 			 */
 			Point point = dataSeries.getPixelCoordinates(i);
-			if(point.x >= 0 && point.x <= widthPlotArea) {
+			if(point.x >= 0 && point.x <= widthPlotArea && !Double.isNaN(ySeries[i])) {
 				printWriter.print(TAB);
 				printValue(printWriter, xSeries[i], indexAxisX, BaseChart.ID_PRIMARY_X_AXIS, decimalFormatX, axisScaleConverterX);
 				printWriter.print(DELIMITER);
@@ -488,10 +488,10 @@ public class RScriptExportHandler extends AbstractSeriesExportHandler implements
 		//
 		for(int i = 0; i < size; i++) {
 			/*
-			 * Only export if the data point is visible.
+			 * Only export if the data point is visible and not a gap.
 			 */
 			Point point = dataSeries.getPixelCoordinates(i);
-			if(point.x >= 0 && point.x <= widthPlotArea) {
+			if(point.x >= 0 && point.x <= widthPlotArea && !Double.isNaN(ySeries[i])) {
 				boolean isPrimaryAxis = (indexAxisX == BaseChart.ID_PRIMARY_X_AXIS);
 				printValueBarPlot(printWriter, xSeries[i], ySeries[i], isPrimaryAxis, axisScaleConverterX, axisScaleConverterY);
 			}
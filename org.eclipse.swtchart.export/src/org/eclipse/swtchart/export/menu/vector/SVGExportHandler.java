@@ -39,6 +39,7 @@ import org.eclipse.swtchart.IBarSeries;
 import org.eclipse.swtchart.ILineSeries;
 import org.eclipse.swtchart.ISeries;
 import org.eclipse.swtchart.LineStyle;
+import org.eclipse.swtchart.Range;
 import org.eclipse.swtchart.export.core.AbstractSeriesExportHandler;
 import org.eclipse.swtchart.export.core.AxisSettings;
 import org.eclipse.swtchart.export.core.ISeriesExportConverter;
@@ -467,7 +468,8 @@ public class SVGExportHandler extends AbstractSeriesExportHandler implements ISe
 		double[] xSeries = dataSeries.getXSeries();
 		double[] ySeries = dataSeries.getYSeries();
 		String split[] = data.toString().split("\\n");
-		int size = dataSeries.getXSeries().length;
+		Range xRange = axisSet.getXAxis(dataSeries.getXAxisId()).getRange();
+		int[] indexRange = dataSeries.getXIndexRange(xRange.lower, xRange.upper);
 		//
 		String match1 = ".*%COLOR%.*";
 		String match2 = ".*%DATA POINTS%.*";
@@ -476,12 +478,12 @@ public class SVGExportHandler extends AbstractSeriesExportHandler implements ISe
 				string = string.replace("%COLOR%", color);
 			} else if(Pattern.matches(match2, string)) {
 				StringBuilder rep = new StringBuilder("");
-				for(int i = 0; i < size; i++) {
+				for(int i = indexRange[0]; i < indexRange[1]; i++) {
 					/*
-					 * Only export if the data point is visible.
+					 * Only export if the data point is visible and not a gap.
 					 */
 					Point point = dataSeries.getPixelCoordinates(i);
-					if((point.x >= 0 && point.x <= widthPlotArea) && (point.y >= 0 && point.y <= heightPlotArea)) {
+					if((point.x >= 0 && point.x <= widthPlotArea) && (point.y >= 0 && point.y <= heightPlotArea) && !Double.isNaN(ySeries[i])) {
 						rep.append(printValueLinePlot(AXIS_X, index, printWriter, xSeries[i], indexAxisX, axisSet, BaseChart.ID_PRIMARY_X_AXIS, axisScaleConverterX, isReversedX, isReversedY));
 						rep.append(",");
 						rep.append(printValueLinePlot(AXIS_Y, index, printWriter, ySeries[i], indexAxisY, axisSet, BaseChart.ID_PRIMARY_Y_AXIS, axisScaleConverterY, isReversedX, isReversedY));
@@ -798,18 +800,19 @@ public class SVGExportHandler extends AbstractSeriesExportHandler implements ISe
 		double[] xSeries = dataSeries.getXSeries();
 		double[] ySeries = dataSeries.getYSeries();
 		String split[] = data.toString().split("\\n");
-		int size = dataSeries.getXSeries().length;
+		Range xRange = axisSet.getXAxis(dataSeries.getXAxisId()).getRange();
+		int[] indexRange = dataSeries.getXIndexRange(xRange.lower, xRange.upper);
 		//
 		String match1 = ".*%COLOR%.*";
 		String match2 = ".*%x-coordinate%.*";
 		String match3 = ".*%y-coordinate%.*";
 		String match4 = ".*%height%.*";
-		for(int i = 0; i < size; i++) {
+		for(int i = indexRange[0]; i < indexRange[1]; i++) {
 			/*
-			 * Only export if the data point is visible.
+			 * Only export if the data point is visible and not a gap.
 			 */
 			Point point = dataSeries.getPixelCoordinates(i);
-			if((point.x >= 0 && point.x <= widthPlotArea)) {
+			if((point.x >= 0 && point.x <= widthPlotArea) && !Double.isNaN(ySeries[i])) {
 				double offset = 0.25;
 				double x = Double.parseDouble(printValueBarPlot(AXIS_X, index, printWriter, xSeries[i], indexAxisX, axisSet, BaseChart.ID_PRIMARY_X_AXIS, axisScaleConverterX, isReversedX, isReversedY));
 				double y = Double.parseDouble(printValueBarPlot(AXIS_Y, index, printWriter, ySeries[i], indexAxisY, axisSet, BaseChart.ID_PRIMARY_Y_AXIS, axisScaleConverterY, isReversedX, isReversedY));
@@ -1183,17 +1186,18 @@ public class SVGExportHandler extends AbstractSeriesExportHandler implements ISe
 		double[] xSeries = dataSeries.getXSeries();
 		double[] ySeries = dataSeries.getYSeries();
 		String split[] = data.toString().split("\\n");
-		int size = dataSeries.getXSeries().length;
+		Range xRange = axisSet.getXAxis(dataSeries.getXAxisId()).getRange();
+		int[] indexRange = dataSeries.getXIndexRange(xRange.lower, xRange.upper);
 		//
 		String match1 = ".*%COLOR%.*";
 		String match2 = ".*%x-coordinate%.*";
 		String match3 = ".*%y-coordinate%.*";
-		for(int i = 0; i < size; i++) {
+		for(int i = indexRange[0]; i < indexRange[1]; i++) {
 			/*
-			 * Only export if the data point is visible.
+			 * Only export if the data point is visible and not a gap.
 			 */
 			Point point = dataSeries.getPixelCoordinates(i);
-			if((point.x >= 0 && point.x <= widthPlotArea) && (point.y >= 0 && point.y <= heightPlotArea)) {
+			if((point.x >= 0 && point.x <= widthPlotArea) && (point.y >= 0 && point.y <= heightPlotArea) && !Double.isNaN(ySeries[i])) {
 				double x = Double.parseDouble(printValueScatterPlot(AXIS_X, index, printWriter, xSeries[i], indexAxisX, axisSet, BaseChart.ID_PRIMARY_X_AXIS, axisScaleConverterX, isReversedX, isReversedY));
 				double y = Double.parseDouble(printValueScatterPlot(AXIS_Y, index, printWriter, ySeries[i], indexAxisY, axisSet, BaseChart.ID_PRIMARY_Y_AXIS, axisScaleConverterY, isReversedX, isReversedY));
 				for(String string : split) {
@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Lablicate GmbH.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * 
+ * Contributors:
+ * SWTChart contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.extensions.core;
+
+import java.util.Arrays;
+
+import junit.framework.TestCase;
+
+public class ModuloReduction_1_Test extends TestCase {
+
+	private static final int SIZE = 100000;
+	private double[] xSeries;
+	private double[] ySeries;
+	private ISeriesReduction seriesReduction;
+
+	@Override
+	protected void setUp() throws Exception {
+
+		super.setUp();
+		xSeries = new double[SIZE];
+		ySeries = new double[SIZE];
+		for(int i = 0; i < SIZE; i++) {
+			xSeries[i] = i;
+			ySeries[i] = Math.sin(i * 0.001);
+		}
+		ySeries[12345] = 100;
+		ySeries[67890] = -100;
+		seriesReduction = new ModuloReduction();
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+
+		super.tearDown();
+	}
+
+	public void test1() {
+
+		int[] indexes = seriesReduction.reduce(xSeries, ySeries, 1000);
+		assertEquals(0, indexes[0]);
+		assertEquals(SIZE - 1, indexes[indexes.length - 1]);
+		for(int i = 1; i < indexes.length; i++) {
+			assertTrue(indexes[i - 1] < indexes[i]);
+		}
+	}
+
+	public void test2() {
+
+		int[] indexes = seriesReduction.reduce(xSeries, ySeries, 1000);
+		assertEquals(SIZE / 1000, indexes[1]);
+		assertEquals(1001, indexes.length);
+	}
+
+	public void test3() {
+
+		int[] indexes = seriesReduction.reduce(xSeries, Arrays.copyOf(ySeries, 10), 1000);
+		assertEquals(10, indexes.length);
+	}
+}
@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Lablicate GmbH.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * 
+ * Contributors:
+ * SWTChart contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.extensions.core;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swtchart.ISeries;
+import org.eclipse.swtchart.extensions.linecharts.LineSeriesSettings;
+
+import junit.framework.TestCase;
+
+public class ScrollableChart_1_UITest extends TestCase {
+
+	private static final String ID = "Series";
+	private Shell shell;
+	private ScrollableChart chart;
+
+	@Override
+	protected void setUp() throws Exception {
+
+		super.setUp();
+		shell = new Shell(Display.getDefault());
+		chart = new ScrollableChart(shell, SWT.NONE);
+		chart.getBaseChart().createSeries(new SeriesData(new double[]{0, 1}, new double[]{0, 1}, ID), new LineSeriesSettings());
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+
+		shell.dispose();
+		super.tearDown();
+	}
+
+	public void test1() {
+
+		chart.offer(ID, new double[]{2, 3}, new double[]{2, 3});
+		chart.offer(ID, new double[]{4}, new double[]{4});
+		chart.offer(ID, new double[]{5, 6}, new double[]{5, 6});
+		/*
+		 * Nothing is appended before the display thread drains the offers.
+		 */
+		assertEquals(2, getSeries().getYSeries().length);
+		drain(7);
+		double[] ySeries = getSeries().getYSeries();
+		assertEquals(7, ySeries.length);
+		for(int i = 0; i < ySeries.length; i++) {
+			assertEquals((double)i, ySeries[i]);
+		}
+	}
+
+	public void test2() {
+
+		chart.offer(ID, new double[]{2}, new double[]{2});
+		drain(3);
+		chart.offer(ID, new double[]{3}, new double[]{3});
+		drain(4);
+		assertEquals(4, getSeries().getYSeries().length);
+	}
+
+	public void test3() {
+
+		chart.offer(ID, new double[]{2}, new double[]{2});
+		chart.dispose();
+		chart.offer(ID, new double[]{3}, new double[]{3});
+		assertFalse(drain(3));
+	}
+
+	private ISeries<?> getSeries() {
+
+		return chart.getBaseChart().getSeriesSet().getSeries(ID);
+	}
+
+	private boolean drain(int expectedSize) {
+
+		Display display = shell.getDisplay();
+		long timeout = System.currentTimeMillis() + 5000;
+		while(System.currentTimeMillis() < timeout) {
+			if(!chart.isDisposed() && getSeries().getYSeries().length == expectedSize) {
+				return true;
+			}
+			if(!display.readAndDispatch()) {
+				Thread.yield();
+			}
+		}
+		return false;
+	}
+}
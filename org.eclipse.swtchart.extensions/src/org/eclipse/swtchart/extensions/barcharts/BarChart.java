@@ -13,12 +13,15 @@
 package org.eclipse.swtchart.extensions.barcharts;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swtchart.IBarSeries;
 import org.eclipse.swtchart.IBarSeries.BarWidthStyle;
 import org.eclipse.swtchart.extensions.core.BaseChart;
 import org.eclipse.swtchart.extensions.core.ISeriesData;
+import org.eclipse.swtchart.extensions.core.ISeriesReduction;
+import org.eclipse.swtchart.extensions.core.ModuloReduction;
 import org.eclipse.swtchart.extensions.core.ScrollableChart;
 import org.eclipse.swtchart.extensions.exceptions.SeriesException;
 
@@ -41,13 +44,22 @@ public class BarChart extends ScrollableChart {
 		addSeriesData(barSeriesDataList, Integer.MAX_VALUE);
 	}
 
+	public void addSeriesData(List<IBarSeriesData> barSeriesDataList, int compressToLength) {
+
+		addSeriesData(barSeriesDataList, compressToLength, new ModuloReduction());
+	}
+
 	/**
 	 * BarWidthStyle.STRETCHED will be used automatically instead of BarWidthStyle.FIXED
 	 * if the series data is too large. This leads to a better performance.
+	 * The data is compressed to the given length by the given strategy,
+	 * e.g. MinMaxReduction keeps the peaks.
 	 * 
 	 * @param barSeriesDataList
+	 * @param compressToLength
+	 * @param seriesReduction
 	 */
-	public void addSeriesData(List<IBarSeriesData> barSeriesDataList, int compressToLength) {
+	public void addSeriesData(List<IBarSeriesData> barSeriesDataList, int compressToLength, ISeriesReduction seriesReduction) {
 
 		/*
 		 * Suspend the update when adding new data to improve the performance.
@@ -55,13 +67,18 @@ public class BarChart extends ScrollableChart {
 		if(barSeriesDataList != null && barSeriesDataList.size() > 0) {
 			BaseChart baseChart = getBaseChart();
 			baseChart.suspendUpdate(true);
-			for(IBarSeriesData barSeriesData : barSeriesDataList) {
+			/*
+			 * Reduce the series in parallel.
+			 */
+			List<ISeriesData> seriesDataList = barSeriesDataList.stream().map(IBarSeriesData::getSeriesData).collect(Collectors.toList());
+			List<ISeriesData> optimizedSeriesDataList = calculateSeries(seriesDataList, compressToLength, seriesReduction);
+			for(int i = 0; i < barSeriesDataList.size(); i++) {
 				/*
 				 * Get the series data and apply the settings.
 				 */
 				try {
-					ISeriesData seriesData = barSeriesData.getSeriesData();
-					ISeriesData optimizedSeriesData = calculateSeries(seriesData, compressToLength);
+					IBarSeriesData barSeriesData = barSeriesDataList.get(i);
+					ISeriesData optimizedSeriesData = optimizedSeriesDataList.get(i);
 					IBarSeriesSettings barSeriesSettings = barSeriesData.getSettings();
 					barSeriesSettings.getSeriesSettingsHighlight(); // Initialize
 					IBarSeries<?> barSeries = (IBarSeries<?>)createSeries(optimizedSeriesData, barSeriesSettings);
@@ -15,6 +15,7 @@ package org.eclipse.swtchart.extensions.barcharts;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.widgets.Display;
+import org.eclipse.swtchart.IBarSeries.BarAggregation;
 import org.eclipse.swtchart.IBarSeries.BarWidthStyle;
 import org.eclipse.swtchart.extensions.core.AbstractSeriesSettings;
 import org.eclipse.swtchart.extensions.core.ISeriesSettings;
@@ -26,6 +27,7 @@ public class BarSeriesSettings extends AbstractSeriesSettings implements IBarSer
 	private int barWidth = 1;
 	private BarWidthStyle barWidthStyle = BarWidthStyle.FIXED;
 	private boolean barOverlay = false;
+	private BarAggregation barAggregation = BarAggregation.MAX;
 	private boolean enableStack = false;
 	private IBarSeriesSettings seriesSettingsHighlight = null;
 
@@ -89,6 +91,18 @@ public class BarSeriesSettings extends AbstractSeriesSettings implements IBarSer
 		this.barOverlay = barOverlay;
 	}
 
+	@Override
+	public BarAggregation getBarAggregation() {
+
+		return barAggregation;
+	}
+
+	@Override
+	public void setBarAggregation(BarAggregation barAggregation) {
+
+		this.barAggregation = barAggregation;
+	}
+
 	@Override
 	public boolean isEnableStack() {
 
@@ -136,6 +150,7 @@ public class BarSeriesSettings extends AbstractSeriesSettings implements IBarSer
 			sink.setBarPadding(source.getBarPadding());
 			sink.setBarWidth(source.getBarWidth());
 			sink.setBarOverlay(source.isBarOverlay());
+			sink.setBarAggregation(source.getBarAggregation());
 			sink.setEnableStack(source.isEnableStack());
 			success = true;
 		}
@@ -13,6 +13,7 @@
 package org.eclipse.swtchart.extensions.barcharts;
 
 import org.eclipse.swt.graphics.Color;
+import org.eclipse.swtchart.IBarSeries.BarAggregation;
 import org.eclipse.swtchart.IBarSeries.BarWidthStyle;
 import org.eclipse.swtchart.extensions.core.ISeriesSettings;
 
@@ -44,6 +45,17 @@ public interface IBarSeriesSettings extends ISeriesSettings {
 
 	void setBarOverlay(boolean barOverlay);
 
+	BarAggregation getBarAggregation();
+
+	/**
+	 * BarAggregation.MAX
+	 * BarAggregation.MIN
+	 * BarAggregation.SUM
+	 * 
+	 * @param barAggregation
+	 */
+	void setBarAggregation(BarAggregation barAggregation);
+
 	boolean isEnableStack();
 
 	void setEnableStack(boolean enableStack);
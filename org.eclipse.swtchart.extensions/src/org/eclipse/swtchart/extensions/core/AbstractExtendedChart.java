@@ -33,7 +33,11 @@ import org.eclipse.swtchart.extensions.core.RangeRestriction.ExtendType;
 import org.eclipse.swtchart.extensions.exceptions.SeriesException;
 import org.eclipse.swtchart.extensions.piecharts.ICircularSeriesData;
 import org.eclipse.swtchart.extensions.piecharts.ICircularSeriesSettings;
+import org.eclipse.swtchart.model.CartesianSeriesModel;
+import org.eclipse.swtchart.model.ChunkedSeriesModel;
+import org.eclipse.swtchart.model.DoubleIndexedSeriesModel;
 import org.eclipse.swtchart.model.IdNodeDataModel;
+import org.eclipse.swtchart.model.RingBufferSeriesModel;
 
 public abstract class AbstractExtendedChart extends AbstractHandledChart implements IChartDataCoordinates, IRangeSupport, IExtendedChart {
 
@@ -192,6 +196,12 @@ public abstract class AbstractExtendedChart extends AbstractHandledChart impleme
 			//
 			if(axis.getDirection() == Direction.X) {
 				adjustSecondaryXAxes();
+				if(getAxisSet().getYAxis(BaseChart.ID_PRIMARY_Y_AXIS).isAutoScaleEnabled()) {
+					/*
+					 * The primary Y axis has been fitted to the visible X range.
+					 */
+					adjustSecondaryYAxes();
+				}
 			} else if(axis.getDirection() == Direction.Y) {
 				adjustSecondaryYAxes();
 			}
@@ -290,21 +300,27 @@ public abstract class AbstractExtendedChart extends AbstractHandledChart impleme
 	}
 
 	@Override
+	@SuppressWarnings("unchecked")
 	public ISeries<?> createSeries(ISeriesData seriesData, ISeriesSettings seriesSettings) throws SeriesException {
 
 		SeriesType seriesType = getSeriesType(seriesSettings);
+		DoubleIndexedSeriesModel dataModel = seriesData.getDataModel();
+		if(dataModel != null) {
+			/*
+			 * The model is used as is, e.g. an equidistant
+			 * series doesn't need an array of x values.
+			 */
+			ISeries<Integer> series = (ISeries<Integer>)createSeries(seriesType, seriesData.getId(), seriesSettings);
+			series.setDataModel(dataModel);
+			calculateCoordinates(series);
+			return series;
+		}
+		//
 		double[] xSeries = seriesData.getXSeries();
 		double[] ySeries = seriesData.getYSeries();
 		//
 		if(xSeries.length == ySeries.length) {
-			/*
-			 * Put the settings to the map.
-			 */
-			String id = seriesData.getId();
-			seriesSettingsMap.put(id, seriesSettings);
-			//
-			ISeriesSet seriesSet = getSeriesSet();
-			ISeries<?> series = seriesSet.createSeries(seriesType, id);
+			ISeries<?> series = createSeries(seriesType, seriesData.getId(), seriesSettings);
 			series.setXSeries(xSeries);
 			series.setYSeries(ySeries);
 			calculateCoordinates(series);
@@ -314,6 +330,17 @@ public abstract class AbstractExtendedChart extends AbstractHandledChart impleme
 		}
 	}
 
+	private ISeries<?> createSeries(SeriesType seriesType, String id, ISeriesSettings seriesSettings) {
+
+		/*
+		 * Put the settings to the map.
+		 */
+		seriesSettingsMap.put(id, seriesSettings);
+		//
+		ISeriesSet seriesSet = getSeriesSet();
+		return seriesSet.createSeries(seriesType, id);
+	}
+
 	/*
 	 * Implement them soon. The method is to return the Series.
 	 */
@@ -354,6 +381,35 @@ public abstract class AbstractExtendedChart extends AbstractHandledChart impleme
 			ISeriesSet seriesSet = getSeriesSet();
 			ISeries<?> series = seriesSet.getSeries(seriesData.getId());
 			if(series != null) {
+				CartesianSeriesModel<?> dataModel = series.getDataModel();
+				if(dataModel instanceof RingBufferSeriesModel) {
+					/*
+					 * Streaming series: append in place, without copying the history.
+					 * The series is notified by the model, only the appended points
+					 * need to be considered for the coordinates.
+					 */
+					RingBufferSeriesModel ringBufferModel = (RingBufferSeriesModel)dataModel;
+					ringBufferModel.append(seriesData.getXSeries(), seriesData.getYSeries());
+					/*
+					 * The capacity is read after appending, since a growable
+					 * buffer grows to keep the whole batch.
+					 */
+					int appended = Math.min(seriesData.getXSeries().length, ringBufferModel.getCapacity());
+					int size = ringBufferModel.size();
+					calculateCoordinates(ringBufferModel, Math.max(0, size - appended), size);
+					return;
+				}
+				if(dataModel instanceof ChunkedSeriesModel) {
+					/*
+					 * Only the last chunk is copied.
+					 */
+					@SuppressWarnings("unchecked")
+					ISeries<Integer> chunkedSeries = (ISeries<Integer>)series;
+					ChunkedSeriesModel chunkedModel = ((ChunkedSeriesModel)dataModel).append(seriesData.getXSeries(), seriesData.getYSeries());
+					chunkedSeries.setDataModel(chunkedModel);
+					calculateCoordinates(chunkedModel, chunkedModel.size() - seriesData.getYSeries().length, chunkedModel.size());
+					return;
+				}
 				/*
 				 * Append the data.
 				 */
@@ -498,6 +554,20 @@ public abstract class AbstractExtendedChart extends AbstractHandledChart impleme
 
 	private void calculateCoordinates(ISeries<?> series) {
 
+		CartesianSeriesModel<?> dataModel = series.getDataModel();
+		if(dataModel instanceof DoubleIndexedSeriesModel) {
+			/*
+			 * Use the statistics of the model instead of copying the series.
+			 */
+			DoubleIndexedSeriesModel indexedModel = (DoubleIndexedSeriesModel)dataModel;
+			int size = indexedModel.size();
+			if(size != 0) {
+				seriesMaxDataPoints = Math.max(seriesMaxDataPoints, size);
+				updateCoordinates(indexedModel.getMinX().doubleValue(), indexedModel.getMaxX().doubleValue(), indexedModel.getMinY().doubleValue(), indexedModel.getMaxY().doubleValue());
+			}
+			return;
+		}
+		//
 		double[] xSeries = series.getXSeries();
 		double[] ySeries = series.getYSeries();
 		//
@@ -512,6 +582,41 @@ public abstract class AbstractExtendedChart extends AbstractHandledChart impleme
 		//
 	}
 
+	/*
+	 * Considers only the points in the given index range, e.g. the appended ones.
+	 */
+	private void calculateCoordinates(DoubleIndexedSeriesModel indexedModel, int from, int to) {
+
+		seriesMaxDataPoints = Math.max(seriesMaxDataPoints, indexedModel.size());
+		if(from >= to) {
+			return;
+		}
+		double seriesMinX = indexedModel.x(from);
+		double seriesMaxX = seriesMinX;
+		double seriesMinY = indexedModel.y(from);
+		double seriesMaxY = seriesMinY;
+		for(int i = from + 1; i < to; i++) {
+			double x = indexedModel.x(i);
+			double y = indexedModel.y(i);
+			seriesMinX = Math.min(seriesMinX, x);
+			seriesMaxX = Math.max(seriesMaxX, x);
+			/*
+			 * Gaps (NaN) are skipped.
+			 */
+			if(y < seriesMinY || Double.isNaN(seriesMinY)) {
+				seriesMinY = y;
+			}
+			if(y > seriesMaxY || Double.isNaN(seriesMaxY)) {
+				seriesMaxY = y;
+			}
+		}
+		if(Double.isNaN(seriesMinY)) {
+			updateCoordinates(seriesMinX, seriesMaxX, minY, maxY);
+		} else {
+			updateCoordinates(seriesMinX, seriesMaxX, seriesMinY, seriesMaxY);
+		}
+	}
+
 	protected void updateCoordinates(double seriesMinX, double seriesMaxX, double seriesMinY, double seriesMaxY) {
 
 		minX = Math.min(minX, seriesMinX);
@@ -732,6 +732,7 @@ public class BaseChart extends AbstractExtendedChart implements IChartDataCoordi
 		lineSeries.setLineWidth(lineSeriesSettings.getLineWidth());
 		lineSeries.enableStack(lineSeriesSettings.isEnableStack());
 		lineSeries.enableStep(lineSeriesSettings.isEnableStep());
+		lineSeries.setLineCompression(lineSeriesSettings.getLineCompression());
 		lineSeries.setLineStyle(lineSeriesSettings.getLineStyle());
 	}
 
@@ -756,6 +757,7 @@ public class BaseChart extends AbstractExtendedChart implements IChartDataCoordi
 		barSeries.setBarPadding(barSeriesSettings.getBarPadding());
 		barSeries.setBarWidth(barSeriesSettings.getBarWidth());
 		barSeries.setBarOverlay(barSeriesSettings.isBarOverlay());
+		barSeries.setBarAggregation(barSeriesSettings.getBarAggregation());
 		barSeries.enableStack(barSeriesSettings.isEnableStack());
 	}
 
@@ -1163,10 +1165,18 @@ public class BaseChart extends AbstractExtendedChart implements IChartDataCoordi
 		exitloop:
 		for(ISeries<?> dataSeries : series) {
 			if(dataSeries != null && dataSeries.isVisible()) {
-				int size = dataSeries.getXSeries().length;
-				for(int i = 0; i < size; i++) {
+				/*
+				 * Only check the points near the event.
+				 */
+				int delta = 8;
+				IAxis xAxis = getAxisSet().getXAxis(dataSeries.getXAxisId());
+				int position = (getOrientation() == SWT.HORIZONTAL) ? event.x : event.y;
+				double start = xAxis.getDataCoordinate(position - delta);
+				double stop = xAxis.getDataCoordinate(position + delta);
+				int[] indexRange = dataSeries.getXIndexRange(Math.min(start, stop), Math.max(start, stop));
+				for(int i = indexRange[0]; i < indexRange[1]; i++) {
 					Point point = dataSeries.getPixelCoordinates(i);
-					if(isDataSeriesSelected(point, event, 8)) {
+					if(isDataSeriesSelected(point, event, delta)) {
 						selectedSeriesId = dataSeries.getId();
 						break exitloop;
 					}
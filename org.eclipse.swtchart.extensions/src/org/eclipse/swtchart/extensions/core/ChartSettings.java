@@ -25,6 +25,7 @@ import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.graphics.Font;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swtchart.Constants;
+import org.eclipse.swtchart.ILineSeries.LineCompression;
 import org.eclipse.swtchart.extensions.events.IHandledEventProcessor;
 import org.eclipse.swtchart.extensions.events.MouseDownEvent;
 import org.eclipse.swtchart.extensions.events.MouseMoveCursorEvent;
@@ -94,6 +95,7 @@ public class ChartSettings implements IChartSettings {
 	private Color backgroundChart;
 	private Color backgroundPlotArea;
 	private boolean enableCompress = true;
+	private LineCompression lineCompression = LineCompression.GRID;
 	private RangeRestriction rangeRestriction = new RangeRestriction();
 	//
 	private boolean showPositionMarker = false;
@@ -489,6 +491,18 @@ public class ChartSettings implements IChartSettings {
 		this.enableCompress = enableCompress;
 	}
 
+	@Override
+	public LineCompression getLineCompression() {
+
+		return lineCompression;
+	}
+
+	@Override
+	public void setLineCompression(LineCompression lineCompression) {
+
+		this.lineCompression = lineCompression;
+	}
+
 	@Override
 	public RangeRestriction getRangeRestriction() {
 
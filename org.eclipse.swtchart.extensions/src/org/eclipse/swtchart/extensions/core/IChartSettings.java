@@ -17,6 +17,7 @@ import java.util.Set;
 
 import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.graphics.Font;
+import org.eclipse.swtchart.ILineSeries.LineCompression;
 import org.eclipse.swtchart.extensions.events.IHandledEventProcessor;
 import org.eclipse.swtchart.extensions.menu.IChartMenuEntry;
 
@@ -141,6 +142,16 @@ public interface IChartSettings {
 
 	void setEnableCompress(boolean enableCompress);
 
+	/**
+	 * The line compression of the line series which have no own, see
+	 * {@link org.eclipse.swtchart.Chart#setLineCompression(LineCompression)}.
+	 * 
+	 * @return {@link LineCompression}
+	 */
+	LineCompression getLineCompression();
+
+	void setLineCompression(LineCompression lineCompression);
+
 	RangeRestriction getRangeRestriction();
 
 	boolean isShowPositionMarker();
@@ -51,6 +51,9 @@ public interface IExtendedChart {
 
 	/**
 	 * Append an existing series with the new arrays.
+	 * If the series is backed by a RingBufferSeriesModel, the data is
+	 * appended in place without copying the existing data. If it is backed
+	 * by a ChunkedSeriesModel, only the last chunk is copied.
 	 * 
 	 * @param seriesData
 	 */
@@ -12,6 +12,8 @@
  *******************************************************************************/
 package org.eclipse.swtchart.extensions.core;
 
+import org.eclipse.swtchart.model.DoubleIndexedSeriesModel;
+
 public interface ISeriesData {
 
 	double[] getXSeries();
@@ -19,4 +21,15 @@ public interface ISeriesData {
 	double[] getYSeries();
 
 	String getId();
+
+	/**
+	 * Returns a model of the data, which is used instead of the x and y arrays
+	 * if available, e.g. to avoid creating the x values of an equidistant series.
+	 * 
+	 * @return DoubleIndexedSeriesModel or null
+	 */
+	default DoubleIndexedSeriesModel getDataModel() {
+
+		return null;
+	}
 }
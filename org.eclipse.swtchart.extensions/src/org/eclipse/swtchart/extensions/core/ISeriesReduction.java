@@ -0,0 +1,33 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Lablicate GmbH.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * 
+ * Contributors:
+ * SWTChart contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.extensions.core;
+
+/**
+ * Reduces a series to a given number of points before it is added to the chart,
+ * see {@link ScrollableChart#calculateSeries(ISeriesData, int, ISeriesReduction)}.
+ * Implementations work on the primitive arrays and must be stateless, so that
+ * several series can be reduced in parallel.
+ */
+public interface ISeriesReduction {
+
+	/**
+	 * Selects the points which are kept. The first and the last point are always kept.
+	 * 
+	 * @param xSeries
+	 * @param ySeries
+	 * @param length
+	 *            the number of points to reduce to, greater than 2
+	 * @return the indexes of the kept points in ascending order
+	 */
+	int[] reduce(double[] xSeries, double[] ySeries, int length);
+}
@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Lablicate GmbH.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * 
+ * Contributors:
+ * SWTChart contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.extensions.core;
+
+import java.util.stream.IntStream;
+
+/**
+ * Largest-Triangle-Three-Buckets (LTTB) downsampling, see S. Steinarsson: "Downsampling Time Series for Visual
+ * Representation". The points between the first and the last point are split into buckets of equal size. Each bucket
+ * keeps the point which forms the largest triangle with the point kept from the previous bucket and the average point
+ * of the next bucket, which preserves the visual shape including the peaks.
+ */
+public class LargestTriangleThreeBucketsReduction implements ISeriesReduction {
+
+	@Override
+	public int[] reduce(double[] xSeries, double[] ySeries, int length) {
+
+		int size = ySeries.length;
+		if(length >= size || size <= 2) {
+			return IntStream.range(0, size).toArray();
+		}
+		if(length < 3) {
+			return new int[]{0, size - 1};
+		}
+		int[] indexes = new int[length];
+		double bucketSize = (double)(size - 2) / (length - 2);
+		int previous = 0;
+		for(int bucket = 0; bucket < length - 2; bucket++) {
+			/*
+			 * The average point of the next bucket, which is the last point for the last bucket.
+			 */
+			int nextFrom = (int)((bucket + 1) * bucketSize) + 1;
+			int nextTo = Math.min(size, (int)((bucket + 2) * bucketSize) + 1);
+			double averageX = 0;
+			double averageY = 0;
+			int count = 0;
+			for(int i = nextFrom; i < nextTo; i++) {
+				if(!Double.isNaN(ySeries[i])) {
+					averageX += xSeries[i];
+					averageY += ySeries[i];
+					count++;
+				}
+			}
+			if(count > 0) {
+				averageX /= count;
+				averageY /= count;
+			} else {
+				averageX = xSeries[previous];
+				averageY = ySeries[previous];
+			}
+			/*
+			 * The point of this bucket with the largest triangle, gaps are only kept for a bucket of gaps.
+			 */
+			int from = (int)(bucket * bucketSize) + 1;
+			int to = (int)((bucket + 1) * bucketSize) + 1;
+			double x = xSeries[previous];
+			double y = ySeries[previous];
+			double maxArea = -1;
+			int selected = from;
+			for(int i = from; i < to; i++) {
+				double area = Math.abs((x - averageX) * (ySeries[i] - y) - (x - xSeries[i]) * (averageY - y));
+				if(area > maxArea) {
+					maxArea = area;
+					selected = i;
+				}
+			}
+			indexes[bucket + 1] = selected;
+			previous = selected;
+		}
+		indexes[length - 1] = size - 1;
+		return indexes;
+	}
+}
@@ -0,0 +1,57 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Lablicate GmbH.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * 
+ * Contributors:
+ * SWTChart contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.extensions.core;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Splits the series into buckets of equal size and keeps the point with the minimum and the point with the maximum
+ * y value of each bucket, so that no peak is lost. Gaps (NaN) are skipped, a bucket of gaps keeps its first point.
+ */
+public class MinMaxReduction implements ISeriesReduction {
+
+	@Override
+	public int[] reduce(double[] xSeries, double[] ySeries, int length) {
+
+		int size = ySeries.length;
+		int buckets = Math.max(1, (length - 2) / 2);
+		if(size <= 2 + 2 * buckets) {
+			return IntStream.range(0, size).toArray();
+		}
+		int[] indexes = new int[2 * buckets + 2];
+		int count = 0;
+		indexes[count++] = 0;
+		for(int bucket = 0; bucket < buckets; bucket++) {
+			int from = 1 + (int)((long)bucket * (size - 2) / buckets);
+			int to = 1 + (int)((long)(bucket + 1) * (size - 2) / buckets);
+			int minIndex = from;
+			int maxIndex = from;
+			for(int i = from; i < to; i++) {
+				double y = ySeries[i];
+				if(y < ySeries[minIndex] || Double.isNaN(ySeries[minIndex])) {
+					minIndex = i;
+				}
+				if(y > ySeries[maxIndex] || Double.isNaN(ySeries[maxIndex])) {
+					maxIndex = i;
+				}
+			}
+			indexes[count++] = Math.min(minIndex, maxIndex);
+			if(minIndex != maxIndex) {
+				indexes[count++] = Math.max(minIndex, maxIndex);
+			}
+		}
+		indexes[count++] = size - 1;
+		return Arrays.copyOf(indexes, count);
+	}
+}
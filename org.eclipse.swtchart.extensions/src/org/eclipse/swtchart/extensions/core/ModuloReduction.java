@@ -0,0 +1,41 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Lablicate GmbH.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * 
+ * Contributors:
+ * SWTChart contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.extensions.core;
+
+import java.util.stream.IntStream;
+
+/**
+ * Keeps every n-th point. It is fast, but peaks between the kept points are lost.
+ */
+public class ModuloReduction implements ISeriesReduction {
+
+	@Override
+	public int[] reduce(double[] xSeries, double[] ySeries, int length) {
+
+		int size = ySeries.length;
+		int moduloValue = size / length;
+		if(size <= 2 || moduloValue == 0) {
+			return IntStream.range(0, size).toArray();
+		}
+		/*
+		 * The first and last point and the multiples of the modulo value in between.
+		 */
+		int count = (size - 2) / moduloValue;
+		int[] indexes = new int[count + 2];
+		for(int i = 1; i <= count; i++) {
+			indexes[i] = i * moduloValue;
+		}
+		indexes[count + 1] = size - 1;
+		return indexes;
+	}
+}
@@ -20,17 +20,23 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IConfigurationElement;
 import org.eclipse.core.runtime.IExtensionRegistry;
 import org.eclipse.core.runtime.RegistryFactory;
 import org.eclipse.swt.SWT;
+import org.eclipse.swt.SWTException;
 import org.eclipse.swt.custom.SashForm;
 import org.eclipse.swt.custom.StyleRange;
 import org.eclipse.swt.events.MenuEvent;
@@ -150,6 +156,14 @@ public class ScrollableChart extends Composite implements IScrollableChart, IEve
 	 * Menu listener for receiving open/close updates.
 	 */
 	private MenuListener menuListener = null;
+	/*
+	 * Data offered by producer threads, which is appended
+	 * on the display thread at most once per frame.
+	 */
+	private static final int OFFER_FRAME_MILLISECONDS = 16;
+	private final ConcurrentLinkedQueue<ISeriesData> offeredSeries = new ConcurrentLinkedQueue<>();
+	private final AtomicBoolean offerScheduled = new AtomicBoolean();
+	private long offerDrainTime = 0;
 
 	/**
 	 * This constructor is used, when clazz.newInstance() is needed.
@@ -340,6 +354,8 @@ public class ScrollableChart extends Composite implements IScrollableChart, IEve
 	@Override
 	public void dispose() {
 
+		offeredSeries.clear();
+		offerScheduled.set(false);
 		super.dispose();
 		baseChart.dispose();
 	}
@@ -351,6 +367,112 @@ public class ScrollableChart extends Composite implements IScrollableChart, IEve
 		adjustRange(true);
 	}
 
+	/**
+	 * Offers data to be appended to the series with the given id. This method
+	 * can be called by any thread. The data is queued and appended on the display
+	 * thread at most once per frame, all batches offered meanwhile are appended
+	 * together and the ranges are adjusted and the chart is redrawn only once.
+	 * 
+	 * @param id
+	 * @param xSeries
+	 * @param ySeries
+	 */
+	public void offer(String id, double[] xSeries, double[] ySeries) {
+
+		/*
+		 * Batches offered to a disposed chart are dropped.
+		 */
+		if(isDisposed()) {
+			return;
+		}
+		Display display = getDisplay();
+		if(display.isDisposed()) {
+			return;
+		}
+		offeredSeries.add(new SeriesData(xSeries, ySeries, id));
+		scheduleOfferedSeries(display);
+	}
+
+	private void scheduleOfferedSeries(Display display) {
+
+		if(offerScheduled.compareAndSet(false, true)) {
+			try {
+				display.asyncExec(this::appendOfferedSeries);
+			} catch(SWTException e) {
+				/*
+				 * The display has been disposed meanwhile.
+				 */
+				offeredSeries.clear();
+				offerScheduled.set(false);
+			}
+		}
+	}
+
+	private void appendOfferedSeries() {
+
+		if(isDisposed()) {
+			offeredSeries.clear();
+			offerScheduled.set(false);
+			return;
+		}
+		/*
+		 * Wait for the next frame.
+		 */
+		long delay = offerDrainTime + OFFER_FRAME_MILLISECONDS - System.currentTimeMillis();
+		if(delay > 0) {
+			getDisplay().timerExec((int)delay, this::appendOfferedSeries);
+			return;
+		}
+		offerDrainTime = System.currentTimeMillis();
+		try {
+			Map<String, List<ISeriesData>> batches = new LinkedHashMap<>();
+			ISeriesData seriesData;
+			while((seriesData = offeredSeries.poll()) != null) {
+				batches.computeIfAbsent(seriesData.getId(), id -> new ArrayList<>()).add(seriesData);
+			}
+			if(!batches.isEmpty()) {
+				/*
+				 * Append each series once. Appending doesn't update the layout,
+				 * so the layout is updated only once when adjusting the range.
+				 */
+				for(Entry<String, List<ISeriesData>> entry : batches.entrySet()) {
+					baseChart.appendSeries(concatenateSeries(entry.getKey(), entry.getValue()));
+				}
+				adjustRange(true);
+				baseChart.redraw();
+			}
+		} finally {
+			/*
+			 * Data offered while draining hasn't scheduled a frame yet.
+			 */
+			offerScheduled.set(false);
+			if(!offeredSeries.isEmpty() && !isDisposed()) {
+				scheduleOfferedSeries(getDisplay());
+			}
+		}
+	}
+
+	private ISeriesData concatenateSeries(String id, List<ISeriesData> batches) {
+
+		if(batches.size() == 1) {
+			return batches.get(0);
+		}
+		int length = 0;
+		for(ISeriesData batch : batches) {
+			length += batch.getYSeries().length;
+		}
+		double[] xSeries = new double[length];
+		double[] ySeries = new double[length];
+		int offset = 0;
+		for(ISeriesData batch : batches) {
+			int size = batch.getYSeries().length;
+			System.arraycopy(batch.getXSeries(), 0, xSeries, offset, size);
+			System.arraycopy(batch.getYSeries(), 0, ySeries, offset, size);
+			offset += size;
+		}
+		return new SeriesData(xSeries, ySeries, id);
+	}
+
 	@Override
 	public void setRange(String axis, Range range) {
 
@@ -557,6 +679,7 @@ public class ScrollableChart extends Composite implements IScrollableChart, IEve
 
 	/**
 	 * Use compress series only if it's absolutely necessary.
+	 * Every n-th point is kept, see {@link ModuloReduction}.
 	 * 
 	 * @param seriesData
 	 * @param compressToLength
@@ -564,50 +687,33 @@ public class ScrollableChart extends Composite implements IScrollableChart, IEve
 	 */
 	protected ISeriesData calculateSeries(ISeriesData seriesData, int compressToLength) {
 
-		double[] xSeries = seriesData.getXSeries();
+		return calculateSeries(seriesData, compressToLength, new ModuloReduction());
+	}
+
+	/**
+	 * Reduces the series to the given length by the given strategy, e.g.
+	 * {@link LargestTriangleThreeBucketsReduction} or {@link MinMaxReduction},
+	 * which keep the peaks.
+	 * 
+	 * @param seriesData
+	 * @param compressToLength
+	 * @param seriesReduction
+	 * @return ISeriesData
+	 */
+	protected ISeriesData calculateSeries(ISeriesData seriesData, int compressToLength, ISeriesReduction seriesReduction) {
+
 		double[] ySeries = seriesData.getYSeries();
 		int seriesLength = ySeries.length;
 		//
 		if(seriesLength > compressToLength) {
-			/*
-			 * Capture the compressed data.
-			 * The final size is not known yet.
-			 */
-			List<Double> xSeriesCompressed = new ArrayList<Double>();
-			List<Double> ySeriesCompressed = new ArrayList<Double>();
-			/*
-			 * First x,y value.
-			 */
-			xSeriesCompressed.add(xSeries[0]);
-			ySeriesCompressed.add(ySeries[0]);
-			//
-			int moduloValue = seriesLength / compressToLength;
-			for(int i = 1; i < ySeries.length - 1; i++) {
-				/*
-				 * Filter the values.
-				 */
-				double y = ySeries[i];
-				boolean addValue = false;
-				//
-				if(moduloValue > 0 && i % moduloValue == 0) {
-					addValue = true;
-				}
-				//
-				if(addValue) {
-					xSeriesCompressed.add(xSeries[i]);
-					ySeriesCompressed.add(y);
-				}
+			double[] xSeries = seriesData.getXSeries();
+			int[] indexes = seriesReduction.reduce(xSeries, ySeries, compressToLength);
+			double[] xCompressed = new double[indexes.length];
+			double[] yCompressed = new double[indexes.length];
+			for(int i = 0; i < indexes.length; i++) {
+				xCompressed[i] = xSeries[indexes[i]];
+				yCompressed[i] = ySeries[indexes[i]];
 			}
-			/*
-			 * Last x,y value.
-			 */
-			xSeriesCompressed.add(xSeries[xSeries.length - 1]);
-			ySeriesCompressed.add(ySeries[ySeries.length - 1]);
-			/*
-			 * Compression
-			 */
-			double[] xCompressed = xSeriesCompressed.stream().mapToDouble(d -> d).toArray();
-			double[] yCompressed = ySeriesCompressed.stream().mapToDouble(d -> d).toArray();
 			//
 			return new SeriesData(xCompressed, yCompressed, seriesData.getId());
 		} else {
@@ -618,6 +724,21 @@ public class ScrollableChart extends Composite implements IScrollableChart, IEve
 		}
 	}
 
+	/**
+	 * Reduces the series to the given length by the given strategy.
+	 * Several series are reduced in parallel.
+	 * 
+	 * @param seriesDataList
+	 * @param compressToLength
+	 * @param seriesReduction
+	 * @return {List<ISeriesData>} in the same order
+	 */
+	protected List<ISeriesData> calculateSeries(List<ISeriesData> seriesDataList, int compressToLength, ISeriesReduction seriesReduction) {
+
+		Stream<ISeriesData> stream = seriesDataList.size() > 1 ? seriesDataList.parallelStream() : seriesDataList.stream();
+		return stream.map(seriesData -> calculateSeries(seriesData, compressToLength, seriesReduction)).collect(Collectors.toList());
+	}
+
 	/**
 	 * Returns whether the series exceeds the given length hint or not.
 	 * 
@@ -708,6 +829,7 @@ public class ScrollableChart extends Composite implements IScrollableChart, IEve
 		baseChart.setBackground(chartSettings.getBackgroundChart());
 		baseChart.getPlotArea().setBackground(chartSettings.getBackgroundPlotArea());
 		baseChart.enableCompress(chartSettings.isEnableCompress());
+		baseChart.setLineCompression(chartSettings.getLineCompression());
 		baseChart.setRangeRestriction(chartSettings.getRangeRestriction());
 		/*
 		 * Primary and Secondary axes
@@ -12,11 +12,15 @@
  *******************************************************************************/
 package org.eclipse.swtchart.extensions.core;
 
+import org.eclipse.swtchart.model.DoubleIndexedSeriesModel;
+import org.eclipse.swtchart.model.RegularSeriesModel;
+
 public class SeriesData implements ISeriesData {
 
 	private double[] xSeries;
 	private double[] ySeries;
 	private String id;
+	private RegularSeriesModel regularModel;
 
 	/**
 	 * Sets the series.
@@ -34,6 +38,8 @@ public class SeriesData implements ISeriesData {
 	 * Sets the series.
 	 * The xSeries is created automatically.
 	 * It is equidistant, contains integer values and starts with the given value.
+	 * The xSeries is only filled if it is requested, the chart uses the
+	 * regular model instead.
 	 * 
 	 * @param ySeries
 	 * @param id
@@ -42,13 +48,9 @@ public class SeriesData implements ISeriesData {
 		assert (ySeries != null);
 		assert (id != null);
 		//
-		xSeries = new double[ySeries.length];
 		this.ySeries = ySeries;
 		this.id = id;
-		//
-		for(int i = 0; i < ySeries.length; i++) {
-			xSeries[i] = xStart++;
-		}
+		regularModel = new RegularSeriesModel(xStart, 1, ySeries);
 	}
 
 	/**
@@ -71,6 +73,10 @@ public class SeriesData implements ISeriesData {
 	@Override
 	public double[] getXSeries() {
 
+		if(xSeries == null) {
+			xSeries = new double[regularModel.size()];
+			regularModel.copyX(0, xSeries, 0, xSeries.length);
+		}
 		return xSeries;
 	}
 
@@ -85,4 +91,10 @@ public class SeriesData implements ISeriesData {
 
 		return id;
 	}
+
+	@Override
+	public DoubleIndexedSeriesModel getDataModel() {
+
+		return regularModel;
+	}
 }
@@ -16,6 +16,7 @@ import org.eclipse.swt.events.PaintEvent;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swtchart.ISeries;
 import org.eclipse.swtchart.ISeriesSet;
+import org.eclipse.swtchart.Range;
 import org.eclipse.swtchart.extensions.core.BaseChart;
 import org.eclipse.swtchart.extensions.core.IPointSeriesSettings;
 import org.eclipse.swtchart.extensions.core.ISeriesSettings;
@@ -50,9 +51,11 @@ public class SeriesLabelMarker extends AbstractBaseChartPaintListener implements
 					 * Draw the label
 					 */
 					e.gc.setForeground(getForegroundColor());
-					for(int i = 0; i < serie.getXSeries().length; i++) {
+					Point labelSize = e.gc.textExtent(label);
+					Range xRange = baseChart.getAxisSet().getXAxis(serie.getXAxisId()).getRange();
+					int[] indexRange = serie.getXIndexRange(xRange.lower, xRange.upper);
+					for(int i = indexRange[0]; i < indexRange[1]; i++) {
 						Point point = serie.getPixelCoordinates(i);
-						Point labelSize = e.gc.textExtent(label);
 						e.gc.drawText(label, (int)(point.x - labelSize.x / 2.0d), (int)(point.y - labelSize.y - symbolSize / 2.0d), true);
 					}
 				}
@@ -13,6 +13,7 @@
 package org.eclipse.swtchart.extensions.linecharts;
 
 import org.eclipse.swt.graphics.Color;
+import org.eclipse.swtchart.ILineSeries.LineCompression;
 import org.eclipse.swtchart.LineStyle;
 import org.eclipse.swtchart.extensions.core.IPointSeriesSettings;
 
@@ -47,6 +48,15 @@ public interface ILineSeriesSettings extends IPointSeriesSettings {
 
 	void setEnableStep(boolean enableStep);
 
+	/**
+	 * LineCompression.DEFAULT uses the line compression of the chart.
+	 * 
+	 * @return {@link LineCompression}
+	 */
+	LineCompression getLineCompression();
+
+	void setLineCompression(LineCompression lineCompression);
+
 	LineStyle getLineStyle();
 
 	void setLineStyle(LineStyle lineStyle);
@@ -14,12 +14,15 @@
 package org.eclipse.swtchart.extensions.linecharts;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swtchart.ILineSeries;
 import org.eclipse.swtchart.extensions.core.BaseChart;
 import org.eclipse.swtchart.extensions.core.ISeriesData;
+import org.eclipse.swtchart.extensions.core.ISeriesReduction;
+import org.eclipse.swtchart.extensions.core.ModuloReduction;
 import org.eclipse.swtchart.extensions.core.ScrollableChart;
 import org.eclipse.swtchart.extensions.exceptions.SeriesException;
 
@@ -67,8 +70,14 @@ public class LineChart extends ScrollableChart {
 		addSeriesData(lineSeriesDataList, NO_COMPRESSION);
 	}
 
+	public void addSeriesData(List<ILineSeriesData> lineSeriesDataList, int compressToLength) {
+
+		addSeriesData(lineSeriesDataList, compressToLength, new ModuloReduction());
+	}
+
 	/**
-	 * The data is compressed to the given length.
+	 * The data is compressed to the given length by the given strategy,
+	 * e.g. LargestTriangleThreeBucketsReduction keeps the visual shape.
 	 * If you're unsure which length to set, then use one of the following variables:
 	 * 
 	 * HIGH_COMPRESSION
@@ -78,8 +87,9 @@ public class LineChart extends ScrollableChart {
 	 * 
 	 * @param lineSeriesDataList
 	 * @param compressToLength
+	 * @param seriesReduction
 	 */
-	public void addSeriesData(List<ILineSeriesData> lineSeriesDataList, int compressToLength) {
+	public void addSeriesData(List<ILineSeriesData> lineSeriesDataList, int compressToLength, ISeriesReduction seriesReduction) {
 
 		/*
 		 * Suspend the update when adding new data to improve the performance.
@@ -87,13 +97,18 @@ public class LineChart extends ScrollableChart {
 		if(lineSeriesDataList != null && lineSeriesDataList.size() > 0) {
 			BaseChart baseChart = getBaseChart();
 			baseChart.suspendUpdate(true);
-			for(ILineSeriesData lineSeriesData : lineSeriesDataList) {
+			/*
+			 * Reduce the series in parallel.
+			 */
+			List<ISeriesData> seriesDataList = lineSeriesDataList.stream().map(ILineSeriesData::getSeriesData).collect(Collectors.toList());
+			List<ISeriesData> optimizedSeriesDataList = calculateSeries(seriesDataList, compressToLength, seriesReduction);
+			for(int i = 0; i < lineSeriesDataList.size(); i++) {
 				/*
 				 * Get the series data and apply the settings.
 				 */
 				try {
-					ISeriesData seriesData = lineSeriesData.getSeriesData();
-					ISeriesData optimizedSeriesData = calculateSeries(seriesData, compressToLength);
+					ILineSeriesData lineSeriesData = lineSeriesDataList.get(i);
+					ISeriesData optimizedSeriesData = optimizedSeriesDataList.get(i);
 					ILineSeriesSettings lineSeriesSettings = lineSeriesData.getSettings();
 					lineSeriesSettings.getSeriesSettingsHighlight(); // Initialize
 					ILineSeries<?> lineSeries = (ILineSeries<?>)createSeries(optimizedSeriesData, lineSeriesSettings);
@@ -15,6 +15,7 @@ package org.eclipse.swtchart.extensions.linecharts;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.widgets.Display;
+import org.eclipse.swtchart.ILineSeries.LineCompression;
 import org.eclipse.swtchart.LineStyle;
 import org.eclipse.swtchart.extensions.core.AbstractPointSeriesSettings;
 import org.eclipse.swtchart.extensions.core.ISeriesSettings;
@@ -27,6 +28,7 @@ public class LineSeriesSettings extends AbstractPointSeriesSettings implements I
 	private int lineWidth = 1;
 	private boolean enableStack = false;
 	private boolean enableStep = false;
+	private LineCompression lineCompression = LineCompression.DEFAULT;
 	private LineStyle lineStyle = LineStyle.SOLID;
 	private ILineSeriesSettings seriesSettingsHighlight = null;
 
@@ -102,6 +104,18 @@ public class LineSeriesSettings extends AbstractPointSeriesSettings implements I
 		this.enableStep = enableStep;
 	}
 
+	@Override
+	public LineCompression getLineCompression() {
+
+		return lineCompression;
+	}
+
+	@Override
+	public void setLineCompression(LineCompression lineCompression) {
+
+		this.lineCompression = lineCompression;
+	}
+
 	@Override
 	public LineStyle getLineStyle() {
 
@@ -154,6 +168,7 @@ public class LineSeriesSettings extends AbstractPointSeriesSettings implements I
 			sink.setLineWidth(source.getLineWidth());
 			sink.setEnableStack(source.isEnableStack());
 			sink.setEnableStep(source.isEnableStep());
+			sink.setLineCompression(source.getLineCompression());
 			sink.setLineStyle(source.getLineStyle());
 			success = true;
 		}
@@ -12,13 +12,19 @@
  *******************************************************************************/
 package org.eclipse.swtchart;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.fail;
 
+import java.lang.reflect.Method;
+
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swtchart.ISeries.SeriesType;
+import org.eclipse.swtchart.internal.compress.ICompress;
+import org.eclipse.swtchart.internal.series.Series;
+import org.eclipse.swtchart.internal.series.SeriesSet;
 import org.eclipse.swtchart.util.ChartTestCase;
 import org.junit.Test;
 
@@ -230,4 +236,54 @@ public class SeriesSetTest extends ChartTestCase {
 		assertEquals("series3", seriesArray[2].getId());
 		showChart();
 	}
+
+	/**
+	 * Test for compressing series in parallel.
+	 */
+	@Test
+	public void testCompressInParallel() throws Exception {
+
+		chart.setParallelCompressThreshold(3000);
+		int[][] serialIndexes = compressAllSeries(1);
+		int[][] parallelIndexes = compressAllSeries(4);
+		assertEquals(serialIndexes.length, parallelIndexes.length);
+		for(int i = 0; i < serialIndexes.length; i++) {
+			assertArrayEquals(serialIndexes[i], parallelIndexes[i]);
+		}
+	}
+
+	/**
+	 * Creates the series again and compresses them with the given number of
+	 * threads.
+	 * 
+	 * @param parallelism
+	 *            the number of threads
+	 * @return the compressed indexes of each series
+	 */
+	private int[][] compressAllSeries(int parallelism) throws Exception {
+
+		chart.setCompressParallelism(parallelism);
+		for(ISeries<?> series : seriesSet.getSeries()) {
+			seriesSet.deleteSeries(series.getId());
+		}
+		int size = 1000;
+		for(int i = 0; i < 3; i++) {
+			double[] ySeries = new double[size];
+			for(int j = 0; j < size; j++) {
+				ySeries[j] = Math.sin(j * 0.05 * (i + 1)) + ((j * 7919 + i) % 13) * 0.01;
+			}
+			seriesSet.createSeries(SeriesType.LINE, "series" + i).setYSeries(ySeries);
+		}
+		chart.getAxisSet().adjustRange();
+		((SeriesSet)seriesSet).compressAllSeries();
+		Method getCompressor = Series.class.getDeclaredMethod("getCompressor");
+		getCompressor.setAccessible(true);
+		ISeries<?>[] seriesArray = seriesSet.getSeries();
+		int[][] indexes = new int[seriesArray.length][];
+		for(int i = 0; i < seriesArray.length; i++) {
+			ICompress compressor = (ICompress)getCompressor.invoke(seriesArray[i]);
+			indexes[i] = compressor.getCompressedIndexes();
+		}
+		return indexes;
+	}
 }
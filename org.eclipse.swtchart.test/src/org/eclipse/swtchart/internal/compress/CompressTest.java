@@ -0,0 +1,444 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * 
+ * Contributors:
+ * SWTChart contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.internal.compress;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.eclipse.swtchart.IBarSeries.BarAggregation;
+import org.eclipse.swtchart.model.DoubleArraySeriesModel;
+import org.junit.Test;
+
+/**
+ * Test case for the compressed series of the compressor.
+ */
+public class CompressTest {
+
+	private static final int SIZE = 10000;
+	private final double[] xSeries = new double[SIZE];
+	private final double[] ySeries = new double[SIZE];
+
+	public CompressTest() {
+
+		for(int i = 0; i < SIZE; i++) {
+			xSeries[i] = i;
+			ySeries[i] = Math.sin(i * 0.01);
+		}
+	}
+
+	/**
+	 * Test that the source series are returned before compressing.
+	 */
+	@Test
+	public void testUncompressed() throws Exception {
+
+		Compress compressor = new CompressScatterSeries();
+		compressor.setSeries(new DoubleArraySeriesModel(xSeries, ySeries));
+		assertEquals(SIZE, compressor.getCompressedSize());
+		assertArrayEquals(xSeries, compressor.getCompressedXSeries(), 0);
+		assertArrayEquals(ySeries, compressor.getCompressedYSeries(), 0);
+		assertEquals(SIZE - 1, compressor.getCompressedIndexes()[SIZE - 1]);
+		compressor.setXSeries(new double[]{1, 2, 3});
+		compressor.setYSeries(new double[]{4, 5, 6});
+		assertEquals(3, compressor.getCompressedSize());
+		assertArrayEquals(new double[]{4, 5, 6}, compressor.getCompressedYSeries(), 0);
+	}
+
+	/**
+	 * Test that the arrays are reused by the compressions.
+	 */
+	@Test
+	public void testBuffers() throws Exception {
+
+		Compress compressor = new CompressLineSeries();
+		compressor.setSeries(new DoubleArraySeriesModel(xSeries, ySeries));
+		compressor.compress(createConfig(0, SIZE, 1000));
+		int size = compressor.getCompressedSize();
+		double[] xBuffer = compressor.getCompressedXBuffer();
+		assertTrue(size > 0 && size <= xBuffer.length);
+		assertArrayEquals(Arrays.copyOf(xBuffer, size), compressor.getCompressedXSeries(), 0);
+		compressor.compress(createConfig(100, 500, 100));
+		assertTrue(compressor.getCompressedSize() < size);
+		assertSame(xBuffer, compressor.getCompressedXBuffer());
+		// the arrays grow for more points
+		compressor.compress(createConfig(0, SIZE, 100000));
+		assertTrue(compressor.getCompressedSize() > xBuffer.length);
+		int[] indexes = compressor.getCompressedIndexes();
+		for(int i = 0; i < indexes.length; i++) {
+			assertEquals(xSeries[indexes[i]], compressor.getCompressedXBuffer()[i], 0);
+			assertEquals(ySeries[indexes[i]], compressor.getCompressedYBuffer()[i], 0);
+		}
+	}
+
+	/**
+	 * Test that the min/max compression keeps the peaks and at most four points per pixel column.
+	 */
+	@Test
+	public void testMinMax() throws Exception {
+
+		double[] spikes = Arrays.copyOf(ySeries, SIZE);
+		spikes[5003] = 10;
+		spikes[5004] = -10;
+		DoubleArraySeriesModel model = new DoubleArraySeriesModel(xSeries, spikes);
+		for(boolean pyramid : new boolean[]{false, true}) {
+			Compress compressor = new CompressMinMaxLineSeries();
+			compressor.setSeries(model);
+			if(pyramid) {
+				compressor.setLevelOfDetail(new LevelOfDetail(model));
+			}
+			compressor.compress(createConfig(1000, 9000, 100));
+			int size = compressor.getCompressedSize();
+			assertTrue(size <= 4 * (100 + 3));
+			int[] indexes = compressor.getCompressedIndexes();
+			assertTrue(Arrays.binarySearch(indexes, 5003) >= 0);
+			assertTrue(Arrays.binarySearch(indexes, 5004) >= 0);
+			// the points next to the range and the ends of the columns
+			assertEquals(999, indexes[0]);
+			assertEquals(9001, indexes[size - 1]);
+		}
+	}
+
+	/**
+	 * Test that the chunks compressed in parallel contain the points of a serial compression.
+	 */
+	@Test
+	public void testChunks() throws Exception {
+
+		int size = 4 * Compress.MIN_CHUNK_SIZE;
+		double[] x = new double[size];
+		double[] y = new double[size];
+		for(int i = 0; i < size; i++) {
+			x[i] = i;
+			y[i] = (i / 100000) % 3 == 1 ? Double.NaN : Math.sin(i * 0.0001);
+		}
+		DoubleArraySeriesModel model = new DoubleArraySeriesModel(x, y);
+		CompressConfig config = createConfig(1000.5, size - 1000.5, 1000);
+		ForkJoinPool serialPool = new ForkJoinPool(1);
+		ForkJoinPool parallelPool = new ForkJoinPool(4);
+		try {
+			// the line series may have one more point at the start of each chunk
+			Compress serial = new CompressLineSeries();
+			Compress chunked = new CompressLineSeries();
+			compress(serialPool, serial, model, config);
+			compress(parallelPool, chunked, model, config);
+			int[] serialIndexes = serial.getCompressedIndexes();
+			int[] chunkedIndexes = chunked.getCompressedIndexes();
+			assertTrue(chunkedIndexes.length <= serialIndexes.length + 4);
+			for(int index : serialIndexes) {
+				assertTrue(Arrays.binarySearch(chunkedIndexes, index) >= 0);
+			}
+			assertEquals(countGaps(serial), countGaps(chunked));
+			// the scatter series are the same
+			for(boolean lineVisible : new boolean[]{false, true}) {
+				CompressScatterSeries serialScatter = new CompressScatterSeries();
+				CompressScatterSeries chunkedScatter = new CompressScatterSeries();
+				serialScatter.setLineVisible(lineVisible);
+				chunkedScatter.setLineVisible(lineVisible);
+				compress(serialPool, serialScatter, model, config);
+				compress(parallelPool, chunkedScatter, model, config);
+				assertArrayEquals(serialScatter.getCompressedIndexes(), chunkedScatter.getCompressedIndexes());
+			}
+		} finally {
+			serialPool.shutdown();
+			parallelPool.shutdown();
+		}
+	}
+
+	/**
+	 * Test that the compressed series of a previous range are restored from the cache.
+	 */
+	@Test
+	public void testCache() throws Exception {
+
+		Compress compressor = new CompressLineSeries();
+		compressor.setSeries(new DoubleArraySeriesModel(xSeries, ySeries));
+		CompressConfig zoomedOut = createConfig(0, SIZE, 1000);
+		CompressConfig zoomedIn = createConfig(100, 500, 1000);
+		compressor.compress(zoomedOut);
+		int[] indexes = compressor.getCompressedIndexes();
+		compressor.compress(zoomedIn);
+		assertEquals(2, compressor.getCache().getEntryCount());
+		// a fraction of a pixel off
+		CompressConfig config = createConfig(0.001, SIZE, 1000);
+		assertEquals(zoomedOut, config);
+		assertEquals(zoomedOut.hashCode(), config.hashCode());
+		assertTrue(compressor.compress(config));
+		assertArrayEquals(indexes, compressor.getCompressedIndexes());
+		assertEquals(2, compressor.getCache().getEntryCount());
+		// the least recently used entry is evicted
+		long size = compressor.getCache().getSize();
+		compressor.setCacheSize(size - 1);
+		assertEquals(1, compressor.getCache().getEntryCount());
+		assertTrue(compressor.getCache().getSize() < size);
+		compressor.setSeries(new DoubleArraySeriesModel(xSeries, ySeries));
+		assertEquals(0, compressor.getCache().getEntryCount());
+	}
+
+	/**
+	 * Test that the hit counts of a scatter series belong to the current range after returning to a previous range.
+	 */
+	@Test
+	public void testCacheHitCount() throws Exception {
+
+		CompressScatterSeries compressor = new CompressScatterSeries();
+		compressor.setSeries(new DoubleArraySeriesModel(xSeries, ySeries));
+		compressor.setHitCounted(true);
+		CompressConfig zoomedOut = createConfig(0, SIZE, 100);
+		CompressConfig zoomedIn = createConfig(100, 500, 100);
+		compressor.compress(zoomedOut);
+		int hitCount = compressor.getHitCount(50, Math.sin(0.5));
+		int maxHitCount = compressor.getMaxHitCount();
+		compressor.compress(zoomedIn);
+		assertTrue(compressor.getMaxHitCount() < maxHitCount);
+		compressor.compress(zoomedOut);
+		assertEquals(hitCount, compressor.getHitCount(50, Math.sin(0.5)));
+		assertEquals(maxHitCount, compressor.getMaxHitCount());
+	}
+
+	/**
+	 * Test that the appended points are added to the compressed series as by a compression of all points.
+	 */
+	@Test
+	public void testAppend() throws Exception {
+
+		double[] gaps = Arrays.copyOf(ySeries, SIZE);
+		Arrays.fill(gaps, 3000, 3100, Double.NaN);
+		Arrays.fill(gaps, 6000, 6100, Double.NaN);
+		DoubleArraySeriesModel model = new DoubleArraySeriesModel(xSeries, gaps);
+		CompressConfig config = createConfig(999.5, 8000.5, 500);
+		// the line series, and the scatter series with and without line
+		for(int variant = 0; variant < 3; variant++) {
+			Compress appended = variant == 0 ? new CompressLineSeries() : new CompressScatterSeries();
+			Compress all = variant == 0 ? new CompressLineSeries() : new CompressScatterSeries();
+			if(variant > 0) {
+				((CompressScatterSeries)appended).setLineVisible(variant == 1);
+				((CompressScatterSeries)all).setLineVisible(variant == 1);
+			}
+			int from = 0;
+			for(int to : new int[]{2000, 3050, 5000, 9000, SIZE}) {
+				DoubleArraySeriesModel part = new DoubleArraySeriesModel(Arrays.copyOf(xSeries, to), Arrays.copyOf(gaps, to));
+				if(from == 0) {
+					appended.setSeries(part);
+				} else {
+					appended.appendSeries(part, from);
+				}
+				appended.compress(config);
+				from = to;
+			}
+			all.setSeries(model);
+			all.compress(config);
+			assertArrayEquals(all.getCompressedIndexes(), appended.getCompressedIndexes());
+		}
+	}
+
+	/**
+	 * Test that a point of a dense scatter series is only added if its symbol covers pixels which are not covered yet.
+	 */
+	@Test
+	public void testSymbolFootprint() throws Exception {
+
+		int size = 200000;
+		Random random = new Random(42);
+		double[] x = new double[size];
+		double[] y = new double[size];
+		for(int i = 0; i < size; i++) {
+			x[i] = random.nextGaussian() * SIZE / 8 + SIZE / 2;
+			y[i] = random.nextGaussian() * 0.5;
+		}
+		DoubleArraySeriesModel model = new DoubleArraySeriesModel(x, y);
+		CompressConfig config = createConfig(0, SIZE, 200);
+		CompressScatterSeries pixels = new CompressScatterSeries();
+		pixels.setSeries(model);
+		pixels.compress(config);
+		CompressScatterSeries symbols = new CompressScatterSeries();
+		symbols.setSeries(model);
+		symbols.setSymbolFootprint(3, 2);
+		symbols.setHitCounted(true);
+		symbols.compress(config);
+		assertTrue(symbols.getCompressedSize() < pixels.getCompressedSize() / 4);
+		// the symbols of the added points cover the symbols of all points
+		OccupancyBitmap covered = new OccupancyBitmap(200, 300, false);
+		int[] indexes = symbols.getCompressedIndexes();
+		for(int index : indexes) {
+			covered.cover(symbols.getXGridIndex(x[index]), symbols.getYGridIndex(y[index]), 2, 2);
+		}
+		int hits = 0;
+		for(int i = 0; i < size; i++) {
+			if(x[i] >= 0 && x[i] <= SIZE && y[i] >= -1.5 && y[i] <= 1.5) {
+				if(Arrays.binarySearch(indexes, i) < 0) {
+					assertFalse(covered.cover(symbols.getXGridIndex(x[i]), symbols.getYGridIndex(y[i]), 3, 0));
+				}
+				hits++;
+			}
+		}
+		int counted = 0;
+		for(int column = 0; column < 200; column++) {
+			for(int row = 0; row < 300; row++) {
+				counted += symbols.getHitCount(column * (double)SIZE / 200 + 1, -1.5 + (row + 0.5) / 100);
+			}
+		}
+		assertEquals(hits, counted);
+		assertTrue(symbols.getMaxHitCount() > 1);
+	}
+
+	/**
+	 * Test that the bars in a pixel column are aggregated into one bar.
+	 */
+	@Test
+	public void testBarAggregation() throws Exception {
+
+		DoubleArraySeriesModel model = new DoubleArraySeriesModel(xSeries, ySeries);
+		CompressConfig config = createConfig(0, SIZE, 100);
+		for(BarAggregation aggregation : BarAggregation.values()) {
+			for(boolean pyramid : new boolean[]{false, true}) {
+				CompressBarSeries compressor = new CompressBarSeries();
+				compressor.setSeries(model);
+				compressor.setAggregation(aggregation);
+				if(pyramid) {
+					compressor.setLevelOfDetail(new LevelOfDetail(model));
+				}
+				compressor.compress(config);
+				int size = compressor.getCompressedSize();
+				assertTrue(size <= 101);
+				double[] y = compressor.getCompressedYSeries();
+				int[] indexes = compressor.getCompressedIndexes();
+				for(int i = 0; i < size; i++) {
+					int column = compressor.getXGridIndex(xSeries[indexes[i]]);
+					double min = Double.POSITIVE_INFINITY;
+					double max = Double.NEGATIVE_INFINITY;
+					double sum = 0;
+					for(int j = 0; j < SIZE; j++) {
+						if(compressor.getXGridIndex(xSeries[j]) == column) {
+							min = Math.min(min, ySeries[j]);
+							max = Math.max(max, ySeries[j]);
+							sum += ySeries[j];
+						}
+					}
+					if(aggregation == BarAggregation.MIN) {
+						assertEquals(min, y[i], 0);
+						assertEquals(min, ySeries[indexes[i]], 0);
+					} else {
+						assertEquals(aggregation == BarAggregation.SUM ? sum : max, y[i], 1e-9);
+						assertEquals(max, ySeries[indexes[i]], 0);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Test that the log10 of the source coordinates is kept for log scale, also if points are appended.
+	 */
+	@Test
+	public void testLogScale() throws Exception {
+
+		DoubleArraySeriesModel model = new DoubleArraySeriesModel(xSeries, ySeries);
+		CompressConfig logConfig = createConfig(10, 9000, 500);
+		logConfig.setXLogScale(true);
+		CompressConfig linearConfig = createConfig(10, 9000, 500);
+		// the line series, the scatter series without line and the bar series
+		for(int variant = 0; variant < 3; variant++) {
+			Compress appended = variant == 0 ? new CompressLineSeries() : variant == 1 ? new CompressScatterSeries() : new CompressBarSeries();
+			Compress all = variant == 0 ? new CompressLineSeries() : variant == 1 ? new CompressScatterSeries() : new CompressBarSeries();
+			appended.setCacheSize(0);
+			appended.setSeries(new DoubleArraySeriesModel(Arrays.copyOf(xSeries, 4000), Arrays.copyOf(ySeries, 4000)));
+			appended.compress(logConfig);
+			appended.appendSeries(model, 4000);
+			appended.compress(logConfig);
+			all.setSeries(model);
+			all.compress(logConfig);
+			int[] indexes = all.getCompressedIndexes();
+			// the geometric mean of the range is in the middle
+			assertEquals(250, all.getXGridIndex(300), 1);
+			assertArrayEquals(indexes, appended.getCompressedIndexes());
+			// the log series are released with linear scale and computed again with log scale
+			all.compress(linearConfig);
+			all.setCacheSize(0);
+			all.compress(logConfig);
+			assertArrayEquals(indexes, all.getCompressedIndexes());
+			for(int i = 0; i < SIZE; i++) {
+				assertEquals(all.getXGridIndex(xSeries[i]), all.getXGridIndexAt(i));
+				assertEquals(all.getYGridIndex(ySeries[i]), all.getYGridIndexAt(i));
+			}
+		}
+	}
+
+	/**
+	 * Test that a copy compresses the series in another thread and can replace the compressor, which keeps its
+	 * compressed series meanwhile.
+	 */
+	@Test
+	public void testCopyToCompress() throws Exception {
+
+		DoubleArraySeriesModel model = new DoubleArraySeriesModel(xSeries, ySeries);
+		CompressConfig config = createConfig(0, 5000, 300);
+		CompressConfig zoomedConfig = createConfig(1000, 2000, 300);
+		Compress compressor = new CompressLineSeries();
+		compressor.setSeries(model);
+		assertNull(compressor.copyToCompress(config));
+		compressor.compress(config);
+		assertNull(compressor.copyToCompress(config));
+		int[] indexes = compressor.getCompressedIndexes();
+		Compress copy = compressor.copyToCompress(zoomedConfig);
+		ForkJoinPool.commonPool().submit(() -> copy.compress(zoomedConfig)).get();
+		assertArrayEquals(indexes, compressor.getCompressedIndexes());
+		Compress expected = new CompressLineSeries();
+		expected.setSeries(model);
+		expected.compress(zoomedConfig);
+		assertArrayEquals(expected.getCompressedIndexes(), copy.getCompressedIndexes());
+		assertTrue(compressor.handOver(copy));
+		assertSame(compressor.getCache(), copy.getCache());
+		assertEquals(2, copy.getCache().getEntryCount());
+		// the cached configuration is compressed by the compressor itself
+		assertNull(copy.copyToCompress(config));
+		// a copy is out of date if the source series change
+		Compress outdated = copy.copyToCompress(createConfig(0, 3000, 300));
+		outdated.compress(createConfig(0, 3000, 300));
+		copy.setSeries(model);
+		assertFalse(copy.handOver(outdated));
+	}
+
+	private void compress(ForkJoinPool pool, Compress compressor, DoubleArraySeriesModel model, CompressConfig config) throws Exception {
+
+		compressor.setSeries(model);
+		pool.submit(() -> compressor.compress(config)).get();
+	}
+
+	private int countGaps(Compress compressor) {
+
+		int gaps = 0;
+		for(double y : compressor.getCompressedYSeries()) {
+			if(Double.isNaN(y)) {
+				gaps++;
+			}
+		}
+		return gaps;
+	}
+
+	private CompressConfig createConfig(double lower, double upper, int width) {
+
+		CompressConfig config = new CompressConfig();
+		config.setSizeInPixel(width, 300);
+		config.setXRange(lower, upper);
+		config.setYRange(-1.5, 1.5);
+		return config;
+	}
+}
@@ -0,0 +1,170 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * 
+ * Contributors:
+ * SWTChart contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.internal.compress;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.eclipse.swtchart.model.DoubleArraySeriesModel;
+import org.junit.Test;
+
+/**
+ * Test case for the level of detail pyramid.
+ */
+public class LevelOfDetailTest {
+
+	private static final int SIZE = 100000;
+	private static final int WIDTH = 500;
+	private static final int HEIGHT = 300;
+	private final DoubleArraySeriesModel model;
+
+	public LevelOfDetailTest() {
+
+		Random random = new Random(42);
+		double[] xSeries = new double[SIZE];
+		double[] ySeries = new double[SIZE];
+		for(int i = 0; i < SIZE; i++) {
+			xSeries[i] = i;
+			ySeries[i] = Math.sin(i * 0.0005) + random.nextGaussian() * 0.1;
+		}
+		model = new DoubleArraySeriesModel(xSeries, ySeries);
+	}
+
+	/**
+	 * Test for the buckets of the levels.
+	 */
+	@Test
+	public void testLevels() throws Exception {
+
+		LevelOfDetail levelOfDetail = new LevelOfDetail(model);
+		assertEquals(SIZE, levelOfDetail.size());
+		assertEquals(-1, levelOfDetail.getLevel(LevelOfDetail.BASE_BUCKET_SIZE - 1));
+		assertEquals(1, levelOfDetail.getLevel(LevelOfDetail.BASE_BUCKET_SIZE * LevelOfDetail.FACTOR));
+		for(int level = 0; level < levelOfDetail.getLevelCount(); level++) {
+			int bucketSize = levelOfDetail.getBucketSize(level);
+			for(int bucket = 0; bucket * bucketSize < SIZE; bucket += 7) {
+				int from = bucket * bucketSize;
+				int to = Math.min(SIZE, from + bucketSize);
+				double[] minMax = model.getMinMaxY(from, to);
+				assertEquals(minMax[0], model.y(levelOfDetail.getMinIndex(level, bucket)), 0);
+				assertEquals(minMax[1], model.y(levelOfDetail.getMaxIndex(level, bucket)), 0);
+			}
+		}
+	}
+
+	/**
+	 * Test that the bars are the same with and without pyramid.
+	 */
+	@Test
+	public void testBarSeries() throws Exception {
+
+		CompressConfig config = createConfig(1234.5, 87654.3);
+		Compress compressor = new CompressBarSeries();
+		compressor.setSeries(model);
+		compressor.compress(config);
+		Compress lodCompressor = new CompressBarSeries();
+		lodCompressor.setSeries(model);
+		lodCompressor.setLevelOfDetail(new LevelOfDetail(model));
+		lodCompressor.compress(config);
+		assertArrayEquals(compressor.getCompressedXSeries(), lodCompressor.getCompressedXSeries(), 0);
+		assertArrayEquals(compressor.getCompressedYSeries(), lodCompressor.getCompressedYSeries(), 0);
+		assertArrayEquals(compressor.getCompressedIndexes(), lodCompressor.getCompressedIndexes());
+	}
+
+	/**
+	 * Test that the lines cover the Y range of the points in each pixel column.
+	 */
+	@Test
+	public void testLineSeries() throws Exception {
+
+		double lower = 1234.5;
+		double upper = 87654.3;
+		CompressConfig config = createConfig(lower, upper);
+		Compress compressor = new CompressLineSeries();
+		compressor.setSeries(model);
+		compressor.setLevelOfDetail(new LevelOfDetail(model));
+		compressor.compress(config);
+		double[] xSeries = compressor.getCompressedXSeries();
+		double[] ySeries = compressor.getCompressedYSeries();
+		// four points per pixel column and the columns of the points next to the range
+		assertTrue(xSeries.length <= 4 * (WIDTH + 3));
+		double[] min = new double[WIDTH + 1];
+		double[] max = new double[WIDTH + 1];
+		Arrays.fill(min, Double.POSITIVE_INFINITY);
+		Arrays.fill(max, Double.NEGATIVE_INFINITY);
+		for(int i = 0; i < xSeries.length; i++) {
+			int column = compressor.getXGridIndex(xSeries[i]);
+			if(column >= 0 && column <= WIDTH) {
+				min[column] = Math.min(min[column], ySeries[i]);
+				max[column] = Math.max(max[column], ySeries[i]);
+			}
+		}
+		for(int i = (int)Math.ceil(lower); i <= upper; i++) {
+			int column = compressor.getXGridIndex(i);
+			assertTrue(model.y(i) >= min[column]);
+			assertTrue(model.y(i) <= max[column]);
+		}
+
+	}
+
+	/**
+	 * Test that the lines are broken at gaps, with and without pyramid.
+	 */
+	@Test
+	public void testGaps() throws Exception {
+
+		double[] xSeries = new double[SIZE];
+		double[] ySeries = new double[SIZE];
+		for(int i = 0; i < SIZE; i++) {
+			xSeries[i] = i;
+			ySeries[i] = (i / 3000) % 4 == 1 ? Double.NaN : model.y(i);
+		}
+		DoubleArraySeriesModel gapModel = new DoubleArraySeriesModel(xSeries, ySeries);
+		CompressConfig config = createConfig(1234.5, 87654.3);
+		for(boolean pyramid : new boolean[]{false, true}) {
+			Compress compressor = new CompressLineSeries();
+			compressor.setSeries(gapModel);
+			if(pyramid) {
+				compressor.setLevelOfDetail(new LevelOfDetail(gapModel));
+			}
+			compressor.compress(config);
+			double[] compressedYSeries = compressor.getCompressedYSeries();
+			int[] indexes = compressor.getCompressedIndexes();
+			int gaps = 0;
+			for(int i = 0; i < indexes.length; i++) {
+				if(Double.isNaN(compressedYSeries[i])) {
+					gaps++;
+				} else if(i > 0 && !Double.isNaN(compressedYSeries[i - 1])) {
+					for(int j = indexes[i - 1]; j <= indexes[i]; j++) {
+						assertTrue(gapModel.isValid(j));
+					}
+				}
+			}
+			// the gaps from 3000 to 5999, 15000 to 17999 and so on up to the one at the end of the range
+			assertEquals(8, gaps);
+		}
+	}
+
+	private CompressConfig createConfig(double lower, double upper) {
+
+		CompressConfig config = new CompressConfig();
+		config.setSizeInPixel(WIDTH, HEIGHT);
+		config.setXRange(lower, upper);
+		config.setYRange(-1.5, 1.5);
+		return config;
+	}
+}
@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * 
+ * Contributors:
+ * SWTChart contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.model;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Test case for the chunked series model.
+ */
+public class ChunkedSeriesModelTest {
+
+	/**
+	 * Test that appending across chunks keeps the previous versions.
+	 */
+	@Test
+	public void testAppend() throws Exception {
+
+		int size = ChunkedSeriesModel.CHUNK_SIZE * 2 + 100;
+		ChunkedSeriesModel model = ChunkedSeriesModel.EMPTY;
+		ChunkedSeriesModel[] versions = new ChunkedSeriesModel[size / 1000 + 1];
+		for(int i = 0; i < size; i += 1000) {
+			versions[i / 1000] = model;
+			double[] xSeries = new double[Math.min(1000, size - i)];
+			double[] ySeries = new double[xSeries.length];
+			for(int j = 0; j < xSeries.length; j++) {
+				xSeries[j] = i + j;
+				ySeries[j] = -(i + j);
+			}
+			model = model.append(xSeries, ySeries);
+		}
+		assertEquals(size, model.size());
+		assertTrue(model.isXMonotoneIncreasing());
+		assertEquals(0, model.getMinX().doubleValue(), 0);
+		assertEquals(size - 1, model.getMaxX().doubleValue(), 0);
+		assertEquals(-(size - 1), model.getMinY().doubleValue(), 0);
+		for(int i = 0; i < size; i++) {
+			assertEquals(i, model.x(i), 0);
+			assertEquals(-i, model.y(i), 0);
+		}
+		for(int i = 0; i < versions.length; i++) {
+			assertEquals(i * 1000, versions[i].size());
+			if(i > 0) {
+				assertEquals(i * 1000 - 1, versions[i].x(i * 1000 - 1), 0);
+			}
+		}
+		double[] destination = new double[3];
+		model.copyX(ChunkedSeriesModel.CHUNK_SIZE - 1, destination, 0, 3);
+		int first = ChunkedSeriesModel.CHUNK_SIZE - 1;
+		assertArrayEquals(new double[]{first, first + 1, first + 2}, destination, 0);
+		assertArrayEquals(new double[]{-(size - 1), -first}, model.getMinMaxY(first, size), 0);
+		assertFalse(model.append(new double[]{0}, new double[]{0}).isXMonotoneIncreasing());
+		for(ChunkedSeriesModel version : versions) {
+			assertTrue(model.startsWith(version));
+		}
+		assertTrue(model.startsWith(model));
+		assertFalse(versions[1].startsWith(model));
+		assertFalse(ChunkedSeriesModel.EMPTY.append(new double[]{1}, new double[]{0}).startsWith(versions[1]));
+	}
+
+	/**
+	 * Test that readers see consistent versions while a thread appends.
+	 */
+	@Test
+	public void testConcurrentWriter() throws Exception {
+
+		ChunkedSeriesWriter writer = new ChunkedSeriesWriter();
+		int batches = 500;
+		Thread producer = new Thread(() -> {
+			for(int i = 0; i < batches; i++) {
+				double[] xSeries = new double[37];
+				for(int j = 0; j < xSeries.length; j++) {
+					xSeries[j] = i * xSeries.length + j;
+				}
+				writer.append(xSeries, xSeries);
+			}
+		});
+		producer.start();
+		while(producer.isAlive()) {
+			ChunkedSeriesModel model = writer.getModel();
+			int size = model.size();
+			if(size > 0) {
+				assertEquals(size - 1, model.x(size - 1), 0);
+				assertEquals(size - 1, model.getMaxY().doubleValue(), 0);
+			}
+		}
+		producer.join();
+		assertEquals(batches * 37, writer.getModel().size());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testLengthMismatch() throws Exception {
+
+		ChunkedSeriesModel.EMPTY.append(new double[2], new double[1]);
+	}
+}
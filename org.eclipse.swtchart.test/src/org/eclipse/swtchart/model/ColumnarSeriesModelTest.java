@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * 
+ * Contributors:
+ * SWTChart contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.model;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Test case for the columnar series model.
+ */
+public class ColumnarSeriesModelTest {
+
+	private static final double[] xSeries = {1, 2, 2, 4, 5};
+
+	/**
+	 * Test for the columns sharing one X column.
+	 */
+	@Test
+	public void testColumns() throws Exception {
+
+		ColumnarSeriesData data = new ColumnarSeriesData(xSeries);
+		int first = data.addColumn(new double[]{3, 1, 4, 1, 5});
+		int second = data.addColumn(new double[]{-2, 7, 1, 8, 2});
+		assertEquals(2, data.getColumnCount());
+		ColumnarSeriesModel model1 = data.getSeriesModel(first);
+		ColumnarSeriesModel model2 = data.getSeriesModel(second);
+		assertSame(data, model2.getData());
+		assertEquals(5, model2.size());
+		assertEquals(4, model2.x(3), 0);
+		assertEquals(8, model2.y(3), 0);
+		assertEquals(5, model1.getMaxY().doubleValue(), 0);
+		assertEquals(-2, model2.getMinY().doubleValue(), 0);
+		assertEquals(5, model2.getMaxX().doubleValue(), 0);
+		assertTrue(model1.isXMonotoneIncreasing());
+		double[] destination = new double[2];
+		model2.copyY(1, destination, 0, 2);
+		assertArrayEquals(new double[]{7, 1}, destination, 0);
+	}
+
+	/**
+	 * Test for the search of the visible range.
+	 */
+	@Test
+	public void testFirstIndexOfX() throws Exception {
+
+		ColumnarSeriesData data = new ColumnarSeriesData(xSeries);
+		ColumnarSeriesModel model = data.getSeriesModel(data.addColumn(new double[5]));
+		assertEquals(0, model.firstIndexOfX(0));
+		assertEquals(1, model.firstIndexOfX(2));
+		assertEquals(3, model.firstIndexOfX(2.5));
+		assertEquals(5, model.firstIndexOfX(6));
+		assertEquals(new DoubleArraySeriesModel(xSeries, new double[5]).firstIndexOfX(2), model.firstIndexOfX(2));
+	}
+
+	/**
+	 * Test for a column whose length does not match.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testLengthMismatch() throws Exception {
+
+		new ColumnarSeriesData(xSeries).addColumn(new double[2]);
+	}
+}
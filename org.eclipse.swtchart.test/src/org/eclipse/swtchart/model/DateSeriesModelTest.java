@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * 
+ * Contributors:
+ * SWTChart contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.model;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.Date;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Test case for the date series models.
+ */
+public class DateSeriesModelTest {
+
+	private static final long START = 1577836800000L;
+	private static final long INTERVAL = 1000;
+	private static final double[] ySeries = {0.5, -0.4, 0.3, 0.2, 0.1};
+
+	/**
+	 * Test for the model based on epoch milliseconds.
+	 */
+	@Test
+	public void testEpochMillis() throws Exception {
+
+		long[] millis = new long[ySeries.length];
+		for(int i = 0; i < millis.length; i++) {
+			millis[i] = START + i * INTERVAL;
+		}
+		DateSeriesModel model = new EpochMillisSeriesModel(millis, ySeries);
+		assertDates(model);
+	}
+
+	/**
+	 * Test for the model of regularly sampled data.
+	 */
+	@Test
+	public void testRegular() throws Exception {
+
+		RegularDateSeriesModel model = new RegularDateSeriesModel(START, INTERVAL, ySeries);
+		assertDates(model);
+		assertArrayEquals(new int[]{1, 3}, model.getXIndexRange(START + 500, START + 2000));
+		assertArrayEquals(new int[]{0, 5}, model.getXIndexRange(0, Double.POSITIVE_INFINITY));
+		assertArrayEquals(new int[]{5, 5}, model.getXIndexRange(START + 4001, START + 9000));
+		assertNull(model.getX(5));
+	}
+
+	/**
+	 * Test for the model based on dates.
+	 */
+	@Test
+	public void testDateArray() throws Exception {
+
+		Date[] dates = new Date[ySeries.length];
+		for(int i = 0; i < dates.length; i++) {
+			dates[i] = new Date(START + i * INTERVAL);
+		}
+		assertDates(new DateArraySeriesModel(dates, ySeries));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidInterval() throws Exception {
+
+		new RegularDateSeriesModel(START, 0, ySeries);
+	}
+
+	private void assertDates(DateSeriesModel model) {
+
+		assertEquals(ySeries.length, model.size());
+		assertEquals(START, model.getMinX().longValue());
+		assertEquals(START + 4 * INTERVAL, model.getMaxX().longValue());
+		List<Date> dates = model.getDates();
+		assertEquals(ySeries.length, dates.size());
+		for(int i = 0; i < ySeries.length; i++) {
+			assertEquals(START + i * INTERVAL, model.millisAt(i));
+			assertEquals(START + i * INTERVAL, model.x(i), 0);
+			assertEquals(new Date(START + i * INTERVAL), dates.get(i));
+			assertEquals(ySeries[i], model.y(i), 0);
+		}
+		double[] xSeries = new double[2];
+		model.copyX(3, xSeries, 0, 2);
+		assertArrayEquals(new double[]{START + 3 * INTERVAL, START + 4 * INTERVAL}, xSeries, 0);
+	}
+}
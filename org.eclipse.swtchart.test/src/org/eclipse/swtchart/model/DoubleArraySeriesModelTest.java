@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * 
+ * Contributors:
+ * SWTChart contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.model;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.BitSet;
+
+import org.junit.Test;
+
+/**
+ * Test case for the double array series model.
+ */
+public class DoubleArraySeriesModelTest {
+
+	private static final double[] xSeries = {1, 2, 3, 4, 5};
+	private static final double[] ySeries = {0.5, -0.4, 0.3, 0.2, 0.1};
+
+	/**
+	 * Test for the primitive accessors.
+	 */
+	@Test
+	public void testPrimitiveAccess() throws Exception {
+
+		DoubleIndexedSeriesModel model = new DoubleArraySeriesModel(xSeries, ySeries);
+		assertEquals(5, model.size());
+		for(int i = 0; i < xSeries.length; i++) {
+			assertEquals(xSeries[i], model.x(i), 0);
+			assertEquals(ySeries[i], model.y(i), 0);
+			assertEquals(xSeries[i], model.getX(model.itemAt(i)).doubleValue(), 0);
+			assertEquals(ySeries[i], model.getY(model.itemAt(i)).doubleValue(), 0);
+		}
+		assertNull(model.getX(5));
+		assertNull(model.getY(-1));
+		assertEquals(-0.4, model.getMinY().doubleValue(), 0);
+		assertEquals(0.5, model.getMaxY().doubleValue(), 0);
+	}
+
+	/**
+	 * Test for the bulk copy.
+	 */
+	@Test
+	public void testCopy() throws Exception {
+
+		DoubleIndexedSeriesModel model = new DoubleArraySeriesModel(xSeries, ySeries);
+		double[] destination = new double[4];
+		model.copyX(1, destination, 1, 3);
+		assertArrayEquals(new double[]{0, 2, 3, 4}, destination, 0);
+		model.copyY(0, destination, 0, 2);
+		assertArrayEquals(new double[]{0.5, -0.4, 3, 4}, destination, 0);
+	}
+
+	/**
+	 * Test for the visible index range.
+	 */
+	@Test
+	public void testXIndexRange() throws Exception {
+
+		DoubleIndexedSeriesModel model = new DoubleArraySeriesModel(xSeries, ySeries);
+		assertArrayEquals(new int[]{1, 3}, model.getXIndexRange(1.5, 3));
+		assertArrayEquals(new int[]{0, 5}, model.getXIndexRange(0, 10));
+		assertArrayEquals(new int[]{5, 5}, model.getXIndexRange(6, 7));
+		assertEquals(-1, model.lastIndexOfX(0.5));
+		// not sorted, all indexes are returned
+		DoubleIndexedSeriesModel unsorted = new DoubleArraySeriesModel(new double[]{3, 1, 2}, new double[3]);
+		assertArrayEquals(new int[]{0, 3}, unsorted.getXIndexRange(1.5, 2.5));
+	}
+
+	/**
+	 * Test for the gaps of a validity mask and of NaN values.
+	 */
+	@Test
+	public void testGaps() throws Exception {
+
+		BitSet validity = new BitSet();
+		validity.set(1, 5);
+		validity.clear(2);
+		DoubleIndexedSeriesModel model = new DoubleArraySeriesModel(xSeries, ySeries, validity);
+		assertFalse(model.isValid(0));
+		assertTrue(model.isValid(1));
+		assertFalse(model.isValid(2));
+		assertTrue(Double.isNaN(model.y(0)));
+		assertTrue(Double.isNaN(model.getY(2).doubleValue()));
+		assertEquals(-0.4, model.getMinY().doubleValue(), 0);
+		assertEquals(0.2, model.getMaxY().doubleValue(), 0);
+		assertArrayEquals(new double[]{0.1, 0.2}, model.getMinMaxY(2, 5), 0);
+		double[] destination = new double[4];
+		model.copyY(0, destination, 0, 4);
+		assertArrayEquals(new double[]{Double.NaN, -0.4, Double.NaN, 0.2}, destination, 0);
+		// gaps by NaN values, also at the first index
+		DoubleIndexedSeriesModel nanModel = new DoubleArraySeriesModel(xSeries, new double[]{Double.NaN, 1, Double.NaN, -1, 0});
+		assertFalse(nanModel.isValid(2));
+		assertEquals(-1, nanModel.getMinY().doubleValue(), 0);
+		assertEquals(1, nanModel.getMaxY().doubleValue(), 0);
+	}
+}
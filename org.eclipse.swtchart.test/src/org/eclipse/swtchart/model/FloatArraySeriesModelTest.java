@@ -0,0 +1,46 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * 
+ * Contributors:
+ * SWTChart contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.model;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import org.junit.Test;
+
+/**
+ * Test case for the float array series model.
+ */
+public class FloatArraySeriesModelTest {
+
+	private static final float[] xSeries = {1, 2, 3, 2.5f};
+	private static final float[] ySeries = {0.5f, -0.25f, 0.75f, 0.125f};
+
+	/**
+	 * Test for the widened accessors and statistics.
+	 */
+	@Test
+	public void testAccess() throws Exception {
+
+		FloatArraySeriesModel model = new FloatArraySeriesModel(xSeries, ySeries);
+		assertEquals(4, model.size());
+		assertEquals(2.5, model.x(3), 0);
+		assertEquals(-0.25, model.getY(1).doubleValue(), 0);
+		assertEquals(3, model.getMaxX().doubleValue(), 0);
+		assertEquals(-0.25, model.getMinY().doubleValue(), 0);
+		assertFalse(model.isXMonotoneIncreasing());
+		double[] destination = new double[3];
+		model.copyY(1, destination, 0, 3);
+		assertArrayEquals(new double[]{-0.25, 0.75, 0.125}, destination, 0);
+	}
+}
@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * 
+ * Contributors:
+ * SWTChart contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.model;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.eclipse.swtchart.model.MappedColumn.ValueType;
+import org.junit.Test;
+
+/**
+ * Test case for the memory mapped series model.
+ */
+public class MappedSeriesModelTest {
+
+	/**
+	 * Test for a file with interleaved little endian double pairs.
+	 */
+	@Test
+	public void testInterleavedFile() throws Exception {
+
+		Path file = Files.createTempFile("series", ".bin");
+		try {
+			ByteBuffer buffer = ByteBuffer.allocate(4 * 16).order(ByteOrder.LITTLE_ENDIAN);
+			double[][] points = {{1, 5}, {2, -3}, {4, 8}, {7, 0}};
+			for(double[] point : points) {
+				buffer.putDouble(point[0]).putDouble(point[1]);
+			}
+			Files.write(file, buffer.array());
+			MappedSeriesModel model = MappedSeriesModel.mapInterleaved(file, 0, 4, ValueType.DOUBLE, false);
+			assertEquals(4, model.size());
+			assertEquals(4, model.x(2), 0);
+			assertEquals(-3, model.y(1), 0);
+			assertTrue(model.isXMonotoneIncreasing());
+			assertEquals(1, model.getMinX().doubleValue(), 0);
+			assertEquals(7, model.getMaxX().doubleValue(), 0);
+			assertEquals(-3, model.getMinY().doubleValue(), 0);
+			assertEquals(8, model.getMaxY().doubleValue(), 0);
+			double[] ySeries = new double[2];
+			model.copyY(1, ySeries, 0, 2);
+			assertArrayEquals(new double[]{-3, 8}, ySeries, 0);
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+
+	/**
+	 * Test for densely packed double and float columns in a buffer.
+	 */
+	@Test
+	public void testColumns() throws Exception {
+
+		ByteBuffer xBuffer = ByteBuffer.allocateDirect(3 * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+		xBuffer.putDouble(3).putDouble(1).putDouble(2);
+		ByteBuffer yBuffer = ByteBuffer.allocateDirect(3 * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+		yBuffer.putFloat(0.5f).putFloat(1.5f).putFloat(-2.5f);
+		MappedColumn xColumn = new MappedColumn(xBuffer, Double.BYTES, 3, ValueType.DOUBLE);
+		MappedColumn yColumn = new MappedColumn(yBuffer, Float.BYTES, 3, ValueType.FLOAT);
+		MappedSeriesModel model = new MappedSeriesModel(xColumn, yColumn);
+		double[] xSeries = new double[3];
+		model.copyX(0, xSeries, 0, 3);
+		assertArrayEquals(new double[]{3, 1, 2}, xSeries, 0);
+		double[] ySeries = new double[3];
+		model.copyY(0, ySeries, 0, 3);
+		assertArrayEquals(new double[]{0.5, 1.5, -2.5}, ySeries, 0);
+		assertFalse(model.isXMonotoneIncreasing());
+		assertEquals(1, model.getMinX().doubleValue(), 0);
+	}
+
+	/**
+	 * Test for a region that doesn't fit into the buffer.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidRegion() throws Exception {
+
+		new MappedColumn(ByteBuffer.allocate(16), Double.BYTES, 3, ValueType.DOUBLE);
+	}
+}
@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * 
+ * Contributors:
+ * SWTChart contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.model;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Test case for the min/max index.
+ */
+public class MinMaxIndexTest {
+
+	/**
+	 * Test for the range queries against a linear scan.
+	 */
+	@Test
+	public void testRangeQueries() throws Exception {
+
+		Random random = new Random(42);
+		int size = 1000;
+		double[] xSeries = new double[size];
+		double[] ySeries = new double[size];
+		for(int i = 0; i < size; i++) {
+			xSeries[i] = i;
+			ySeries[i] = random.nextGaussian();
+		}
+		ySeries[500] = Double.NaN;
+		MinMaxIndex index = new MinMaxIndex(new DoubleArraySeriesModel(xSeries, ySeries));
+		for(int n = 0; n < 200; n++) {
+			int from = random.nextInt(size);
+			int to = from + random.nextInt(size - from + 1);
+			double min = Double.NaN;
+			double max = Double.NaN;
+			for(int i = from; i < to; i++) {
+				if(!(ySeries[i] >= min)) {
+					min = Double.isNaN(ySeries[i]) ? min : ySeries[i];
+				}
+				if(!(ySeries[i] <= max)) {
+					max = Double.isNaN(ySeries[i]) ? max : ySeries[i];
+				}
+			}
+			assertArrayEquals(new double[]{min, max}, index.getMinMaxY(from, to), 0);
+		}
+	}
+
+	/**
+	 * Test for the visible range of the models.
+	 */
+	@Test
+	public void testModels() throws Exception {
+
+		double[] xSeries = {1, 2, 3, 4, 5};
+		double[] ySeries = {0.5, -0.4, 0.3, 0.2, 0.1};
+		DoubleIndexedSeriesModel model = new DoubleArraySeriesModel(xSeries, ySeries);
+		assertArrayEquals(new double[]{0.1, 0.3}, model.getMinMaxY(2, 5), 0);
+		ColumnarSeriesData data = new ColumnarSeriesData(xSeries);
+		data.addColumn(ySeries);
+		assertArrayEquals(new double[]{-0.4, 0.3}, data.getSeriesModel(0).getMinMaxY(1, 4), 0);
+		double[] empty = model.getMinMaxY(3, 3);
+		assertTrue(Double.isNaN(empty[0]) && Double.isNaN(empty[1]));
+	}
+}
@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * 
+ * Contributors:
+ * SWTChart contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.model;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+/**
+ * Test case for the model of regularly sampled data.
+ */
+public class RegularSeriesModelTest {
+
+	private static final double[] ySeries = {0.5, -0.4, 0.3, 0.2, 0.1};
+
+	/**
+	 * Test for the computed x coordinates.
+	 */
+	@Test
+	public void testCoordinates() throws Exception {
+
+		RegularSeriesModel model = new RegularSeriesModel(1, 0.5, ySeries);
+		assertEquals(ySeries.length, model.size());
+		assertEquals(1, model.getMinX().doubleValue(), 0);
+		assertEquals(3, model.getMaxX().doubleValue(), 0);
+		assertEquals(-0.4, model.getMinY().doubleValue(), 0);
+		assertEquals(0.5, model.getMaxY().doubleValue(), 0);
+		for(int i = 0; i < ySeries.length; i++) {
+			assertEquals(1 + i * 0.5, model.x(i), 0);
+			assertEquals(ySeries[i], model.y(i), 0);
+		}
+		double[] xSeries = new double[3];
+		model.copyX(2, xSeries, 0, 3);
+		assertArrayEquals(new double[]{2, 2.5, 3}, xSeries, 0);
+		assertNull(model.getX(-1));
+		assertNull(model.getY(5));
+	}
+
+	/**
+	 * Test for the visible index window against a linear scan.
+	 */
+	@Test
+	public void testIndexRange() throws Exception {
+
+		double[] values = new double[1000];
+		RegularSeriesModel model = new RegularSeriesModel(-3.7, 0.1, values);
+		for(double lower = -5; lower < 100; lower += 0.37) {
+			double upper = lower + 1.3;
+			int from = 0;
+			while(from < values.length && model.x(from) < lower) {
+				from++;
+			}
+			int to = from;
+			while(to < values.length && model.x(to) <= upper) {
+				to++;
+			}
+			assertArrayEquals(new int[]{from, to}, model.getXIndexRange(lower, upper));
+		}
+		assertArrayEquals(new int[]{1, 2}, model.getXIndexRange(model.x(1), model.x(1)));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidInterval() throws Exception {
+
+		new RegularSeriesModel(0, -1, ySeries);
+	}
+}
@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * 
+ * Contributors:
+ * SWTChart contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.model;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Test case for the ring buffer series model.
+ */
+public class RingBufferSeriesModelTest {
+
+	/**
+	 * Test for the sliding window of a bounded model.
+	 */
+	@Test
+	public void testEviction() throws Exception {
+
+		RingBufferSeriesModel model = new RingBufferSeriesModel(3);
+		model.append(new double[]{1, 2, 3, 4}, new double[]{10, -5, 2, 7});
+		assertEquals(3, model.size());
+		assertEquals(3, model.getCapacity());
+		assertEquals(2, model.x(0), 0);
+		assertEquals(4, model.x(2), 0);
+		double[] ySeries = new double[3];
+		model.copyY(0, ySeries, 0, 3);
+		assertArrayEquals(new double[]{-5, 2, 7}, ySeries, 0);
+		// the maximum 10 has been evicted
+		assertEquals(7, model.getMaxY().doubleValue(), 0);
+		assertEquals(-5, model.getMinY().doubleValue(), 0);
+		model.append(5, 1);
+		assertEquals(1, model.getMinY().doubleValue(), 0);
+		assertEquals(5, model.getMaxX().doubleValue(), 0);
+	}
+
+	/**
+	 * Test for the growth of an unbounded model.
+	 */
+	@Test
+	public void testGrowth() throws Exception {
+
+		RingBufferSeriesModel model = new RingBufferSeriesModel(2, true);
+		for(int i = 0; i < 100; i++) {
+			model.append(i, i * 2);
+		}
+		assertEquals(100, model.size());
+		assertEquals(0, model.x(0), 0);
+		assertEquals(198, model.y(99), 0);
+		assertEquals(99, model.getMaxX().doubleValue(), 0);
+	}
+
+	/**
+	 * Test for the monotony tracking.
+	 */
+	@Test
+	public void testMonotone() throws Exception {
+
+		RingBufferSeriesModel model = new RingBufferSeriesModel(3);
+		model.append(new double[]{1, 0, 2}, new double[]{0, 0, 0});
+		assertFalse(model.isXMonotoneIncreasing());
+		model.append(3, 0);
+		assertTrue(model.isXMonotoneIncreasing());
+		model.clear();
+		assertEquals(0, model.size());
+		assertTrue(model.isXMonotoneIncreasing());
+	}
+
+	/**
+	 * Test for the change notification.
+	 */
+	@Test
+	public void testListener() throws Exception {
+
+		List<String> events = new ArrayList<>();
+		RingBufferSeriesModel model = new RingBufferSeriesModel(3);
+		model.addSeriesModelListener(new SeriesModelListener() {
+
+			@Override
+			public void rangeChanged(SeriesModel<?> source) {
+
+				events.add("range");
+			}
+
+			@Override
+			public void pointsAppended(SeriesModel<?> source, int from, int to) {
+
+				events.add("appended " + from + " " + to);
+			}
+
+			@Override
+			public void pointsUpdated(SeriesModel<?> source, int from, int to) {
+
+				events.add("updated " + from + " " + to);
+			}
+		});
+		model.append(new double[]{1, 2}, new double[]{5, 6});
+		model.append(3, 5.5);
+		model.set(1, 1.5, 10);
+		assertTrue(model.isXMonotoneIncreasing());
+		assertEquals(10, model.getMaxY().doubleValue(), 0);
+		model.set(1, 4, 6);
+		assertFalse(model.isXMonotoneIncreasing());
+		assertEquals(6, model.getMaxY().doubleValue(), 0);
+		List<String> expected = new ArrayList<>();
+		expected.add("appended 0 2");
+		expected.add("range");
+		expected.add("appended 2 3");
+		expected.add("range");
+		expected.add("updated 1 2");
+		expected.add("range");
+		expected.add("updated 1 2");
+		expected.add("range");
+		assertEquals(expected, events);
+	}
+}
@@ -25,12 +25,23 @@ import org.eclipse.swtchart.LegendTest;
 import org.eclipse.swtchart.LineSeriesTest;
 import org.eclipse.swtchart.SeriesLabelTest;
 import org.eclipse.swtchart.SeriesSetTest;
+import org.eclipse.swtchart.internal.compress.CompressTest;
+import org.eclipse.swtchart.internal.compress.LevelOfDetailTest;
+import org.eclipse.swtchart.model.ChunkedSeriesModelTest;
+import org.eclipse.swtchart.model.ColumnarSeriesModelTest;
+import org.eclipse.swtchart.model.DateSeriesModelTest;
+import org.eclipse.swtchart.model.DoubleArraySeriesModelTest;
+import org.eclipse.swtchart.model.FloatArraySeriesModelTest;
+import org.eclipse.swtchart.model.MappedSeriesModelTest;
+import org.eclipse.swtchart.model.MinMaxIndexTest;
+import org.eclipse.swtchart.model.RegularSeriesModelTest;
+import org.eclipse.swtchart.model.RingBufferSeriesModelTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
 
 @RunWith(Suite.class)
-@SuiteClasses({ChartTest.class, ChartTitleTest.class, LegendTest.class, AxisSetTest.class, AxisTest.class, AxisTickTest.class, AxisTitleTest.class, GridTest.class, SeriesLabelTest.class, SeriesSetTest.class, LineSeriesTest.class, BarSeriesTest.class, ErrorBarTest.class,})
+@SuiteClasses({ChartTest.class, ChartTitleTest.class, LegendTest.class, AxisSetTest.class, AxisTest.class, AxisTickTest.class, AxisTitleTest.class, GridTest.class, SeriesLabelTest.class, SeriesSetTest.class, LineSeriesTest.class, BarSeriesTest.class, ErrorBarTest.class, DoubleArraySeriesModelTest.class, RingBufferSeriesModelTest.class, MappedSeriesModelTest.class, FloatArraySeriesModelTest.class, ColumnarSeriesModelTest.class, MinMaxIndexTest.class, LevelOfDetailTest.class, CompressTest.class, DateSeriesModelTest.class, RegularSeriesModelTest.class, ChunkedSeriesModelTest.class,})
 public class AllTests {
 	//
 }
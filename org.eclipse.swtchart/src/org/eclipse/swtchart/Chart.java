@@ -35,6 +35,7 @@ import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.Listener;
+import org.eclipse.swtchart.ILineSeries.LineCompression;
 import org.eclipse.swtchart.internal.ChartLayout;
 import org.eclipse.swtchart.internal.ChartLayoutData;
 import org.eclipse.swtchart.internal.ChartTitle;
@@ -61,6 +62,16 @@ public class Chart extends Composite implements Listener {
 	private int orientation;
 	/** the state indicating if compressing series is enabled */
 	private boolean compressEnabled;
+	/** the line compression of the line series */
+	private LineCompression lineCompression;
+	/** the number of threads compressing the series */
+	private int compressParallelism;
+	/** the number of points from which the series are compressed in parallel */
+	private long parallelCompressThreshold;
+	/** the size in bytes of the cached compressed series per series */
+	private long compressCacheSize;
+	/** the state indicating if the series are compressed in worker threads */
+	private boolean compressAsync;
 	/** the state indicating if the update of chart appearance is suspended */
 	private boolean updateSuspended;
 	/** the set of plots */
@@ -113,6 +124,11 @@ public class Chart extends Composite implements Listener {
 		super(parent, style | SWT.DOUBLE_BUFFERED);
 		orientation = SWT.HORIZONTAL;
 		compressEnabled = true;
+		lineCompression = LineCompression.GRID;
+		compressParallelism = Runtime.getRuntime().availableProcessors();
+		parallelCompressThreshold = 100000;
+		compressCacheSize = 1024 * 1024;
+		compressAsync = false;
 		updateSuspended = false;
 		parent.layout();
 		setLayout(new ChartLayout());
@@ -278,6 +294,140 @@ public class Chart extends Composite implements Listener {
 		return compressEnabled;
 	}
 
+	/**
+	 * Sets the line compression of the line series, unless they have their
+	 * own. By default, the points which are in the same grid cell as the
+	 * previous point are dropped. {@link LineCompression#MIN_MAX} keeps the
+	 * first, minimum, maximum and last point of each pixel column instead,
+	 * so that no peak is lost.
+	 * 
+	 * @param lineCompression
+	 *            the line compression
+	 */
+	public void setLineCompression(LineCompression lineCompression) {
+
+		if(lineCompression == null || lineCompression == LineCompression.DEFAULT) {
+			lineCompression = LineCompression.GRID;
+		}
+		if(this.lineCompression == lineCompression) {
+			return;
+		}
+		this.lineCompression = lineCompression;
+		seriesSet.updateCompressors();
+	}
+
+	/**
+	 * Gets the line compression of the line series.
+	 * 
+	 * @return the line compression
+	 */
+	public LineCompression getLineCompression() {
+
+		return lineCompression;
+	}
+
+	/**
+	 * Sets the number of threads compressing the series. The compression of
+	 * many series, e.g. when the chart is resized, is spread over the threads.
+	 * By default, the number of processors is used.
+	 * 
+	 * @param parallelism
+	 *            the number of threads, 1 to compress the series in the UI
+	 *            thread only
+	 */
+	public void setCompressParallelism(int parallelism) {
+
+		compressParallelism = Math.max(1, parallelism);
+	}
+
+	/**
+	 * Gets the number of threads compressing the series.
+	 * 
+	 * @return the number of threads
+	 */
+	public int getCompressParallelism() {
+
+		return compressParallelism;
+	}
+
+	/**
+	 * Sets the total number of points of all series from which the series
+	 * are compressed in parallel. Fewer points are compressed faster in the UI
+	 * thread. The default is 100000.
+	 * 
+	 * @param threshold
+	 *            the number of points
+	 */
+	public void setParallelCompressThreshold(long threshold) {
+
+		parallelCompressThreshold = threshold;
+	}
+
+	/**
+	 * Gets the total number of points of all series from which the series
+	 * are compressed in parallel.
+	 * 
+	 * @return the number of points
+	 */
+	public long getParallelCompressThreshold() {
+
+		return parallelCompressThreshold;
+	}
+
+	/**
+	 * Sets the size in bytes of the compressed series which each series
+	 * caches for the recently used ranges of the axes, so that returning to a
+	 * previous zoom level is redrawn without compressing the series again.
+	 * The least recently used ranges are evicted first. The default is 1 MB.
+	 * 
+	 * @param size
+	 *            the size in bytes, 0 to disable the cache
+	 */
+	public void setCompressCacheSize(long size) {
+
+		compressCacheSize = Math.max(0, size);
+	}
+
+	/**
+	 * Gets the size in bytes of the compressed series which each series
+	 * caches.
+	 * 
+	 * @return the size in bytes
+	 */
+	public long getCompressCacheSize() {
+
+		return compressCacheSize;
+	}
+
+	/**
+	 * Enables compressing the series in worker threads when the ranges of
+	 * the axes or the size of the plot area change. Meanwhile, the previous
+	 * compressed series are drawn rescaled to the new ranges, and the chart
+	 * is redrawn once when all series are compressed. A compression which is
+	 * still running when the ranges change again is discarded. The series
+	 * which have not been compressed yet, or whose ranges have been cached,
+	 * are still compressed in the UI thread. By default, the series are
+	 * compressed in the UI thread.
+	 * 
+	 * @param enabled
+	 *            true to compress the series in worker threads
+	 */
+	public void enableCompressAsync(boolean enabled) {
+
+		compressAsync = enabled;
+	}
+
+	/**
+	 * Gets the state indicating if the series are compressed in worker
+	 * threads.
+	 * 
+	 * @return true if the series are compressed in worker threads
+	 */
+	public boolean isCompressAsync() {
+
+		return compressAsync;
+	}
+
 	/**
 	 * Suspends the update of chart appearance.
 	 * 
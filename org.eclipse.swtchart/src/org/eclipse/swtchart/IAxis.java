@@ -132,6 +132,30 @@ public interface IAxis {
 	 */
 	void adjustRange();
 
+	/**
+	 * Enables the auto scale of a Y axis. If enabled, the range of the axis is
+	 * adjusted to the series data within the current range of their X axes
+	 * whenever the range of an X axis changes, e.g. while zooming or scrolling.
+	 * This has no effect on X axes. The default implementation does not support
+	 * auto scale.
+	 * 
+	 * @param enabled
+	 *            true if enabling auto scale
+	 */
+	default void enableAutoScale(boolean enabled) {
+
+	}
+
+	/**
+	 * Gets the state indicating if auto scale is enabled.
+	 * 
+	 * @return true if auto scale is enabled
+	 */
+	default boolean isAutoScaleEnabled() {
+
+		return false;
+	}
+
 	/**
 	 * Zooms in the axis.
 	 */
@@ -31,6 +31,19 @@ public interface IBarSeries<T> extends ISeries<T> {
 		FIXED;
 	}
 
+	/**
+	 * Bar aggregation, which combines the bars drawn in the same pixel column
+	 * into one riser.
+	 */
+	public enum BarAggregation {
+		/** the highest bar of the column */
+		MAX,
+		/** the lowest bar of the column */
+		MIN,
+		/** the sum of the bars of the column */
+		SUM;
+	}
+
 	/**
 	 * Gets the bar width style.
 	 * 
@@ -95,6 +108,31 @@ public interface IBarSeries<T> extends ISeries<T> {
 	 */
 	void setBarOverlay(boolean overlay);
 
+	/**
+	 * Gets the aggregation of the bars in the same pixel column. The default
+	 * implementation returns <tt>BarAggregation.MAX</tt>.
+	 * 
+	 * @return the bar aggregation
+	 */
+	default BarAggregation getBarAggregation() {
+
+		return BarAggregation.MAX;
+	}
+
+	/**
+	 * Sets the aggregation of the bars in the same pixel column. At most one
+	 * riser is drawn per pixel column, whose label and bounds belong to the
+	 * highest bar of the column, or the lowest for
+	 * <tt>BarAggregation.MIN</tt>. The default is <tt>BarAggregation.MAX</tt>.
+	 * The default implementation ignores the bar aggregation.
+	 * 
+	 * @param aggregation
+	 *            the bar aggregation
+	 */
+	default void setBarAggregation(BarAggregation aggregation) {
+
+	}
+
 	/**
 	 * Gets the bar color.
 	 * 
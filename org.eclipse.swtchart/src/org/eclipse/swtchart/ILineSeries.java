@@ -58,6 +58,19 @@ public interface ILineSeries<T> extends ISeries<T> {
 		}
 	}
 
+	/**
+	 * The way of compressing a line series with sorted X series before it is
+	 * drawn.
+	 */
+	public enum LineCompression {
+		/** the line compression of the chart */
+		DEFAULT,
+		/** drops the points which are in the same grid cell as the previous one */
+		GRID,
+		/** keeps the first, minimum, maximum and last point of each pixel column */
+		MIN_MAX;
+	}
+
 	/**
 	 * Gets the extended symbol type
 	 * 
@@ -219,6 +232,33 @@ public interface ILineSeries<T> extends ISeries<T> {
 	 */
 	boolean isStepEnabled();
 
+	/**
+	 * Sets the line compression. The default is the line compression of the
+	 * chart.
+	 * <p>
+	 * {@link LineCompression#MIN_MAX} keeps every peak and limits the number
+	 * of drawn points to four per pixel column, which suits dense and noisy
+	 * series. The default implementation ignores the line compression.
+	 *
+	 * @param lineCompression
+	 *            the line compression, or null for the one of the chart
+	 * @see Chart#setLineCompression(LineCompression)
+	 */
+	default void setLineCompression(LineCompression lineCompression) {
+
+	}
+
+	/**
+	 * Gets the line compression. The default implementation returns
+	 * {@link LineCompression#DEFAULT}.
+	 *
+	 * @return the line compression
+	 */
+	default LineCompression getLineCompression() {
+
+		return LineCompression.DEFAULT;
+	}
+
 	/**
 	 * Gets the anti-aliasing value for drawing line. The default value is
 	 * <tt>SWT.DEFAULT<tt>.
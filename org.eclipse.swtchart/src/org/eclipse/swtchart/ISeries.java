@@ -14,7 +14,10 @@
  *******************************************************************************/
 package org.eclipse.swtchart;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
+import java.util.List;
 
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swtchart.model.CartesianSeriesModel;
@@ -114,6 +117,31 @@ public interface ISeries<DataType> {
 	 */
 	boolean isStackEnabled();
 
+	/**
+	 * Enables the level of detail pyramid. The pyramid is built once from the
+	 * data model and lets the series be drawn without visiting every point when
+	 * there are many points per pixel. It is only built for data models with
+	 * primitive access and sorted X series, and it is dropped when a mutable
+	 * data model changes. The default implementation does not support the
+	 * pyramid.
+	 * 
+	 * @param enabled
+	 *            true if enabling the level of detail pyramid
+	 */
+	default void enableLevelOfDetail(boolean enabled) {
+
+	}
+
+	/**
+	 * Gets the state indicating if the level of detail pyramid is enabled.
+	 * 
+	 * @return the state indicating if the level of detail pyramid is enabled
+	 */
+	default boolean isLevelOfDetailEnabled() {
+
+		return false;
+	}
+
 	/**
 	 * This is a legacy/convenient method to create series.
 	 * Sets the X series.
@@ -140,6 +168,23 @@ public interface ISeries<DataType> {
 	@Deprecated
 	Date[] getXDateSeries();
 
+	/**
+	 * Gets the X series as dates. If the data model is a date series model, the
+	 * list is a view of the model and creates the dates when they are accessed,
+	 * otherwise the dates are created at once. The default implementation
+	 * returns the dates of {@link #getXDateSeries()}.
+	 * 
+	 * @return the unmodifiable list of dates
+	 */
+	default List<Date> getXDates() {
+
+		Date[] dates = getXDateSeries();
+		if(dates == null) {
+			return Collections.emptyList();
+		}
+		return Collections.unmodifiableList(Arrays.asList(dates));
+	}
+
 	/**
 	 * This is a legacy/convenient method.
 	 * Gets the X series. If the X series is not set, empty array will be returned.
@@ -267,6 +312,25 @@ public interface ISeries<DataType> {
 	 */
 	Point getPixelCoordinates(int index);
 
+	/**
+	 * Gets the range of series indexes whose X coordinates are within the given
+	 * range, including the adjacent point on each side so that lines leaving the
+	 * range can be drawn. The range is found by binary search if the X series is
+	 * sorted or the X axis is a category axis, otherwise all indexes are returned.
+	 * The default implementation returns all indexes.
+	 * 
+	 * @param lower
+	 *            the lower X coordinate
+	 * @param upper
+	 *            the upper X coordinate
+	 * @return the first index (inclusive) and the last index (exclusive) as array
+	 *         of length 2
+	 */
+	default int[] getXIndexRange(double lower, double upper) {
+
+		return new int[]{0, getXSeries().length};
+	}
+
 	/**
 	 * Adds the dispose listener. The newly created color or font for series can be
 	 * disposed with the dispose listener when they are no longer needed.
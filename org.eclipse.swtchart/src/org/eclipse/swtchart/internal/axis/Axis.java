@@ -23,6 +23,7 @@ import org.eclipse.swt.events.MouseEvent;
 import org.eclipse.swt.widgets.Event;
 import org.eclipse.swtchart.Chart;
 import org.eclipse.swtchart.IAxis;
+import org.eclipse.swtchart.IAxisSet;
 import org.eclipse.swtchart.IDisposeListener;
 import org.eclipse.swtchart.IGrid;
 import org.eclipse.swtchart.ISeries;
@@ -75,6 +76,8 @@ public class Axis implements IAxis {
 	private boolean logScaleEnabled;
 	/** the state indicating if axis type is category */
 	private boolean categoryAxisEnabled;
+	/** the state indicating if the axis is adjusted to the visible data */
+	private boolean autoScaleEnabled;
 	/** the state indicating if axis is reversed */
 	private boolean reversed;
 	/** the state indicates if the axis data points are only integers */
@@ -91,6 +94,13 @@ public class Axis implements IAxis {
 	private int height;
 	/** draw the horizontal|vertical axis line */
 	private boolean drawAxisLine;
+	/** the range whose log10 values are cached */
+	private double logRangeLower = Double.NaN;
+	private double logRangeUpper = Double.NaN;
+	/** the log10 of the lower value of the cached range */
+	private double log10Lower;
+	/** the log10 of the upper value of the cached range */
+	private double log10Upper;
 	//
 	/** the list of dispose listeners */
 	private List<IDisposeListener> listeners;
@@ -204,11 +214,31 @@ public class Axis implements IAxis {
 			min = range.lower;
 			max = range.upper;
 		}
+		if(direction == Direction.X) {
+			adjustAutoScaleAxes();
+		}
 		if(update) {
 			chart.updateLayout();
 		}
 	}
 
+	/**
+	 * Adjusts the range of the Y axes with enabled auto scale to the changed X
+	 * range.
+	 */
+	private void adjustAutoScaleAxes() {
+
+		IAxisSet axisSet = chart.getAxisSet();
+		if(axisSet == null) {
+			return;
+		}
+		for(IAxis axis : axisSet.getYAxes()) {
+			if(axis.isAutoScaleEnabled()) {
+				((Axis)axis).adjustRange(false);
+			}
+		}
+	}
+
 	@Override
 	public Range getRange() {
 
@@ -323,6 +353,24 @@ public class Axis implements IAxis {
 		adjustRange(true);
 	}
 
+	@Override
+	public void enableAutoScale(boolean enabled) {
+
+		if(direction != Direction.Y || autoScaleEnabled == enabled) {
+			return;
+		}
+		autoScaleEnabled = enabled;
+		if(enabled) {
+			adjustRange();
+		}
+	}
+
+	@Override
+	public boolean isAutoScaleEnabled() {
+
+		return autoScaleEnabled;
+	}
+
 	/**
 	 * Adjusts the axis range to the series belonging to the axis.
 	 * 
@@ -587,11 +635,14 @@ public class Axis implements IAxis {
 	 */
 	public int getPixelCoordinate(double dataCoordinate, double lower, double upper) {
 
+		if(logScaleEnabled) {
+			updateLogRange(lower, upper);
+		}
 		int pixelCoordinate;
 		if(isReversed()) {
 			if(isHorizontalAxis) {
 				if(logScaleEnabled) {
-					pixelCoordinate = (int)((Math.log10(upper) - Math.log10(dataCoordinate)) / (Math.log10(upper) - Math.log10(lower)) * width);
+					pixelCoordinate = (int)((log10Upper - Math.log10(dataCoordinate)) / (log10Upper - log10Lower) * width);
 				} else if(categoryAxisEnabled) {
 					pixelCoordinate = (int)((upper - dataCoordinate + 0.5) / (upper + 1 - lower) * width);
 				} else {
@@ -599,7 +650,7 @@ public class Axis implements IAxis {
 				}
 			} else {
 				if(logScaleEnabled) {
-					pixelCoordinate = (int)((Math.log10(dataCoordinate) - Math.log10(lower)) / (Math.log10(upper) - Math.log10(lower)) * height);
+					pixelCoordinate = (int)((Math.log10(dataCoordinate) - log10Lower) / (log10Upper - log10Lower) * height);
 				} else if(categoryAxisEnabled) {
 					pixelCoordinate = (int)((dataCoordinate + 0.5 - lower) / (upper + 1 - lower) * height);
 				} else {
@@ -609,7 +660,7 @@ public class Axis implements IAxis {
 		} else {
 			if(isHorizontalAxis) {
 				if(logScaleEnabled) {
-					pixelCoordinate = (int)((Math.log10(dataCoordinate) - Math.log10(lower)) / (Math.log10(upper) - Math.log10(lower)) * width);
+					pixelCoordinate = (int)((Math.log10(dataCoordinate) - log10Lower) / (log10Upper - log10Lower) * width);
 				} else if(categoryAxisEnabled) {
 					pixelCoordinate = (int)((dataCoordinate + 0.5 - lower) / (upper + 1 - lower) * width);
 				} else {
@@ -617,7 +668,7 @@ public class Axis implements IAxis {
 				}
 			} else {
 				if(logScaleEnabled) {
-					pixelCoordinate = (int)((Math.log10(upper) - Math.log10(dataCoordinate)) / (Math.log10(upper) - Math.log10(lower)) * height);
+					pixelCoordinate = (int)((log10Upper - Math.log10(dataCoordinate)) / (log10Upper - log10Lower) * height);
 				} else if(categoryAxisEnabled) {
 					pixelCoordinate = (int)((upper - dataCoordinate + 0.5) / (upper + 1 - lower) * height);
 				} else {
@@ -648,11 +699,14 @@ public class Axis implements IAxis {
 	 */
 	public double getDataCoordinate(int pixelCoordinate, double lower, double upper) {
 
+		if(logScaleEnabled) {
+			updateLogRange(lower, upper);
+		}
 		double dataCoordinate;
 		if(isReversed()) {
 			if(isHorizontalAxis) {
 				if(logScaleEnabled) {
-					dataCoordinate = Math.pow(10, Math.log10(upper) - pixelCoordinate / (double)width * (Math.log10(upper) - Math.log10(lower)) + Math.log10(lower));
+					dataCoordinate = Math.pow(10, log10Upper - pixelCoordinate / (double)width * (log10Upper - log10Lower) + log10Lower);
 				} else if(categoryAxisEnabled) {
 					dataCoordinate = Math.floor(upper + 1 - pixelCoordinate / (double)width * (upper + 1 - lower) + lower);
 				} else {
@@ -660,7 +714,7 @@ public class Axis implements IAxis {
 				}
 			} else {
 				if(logScaleEnabled) {
-					dataCoordinate = Math.pow(10, pixelCoordinate / (double)height * (Math.log10(upper) - Math.log10(lower)));
+					dataCoordinate = Math.pow(10, pixelCoordinate / (double)height * (log10Upper - log10Lower));
 				} else if(categoryAxisEnabled) {
 					dataCoordinate = Math.floor(pixelCoordinate / (double)height * (upper + 1 - lower));
 				} else {
@@ -670,7 +724,7 @@ public class Axis implements IAxis {
 		} else {
 			if(isHorizontalAxis) {
 				if(logScaleEnabled) {
-					dataCoordinate = Math.pow(10, pixelCoordinate / (double)width * (Math.log10(upper) - Math.log10(lower)) + Math.log10(lower));
+					dataCoordinate = Math.pow(10, pixelCoordinate / (double)width * (log10Upper - log10Lower) + log10Lower);
 				} else if(categoryAxisEnabled) {
 					dataCoordinate = Math.floor(pixelCoordinate / (double)width * (upper + 1 - lower) + lower);
 				} else {
@@ -678,7 +732,7 @@ public class Axis implements IAxis {
 				}
 			} else {
 				if(logScaleEnabled) {
-					dataCoordinate = Math.pow(10, Math.log10(upper) - pixelCoordinate / (double)height * (Math.log10(upper) - Math.log10(lower)));
+					dataCoordinate = Math.pow(10, log10Upper - pixelCoordinate / (double)height * (log10Upper - log10Lower));
 				} else if(categoryAxisEnabled) {
 					dataCoordinate = Math.floor(upper + 1 - pixelCoordinate / (double)height * (upper + 1 - lower));
 				} else {
@@ -689,6 +743,25 @@ public class Axis implements IAxis {
 		return dataCoordinate;
 	}
 
+	/**
+	 * Updates the cached log10 values of the range, so that converting the coordinates of a series on a log scale
+	 * axis only computes the logarithm of each coordinate.
+	 * 
+	 * @param lower
+	 *            the min value of range
+	 * @param upper
+	 *            the max value of range
+	 */
+	private void updateLogRange(double lower, double upper) {
+
+		if(lower != logRangeLower || upper != logRangeUpper) {
+			logRangeLower = lower;
+			logRangeUpper = upper;
+			log10Lower = Math.log10(lower);
+			log10Upper = Math.log10(upper);
+		}
+	}
+
 	/**
 	 * Sets the number of risers per category.
 	 * 
@@ -572,11 +572,14 @@ public class AxisTickLabels implements PaintListener {
 		if(axis.isIntegerDataPointAxis()) {
 			for(ISeries series : (ISeries[])chart.getSeriesSet().getSeries()) {
 				if(axis.getDirection() == Direction.X) {
-					if(series.getXAxisId() == axis.getId() && series.getXSeries().length != 0) {
-						int xSeriesLength = series.getXSeries().length;
-						double upper = series.getXSeries()[xSeriesLength - 1],
-								lower = series.getXSeries()[0];
-						gridStep = BigDecimal.valueOf((upper - lower) / (xSeriesLength - 1));
+					if(series.getXAxisId() == axis.getId()) {
+						double[] xSeries = series.getXSeries();
+						if(xSeries.length != 0) {
+							int xSeriesLength = xSeries.length;
+							double upper = xSeries[xSeriesLength - 1],
+									lower = xSeries[0];
+							gridStep = BigDecimal.valueOf((upper - lower) / (xSeriesLength - 1));
+						}
 					}
 				} else {
 					if(series.getYAxisId() == axis.getId() && series.getYSeries().length != 0) {
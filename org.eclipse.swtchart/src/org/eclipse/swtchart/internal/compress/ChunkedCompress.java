@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * SWTChart contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.internal.compress;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.IntStream;
+
+/**
+ * A base class for compressors which can compress a large index range in chunks in parallel.
+ */
+public abstract class ChunkedCompress extends Compress {
+
+	/**
+	 * Gets the number of chunks in which the given index range can be compressed in parallel, which depends on the
+	 * parallelism of the pool of the calling thread.
+	 * 
+	 * @param from
+	 *            the first index (inclusive)
+	 * @param to
+	 *            the last index (exclusive)
+	 * @return the number of chunks, or 1 if the range is compressed by the calling thread
+	 */
+	protected int getChunkCount(int from, int to) {
+
+		int parallelism = ForkJoinTask.inForkJoinPool() ? ForkJoinTask.getPool().getParallelism() : ForkJoinPool.getCommonPoolParallelism();
+		return (int)Math.max(1, Math.min(parallelism, ((long)to - from) / MIN_CHUNK_SIZE));
+	}
+
+	/**
+	 * Compresses the index range in chunks in parallel. Each chunk is compressed by a copy of this compressor with
+	 * {@link #addChunk(int, int)}, then the compressed chunks are added in order with
+	 * {@link #addCompressedChunk(ChunkedCompress)}.
+	 * 
+	 * @param from
+	 *            the first index (inclusive)
+	 * @param to
+	 *            the last index (exclusive)
+	 * @param chunks
+	 *            the number of chunks
+	 */
+	protected void addChunks(int from, int to, int chunks) {
+
+		ChunkedCompress[] compressors = new ChunkedCompress[chunks];
+		IntStream.range(0, chunks).parallel().forEach(chunk -> {
+			ChunkedCompress compressor = (ChunkedCompress)copy();
+			compressor.addChunk(from + (int)((long)(to - from) * chunk / chunks), from + (int)((long)(to - from) * (chunk + 1) / chunks));
+			compressors[chunk] = compressor;
+		});
+		for(ChunkedCompress compressor : compressors) {
+			addCompressedChunk(compressor);
+		}
+	}
+
+	/**
+	 * Compresses one chunk of the index range. The compressor is a copy which has its own compressed series, and the
+	 * state of the compression has to be derived from the points before the chunk.
+	 * 
+	 * @param from
+	 *            the first index of the chunk (inclusive)
+	 * @param to
+	 *            the last index of the chunk (exclusive)
+	 */
+	abstract protected void addChunk(int from, int to);
+
+	/**
+	 * Adds the compressed series of a chunk.
+	 * 
+	 * @param chunk
+	 *            the compressor of the chunk
+	 */
+	protected void addCompressedChunk(ChunkedCompress chunk) {
+
+		for(int i = 0; i < chunk.compressedSize; i++) {
+			addToList(chunk.compressedXSeries[i], chunk.compressedYSeries[i], chunk.compressedIndexes[i]);
+		}
+	}
+}
@@ -12,13 +12,19 @@
  *******************************************************************************/
 package org.eclipse.swtchart.internal.compress;
 
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.function.IntToDoubleFunction;
+import java.util.stream.IntStream;
+
+import org.eclipse.swtchart.model.DoubleIndexedSeriesModel;
 
 /**
  * A base class for compressor providing default implementations.
  */
-public abstract class Compress implements ICompress {
+public abstract class Compress implements ICompress, Cloneable {
 
+	/** the minimum number of source points per chunk, if a large index range is compressed in parallel */
+	public static final int MIN_CHUNK_SIZE = 1 << 18;
 	/** the previous X grid index */
 	protected int previousXGridIndex;
 	/** the previous Y grid index */
@@ -33,12 +39,28 @@ public abstract class Compress implements ICompress {
 	protected double[] xSeries = null;
 	/** the source Y series to be compressed */
 	protected double[] ySeries = null;
-	/** the compressed X series */
+	/** the source model which is read directly for the axis that has no source series */
+	private DoubleIndexedSeriesModel model = null;
+	/** the multi-resolution pyramid of the source model */
+	private LevelOfDetail levelOfDetail = null;
+	/** the compressed series of the recently used configurations */
+	private CompressCache cache = new CompressCache();
+	/** the number of changes of the source series or the settings, to detect a copy which is out of date */
+	private int modificationCount;
+	/** the number of points of the source model when it has been set */
+	private int sourceSize;
+	/** the index of the first point appended since the last compression, or -1 */
+	private int appendedFrom = -1;
+	/** the state indicating if the compressed series can be continued with appended points */
+	private boolean isAppendable;
+	/** the compressed X series, which is reused by each compression and valid up to the compressed size */
 	protected transient double[] compressedXSeries = null;
-	/** the compressed Y series */
+	/** the compressed Y series, which is reused by each compression and valid up to the compressed size */
 	protected transient double[] compressedYSeries = null;
-	/** the compressed series indexes */
+	/** the compressed series indexes, which are reused by each compression and valid up to the compressed size */
 	protected transient int[] compressedIndexes = null;
+	/** the number of compressed points, or -1 if the source series have not been compressed yet */
+	protected transient int compressedSize = -1;
 	/** the lower value of x range */
 	protected double xLower;
 	/** the upper value of x range */
@@ -55,6 +77,20 @@ public abstract class Compress implements ICompress {
 	private long widthInPixel;
 	/** the plot area height in pixels */
 	private long heightInPixel;
+	/** the log10 of the lower value of x range, if x axis is log scale */
+	private double xLog10Lower;
+	/** the number of pixels per decade of x range, if x axis is log scale */
+	private double xPixelsPerDecade;
+	/** the log10 of the lower value of y range, if y axis is log scale */
+	private double yLog10Lower;
+	/** the number of pixels per decade of y range, if y axis is log scale */
+	private double yPixelsPerDecade;
+	/** the log10 of the source X coordinates, if x axis is log scale */
+	private double[] xLog10Series = null;
+	/** the log10 of the source Y coordinates, if y axis is log scale */
+	private double[] yLog10Series = null;
+	/** the number of source points whose log10 is valid in the log series */
+	private int log10SeriesSize;
 
 	@Override
 	public void setXSeries(double[] xSeries) {
@@ -65,12 +101,12 @@ public abstract class Compress implements ICompress {
 		double[] copiedSeries = new double[xSeries.length];
 		System.arraycopy(xSeries, 0, copiedSeries, 0, xSeries.length);
 		this.xSeries = copiedSeries;
-		compressedXSeries = copiedSeries;
-		compressedIndexes = new int[xSeries.length];
-		for(int i = 0; i < xSeries.length; i++) {
-			compressedIndexes[i] = i;
-		}
+		compressedSize = -1;
 		compressed = false;
+		appendedFrom = -1;
+		clearLog10Series();
+		modificationCount++;
+		cache.clear();
 	}
 
 	@Override
@@ -82,40 +118,195 @@ public abstract class Compress implements ICompress {
 		double[] copiedSeries = new double[ySeries.length];
 		System.arraycopy(ySeries, 0, copiedSeries, 0, ySeries.length);
 		this.ySeries = copiedSeries;
-		compressedYSeries = copiedSeries;
+		compressedSize = -1;
+		compressed = false;
+		appendedFrom = -1;
+		clearLog10Series();
+		modificationCount++;
+		cache.clear();
+	}
+
+	@Override
+	public void setSeries(DoubleIndexedSeriesModel model) {
+
+		if(model == null) {
+			return;
+		}
+		this.model = model;
+		xSeries = null;
+		ySeries = null;
+		sourceSize = model.size();
+		compressedSize = -1;
+		compressed = false;
+		appendedFrom = -1;
+		clearLog10Series();
+		modificationCount++;
+		cache.clear();
+	}
+
+	@Override
+	public void appendSeries(DoubleIndexedSeriesModel model, int from) {
+
+		if(model == null) {
+			return;
+		}
+		// the compressed series have to be compressed from the points before the appended ones
+		if(this.model == null || xSeries != null || ySeries != null || from != sourceSize || !((compressed && isAppendable) || appendedFrom >= 0)) {
+			setSeries(model);
+			return;
+		}
+		if(appendedFrom < 0) {
+			appendedFrom = from;
+		}
+		this.model = model;
+		sourceSize = model.size();
+		compressed = false;
+		modificationCount++;
+		cache.clear();
+	}
+
+	@Override
+	public void setLevelOfDetail(LevelOfDetail levelOfDetail) {
+
+		this.levelOfDetail = levelOfDetail;
+		compressed = false;
+		modificationCount++;
+		cache.clear();
+	}
+
+	@Override
+	public void setCacheSize(long size) {
+
+		cache.setMaxSize(size);
+	}
+
+	/**
+	 * Gets the cache of the compressed series.
+	 * 
+	 * @return the cache
+	 */
+	public CompressCache getCache() {
+
+		return cache;
+	}
+
+	/**
+	 * Invalidates the compressed series, e.g. if a setting of a subclass changes the result of the compression.
+	 */
+	protected void invalidate() {
+
 		compressed = false;
+		appendedFrom = -1;
+		modificationCount++;
+		cache.clear();
 	}
 
 	@Override
 	public double[] getCompressedXSeries() {
 
-		double[] copiedSeries = new double[compressedXSeries.length];
-		System.arraycopy(compressedXSeries, 0, copiedSeries, 0, compressedXSeries.length);
-		return copiedSeries;
+		return Arrays.copyOf(getCompressedXBuffer(), compressedSize);
 	}
 
 	@Override
 	public double[] getCompressedYSeries() {
 
-		double[] copiedSeries = new double[compressedYSeries.length];
-		System.arraycopy(compressedYSeries, 0, copiedSeries, 0, compressedYSeries.length);
-		return copiedSeries;
+		return Arrays.copyOf(getCompressedYBuffer(), compressedSize);
 	}
 
 	@Override
 	public int[] getCompressedIndexes() {
 
-		int[] copiedSeries = new int[compressedIndexes.length];
-		System.arraycopy(compressedIndexes, 0, copiedSeries, 0, compressedIndexes.length);
-		return copiedSeries;
+		return Arrays.copyOf(getCompressedIndexBuffer(), compressedSize);
+	}
+
+	@Override
+	public int getCompressedSize() {
+
+		copySourceSeries();
+		return compressedSize;
+	}
+
+	@Override
+	public double[] getCompressedXBuffer() {
+
+		copySourceSeries();
+		return compressedXSeries;
+	}
+
+	@Override
+	public double[] getCompressedYBuffer() {
+
+		copySourceSeries();
+		return compressedYSeries;
+	}
+
+	@Override
+	public int[] getCompressedIndexBuffer() {
+
+		copySourceSeries();
+		return compressedIndexes;
+	}
+
+	/**
+	 * Copies all source points into the compressed series, if the source series have not been compressed yet.
+	 */
+	private void copySourceSeries() {
+
+		if(compressedSize >= 0) {
+			return;
+		}
+		int size = (model == null && (xSeries == null || ySeries == null)) ? 0 : getSeriesSize();
+		ensureCapacity(size);
+		if(xSeries != null) {
+			System.arraycopy(xSeries, 0, compressedXSeries, 0, size);
+		} else if(size > 0) {
+			model.copyX(0, compressedXSeries, 0, size);
+		}
+		if(ySeries != null) {
+			System.arraycopy(ySeries, 0, compressedYSeries, 0, size);
+		} else if(size > 0) {
+			model.copyY(0, compressedYSeries, 0, size);
+		}
+		for(int i = 0; i < size; i++) {
+			compressedIndexes[i] = i;
+		}
+		compressedSize = size;
+	}
+
+	/**
+	 * Grows the compressed series, so that they can hold the given number of points. The points up to the compressed
+	 * size are kept.
+	 * 
+	 * @param capacity
+	 *            the number of points
+	 */
+	private void ensureCapacity(int capacity) {
+
+		if(compressedXSeries != null && compressedXSeries.length >= capacity) {
+			return;
+		}
+		int length = compressedXSeries == null ? Math.max(capacity, 16) : Math.max(capacity, compressedXSeries.length * 2);
+		compressedXSeries = compressedXSeries == null ? new double[length] : Arrays.copyOf(compressedXSeries, length);
+		compressedYSeries = compressedYSeries == null ? new double[length] : Arrays.copyOf(compressedYSeries, length);
+		compressedIndexes = compressedIndexes == null ? new int[length] : Arrays.copyOf(compressedIndexes, length);
 	}
 
 	@Override
 	final public boolean compress(CompressConfig compressConfig) {
 
-		if((compressConfig.equals(prevConfig) && compressed) || xSeries == null || ySeries == null) {
+		if((compressConfig.equals(prevConfig) && compressed) || (model == null && (xSeries == null || ySeries == null))) {
 			return false;
 		}
+		int appendedFrom = this.appendedFrom;
+		this.appendedFrom = -1;
+		if(appendedFrom >= 0 && compressConfig.equals(prevConfig)) {
+			updateLog10Series();
+			if(addAppendedPlots(appendedFrom)) {
+				// the compressed series are continued with the configuration of the previous compression
+				compressed = true;
+				return true;
+			}
+		}
 		// store the previous configuration
 		prevConfig = new CompressConfig(compressConfig);
 		this.config = compressConfig;
@@ -128,46 +319,312 @@ public abstract class Compress implements ICompress {
 		isYLogScale = config.isYLogScale();
 		widthInPixel = config.getWidthInPixel();
 		heightInPixel = config.getHeightInPixel();
+		if(isXLogScale) {
+			xLog10Lower = Math.log10(xLower);
+			xPixelsPerDecade = widthInPixel / (Math.log10(xUpper) - xLog10Lower);
+		}
+		if(isYLogScale) {
+			yLog10Lower = Math.log10(yLower);
+			yPixelsPerDecade = heightInPixel / (Math.log10(yUpper) - yLog10Lower);
+		}
 		previousXGridIndex = -1;
 		previousYGridIndex = -1;
-		ArrayList<Double> xList = new ArrayList<Double>();
-		ArrayList<Double> yList = new ArrayList<Double>();
-		ArrayList<Integer> indexList = new ArrayList<Integer>();
-		// add necessary plots to the array
-		addNecessaryPlots(xList, yList, indexList);
-		compressedXSeries = new double[xList.size()];
-		compressedYSeries = new double[yList.size()];
-		compressedIndexes = new int[indexList.size()];
-		for(int i = 0; i < xList.size(); i++) {
-			compressedXSeries[i] = xList.get(i);
-			compressedYSeries[i] = yList.get(i);
-			compressedIndexes[i] = indexList.get(i);
+		// add necessary plots to the reused arrays
+		compressedSize = 0;
+		CompressCache.Entry entry = isCacheable() ? cache.get(compressConfig) : null;
+		if(entry != null) {
+			// the state of the compression is not restored
+			isAppendable = false;
+			compressedSize = entry.getIndexes().length;
+			ensureCapacity(compressedSize);
+			System.arraycopy(entry.getXSeries(), 0, compressedXSeries, 0, compressedSize);
+			System.arraycopy(entry.getYSeries(), 0, compressedYSeries, 0, compressedSize);
+			System.arraycopy(entry.getIndexes(), 0, compressedIndexes, 0, compressedSize);
+		} else {
+			updateLog10Series();
+			addNecessaryPlots();
+			isAppendable = true;
+			if(compressedSize > 0 && isCacheable()) {
+				cache.put(compressConfig, compressedXSeries, compressedYSeries, compressedIndexes, compressedSize);
+			}
 		}
 		compressed = true;
 		return true;
 	}
 
 	/**
-	 * Adds the necessary plots.
+	 * Updates the log10 of the source coordinates for the log scale axes, so that compressing the series again, e.g.
+	 * after zooming, does not compute the logarithms again. Only the points which have been appended since the last
+	 * update are computed, and the log series are released if the axes are not log scale.
+	 */
+	private void updateLog10Series() {
+
+		int size = getSeriesSize();
+		int from = Math.min(log10SeriesSize, size);
+		xLog10Series = isXLogScale ? getLog10Series(xLog10Series, from, size, this::x) : null;
+		yLog10Series = isYLogScale ? getLog10Series(yLog10Series, from, size, this::y) : null;
+		log10SeriesSize = size;
+	}
+
+	/**
+	 * Releases the log series when the source series change. The arrays are not reused, since a copy may share them.
+	 */
+	private void clearLog10Series() {
+
+		xLog10Series = null;
+		yLog10Series = null;
+		log10SeriesSize = 0;
+	}
+
+	/**
+	 * Gets the log series with the log10 of the given source points, which is grown if needed.
+	 * 
+	 * @param log10Series
+	 *            the log series, or null
+	 * @param from
+	 *            the index of the first point to compute, the points before are valid if the log series is not null
+	 * @param to
+	 *            the index of the last point to compute (exclusive)
+	 * @param source
+	 *            the source coordinates
+	 * @return the log series
+	 */
+	private static double[] getLog10Series(double[] log10Series, int from, int to, IntToDoubleFunction source) {
+
+		if(log10Series == null) {
+			log10Series = new double[to];
+			from = 0;
+		} else if(log10Series.length < to) {
+			log10Series = Arrays.copyOf(log10Series, Math.max(to, log10Series.length * 2));
+		}
+		double[] series = log10Series;
+		IntStream indexes = IntStream.range(from, to);
+		if(to - from >= MIN_CHUNK_SIZE) {
+			indexes = indexes.parallel();
+		}
+		indexes.forEach(i -> series[i] = Math.log10(source.applyAsDouble(i)));
+		return series;
+	}
+
+	/**
+	 * Gets the number of source points that can be compressed.
+	 * 
+	 * @return the number of source points
+	 */
+	protected int getSeriesSize() {
+
+		int xSize = xSeries != null ? xSeries.length : model.size();
+		int ySize = ySeries != null ? ySeries.length : model.size();
+		return Math.min(xSize, ySize);
+	}
+
+	/**
+	 * Gets the index of the first source point within the x range, so that compressing sorted series can skip the
+	 * points which are left of the visible range. The lookup is delegated to the model, which allows series sharing
+	 * the same X coordinates to reuse one search.
 	 * 
-	 * @param xList
-	 *            the array in which x coordinate for necessary plot is stored
-	 * @param yList
-	 *            the array in which y coordinate for necessary plot is stored
-	 * @param indexList
-	 *            the array in which series index for necessary plot is stored
+	 * @return the index to start compressing from, or 0 if the model is not sorted
 	 */
-	abstract protected void addNecessaryPlots(ArrayList<Double> xList, ArrayList<Double> yList, ArrayList<Integer> indexList);
+	protected int getFirstIndexInXRange() {
+
+		if(xSeries != null) {
+			int index = Arrays.binarySearch(xSeries, xLower);
+			if(index < 0) {
+				return -index - 1;
+			}
+			// find the first of equal values
+			while(index > 0 && xSeries[index - 1] == xLower) {
+				index--;
+			}
+			return index;
+		} else if(model.isXMonotoneIncreasing()) {
+			return model.firstIndexOfX(xLower);
+		}
+		return 0;
+	}
 
 	/**
-	 * Adds the given coordinate to list.
+	 * Gets the index of the last source point before the x range, which is needed to draw a line into the range.
+	 * 
+	 * @return the index to start compressing from, or 0 if the model is not sorted
+	 * @see #getFirstIndexInXRange()
+	 */
+	protected int getFirstIndexBeforeXRange() {
+
+		return Math.max(0, getFirstIndexInXRange() - 1);
+	}
+
+	/**
+	 * Gets the range of source indexes whose X coordinates are within the x range. The range is searched in the model
+	 * if it is sorted, otherwise all indexes are returned.
+	 * 
+	 * @return the first index (inclusive) and the last index (exclusive) as array of length 2
+	 */
+	protected int[] getXIndexRange() {
+
+		int size = getSeriesSize();
+		if(xSeries != null) {
+			return new int[]{0, size};
+		}
+		int[] range = model.getXIndexRange(xLower, xUpper);
+		range[1] = Math.min(range[1], size);
+		range[0] = Math.min(range[0], range[1]);
+		return range;
+	}
+
+	/**
+	 * Gets the multi-resolution pyramid of the source model.
+	 * 
+	 * @return the pyramid, or null
+	 */
+	protected LevelOfDetail getLevelOfDetail() {
+
+		return levelOfDetail;
+	}
+
+	/**
+	 * Gets the coarsest level of the pyramid whose buckets fit into one pixel, based on the number of source points
+	 * per pixel in the given range. The pyramid is only used if it has been built for the source model.
+	 * 
+	 * @param from
+	 *            the first index (inclusive)
+	 * @param to
+	 *            the last index (exclusive)
+	 * @return the level, or -1 if the pyramid is not used
+	 */
+	protected int getLevelOfDetailLevel(int from, int to) {
+
+		if(levelOfDetail == null || xSeries != null || ySeries != null || levelOfDetail.getModel() != model || levelOfDetail.size() != model.size() || !model.isXMonotoneIncreasing() || widthInPixel <= 0) {
+			return -1;
+		}
+		return levelOfDetail.getLevel((double)(to - from) / widthInPixel);
+	}
+
+	/**
+	 * Gets the source X coordinate at the given index. The source series is used if it has been set, otherwise the
+	 * value is read from the model without copying it.
+	 * 
+	 * @param index
+	 *            the series index
+	 * @return the X coordinate
+	 */
+	protected final double x(int index) {
+
+		return xSeries != null ? xSeries[index] : model.x(index);
+	}
+
+	/**
+	 * Gets the source Y coordinate at the given index. The source series is used if it has been set, otherwise the
+	 * value is read from the model without copying it.
+	 * 
+	 * @param index
+	 *            the series index
+	 * @return the Y coordinate
+	 */
+	protected final double y(int index) {
+
+		return ySeries != null ? ySeries[index] : model.y(index);
+	}
+
+	/**
+	 * Adds the necessary plots to the compressed series with {@link #addToList(double, double, int)}.
+	 */
+	abstract protected void addNecessaryPlots();
+
+	/**
+	 * Adds the necessary plots of the points appended since the last compression to the compressed series, with the
+	 * configuration and the state of the last compression. The compressed series must not be changed if false is
+	 * returned.
+	 * 
+	 * @param from
+	 *            the index of the first appended point
+	 * @return true if the compressed series have been continued, or false to compress all points again, which is the
+	 *         default
+	 */
+	protected boolean addAppendedPlots(int from) {
+
+		return false;
+	}
+
+	/**
+	 * Gets the state indicating if the compressed series can be restored from the cache. The cache keeps only the
+	 * compressed series, so a subclass whose state after the compression is needed, e.g. for appending points, has to
+	 * compress the series again.
+	 * 
+	 * @return true if the compressed series are cached, which is the default
+	 */
+	protected boolean isCacheable() {
+
+		return true;
+	}
+
+	/**
+	 * Creates a copy which compresses the series with the given configuration, e.g. in a worker thread, while this
+	 * compressor keeps its compressed series so that they can still be drawn rescaled. The copy has its own compressed
+	 * series and does not cache them, until it replaces this compressor with {@link #handOver(Compress)}.
+	 * 
+	 * @param compressConfig
+	 *            the configuration
+	 * @return the copy, or null if this compressor should compress the series itself, since it has no compressed
+	 *         series to draw yet, or the configuration has not changed or is cached
+	 */
+	public Compress copyToCompress(CompressConfig compressConfig) {
+
+		if(compressedSize < 0 || compressConfig.equals(prevConfig) || cache.get(compressConfig) != null) {
+			return null;
+		}
+		Compress compressor = copy();
+		compressor.compressed = false;
+		compressor.cache = new CompressCache();
+		compressor.cache.setMaxSize(0);
+		return compressor;
+	}
+
+	/**
+	 * Hands over to the given copy, which has been created by {@link #copyToCompress(CompressConfig)} and has
+	 * compressed the series, so that it can replace this compressor. This is only possible if this compressor has not
+	 * been changed since the copy has been created. The copy takes over the cache of this compressor, which keeps the
+	 * compressed series of the copy.
+	 * 
+	 * @param copy
+	 *            the copy
+	 * @return true if the copy can replace this compressor
+	 */
+	public boolean handOver(Compress copy) {
+
+		if(copy.modificationCount != modificationCount || !copy.compressed || copy.compressedSize < 0 || copy.prevConfig == null) {
+			return false;
+		}
+		copy.cache = cache;
+		if(copy.compressedSize > 0 && isCacheable()) {
+			cache.put(copy.prevConfig, copy.compressedXSeries, copy.compressedYSeries, copy.compressedIndexes, copy.compressedSize);
+		}
+		return true;
+	}
+
+	/**
+	 * Creates a copy which compresses the same source series with the same configuration into its own compressed
+	 * series.
+	 * 
+	 * @return the copy
+	 */
+	protected Compress copy() {
+
+		try {
+			Compress compressor = (Compress)clone();
+			compressor.compressedXSeries = null;
+			compressor.compressedYSeries = null;
+			compressor.compressedIndexes = null;
+			compressor.compressedSize = 0;
+			return compressor;
+		} catch(CloneNotSupportedException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Adds the given coordinate to the compressed series.
 	 * 
-	 * @param xList
-	 *            the list to store the X coordinate
-	 * @param yList
-	 *            the list to store the Y coordinate
-	 * @param indexList
-	 *            the list to store the series index
 	 * @param x
 	 *            the X coordinate
 	 * @param y
@@ -175,11 +632,15 @@ public abstract class Compress implements ICompress {
 	 * @param index
 	 *            the series index
 	 */
-	protected void addToList(ArrayList<Double> xList, ArrayList<Double> yList, ArrayList<Integer> indexList, double x, double y, int index) {
+	protected void addToList(double x, double y, int index) {
 
-		xList.add(x);
-		yList.add(y);
-		indexList.add(index);
+		if(compressedXSeries == null || compressedSize == compressedXSeries.length) {
+			ensureCapacity(compressedSize + 1);
+		}
+		compressedXSeries[compressedSize] = x;
+		compressedYSeries[compressedSize] = y;
+		compressedIndexes[compressedSize] = index;
+		compressedSize++;
 	}
 
 	/**
@@ -193,24 +654,23 @@ public abstract class Compress implements ICompress {
 	 */
 	protected boolean isInSameGridAsPrevious(double x, double y) {
 
-		int xGridIndex;
-		int yGridIndex;
-		// calculate the X grid index
-		if(isXLogScale) {
-			double lower = Math.log10(xLower);
-			double upper = Math.log10(xUpper);
-			xGridIndex = (int)((Math.log10(x) - lower) / (upper - lower) * widthInPixel);
-		} else {
-			xGridIndex = (int)((x - xLower) / (xUpper - xLower) * widthInPixel);
-		}
-		// calculate the Y grid index
-		if(isYLogScale) {
-			double lower = Math.log10(yLower);
-			double upper = Math.log10(yUpper);
-			yGridIndex = (int)((Math.log10(y) - lower) / (upper - lower) * heightInPixel);
-		} else {
-			yGridIndex = (int)((y - yLower) / (yUpper - yLower) * heightInPixel);
-		}
+		return isInSameGridAsPrevious(getXGridIndex(x), getYGridIndex(y));
+	}
+
+	/**
+	 * Checks if the source point at the given index is in the same grid as previous.
+	 * 
+	 * @param index
+	 *            the series index
+	 * @return true if the source point is in the same grid as previous
+	 */
+	protected boolean isInSameGridAsPrevious(int index) {
+
+		return isInSameGridAsPrevious(getXGridIndexAt(index), getYGridIndexAt(index));
+	}
+
+	private boolean isInSameGridAsPrevious(int xGridIndex, int yGridIndex) {
+
 		// check if the grid index is the same as previous
 		boolean isInSameGridAsPrevious = (xGridIndex == previousXGridIndex && yGridIndex == previousYGridIndex);
 		// store the previous grid index
@@ -218,4 +678,66 @@ public abstract class Compress implements ICompress {
 		previousYGridIndex = yGridIndex;
 		return isInSameGridAsPrevious;
 	}
+
+	/**
+	 * Gets the index of the pixel column of the given x coordinate.
+	 * 
+	 * @param x
+	 *            the X coordinate
+	 * @return the X grid index
+	 */
+	protected int getXGridIndex(double x) {
+
+		if(isXLogScale) {
+			return (int)((Math.log10(x) - xLog10Lower) * xPixelsPerDecade);
+		}
+		return (int)((x - xLower) / (xUpper - xLower) * widthInPixel);
+	}
+
+	/**
+	 * Gets the index of the pixel column of the source point at the given index. With log scale, the log10 of the
+	 * source coordinate is used if it has been computed.
+	 * 
+	 * @param index
+	 *            the series index
+	 * @return the X grid index
+	 */
+	protected int getXGridIndexAt(int index) {
+
+		if(xLog10Series != null && index < log10SeriesSize && isXLogScale) {
+			return (int)((xLog10Series[index] - xLog10Lower) * xPixelsPerDecade);
+		}
+		return getXGridIndex(x(index));
+	}
+
+	/**
+	 * Gets the index of the pixel row of the given y coordinate, counted from the lower value of the y range.
+	 * 
+	 * @param y
+	 *            the Y coordinate
+	 * @return the Y grid index
+	 */
+	protected int getYGridIndex(double y) {
+
+		if(isYLogScale) {
+			return (int)((Math.log10(y) - yLog10Lower) * yPixelsPerDecade);
+		}
+		return (int)((y - yLower) / (yUpper - yLower) * heightInPixel);
+	}
+
+	/**
+	 * Gets the index of the pixel row of the source point at the given index, counted from the lower value of the y
+	 * range. With log scale, the log10 of the source coordinate is used if it has been computed.
+	 * 
+	 * @param index
+	 *            the series index
+	 * @return the Y grid index
+	 */
+	protected int getYGridIndexAt(int index) {
+
+		if(yLog10Series != null && index < log10SeriesSize && isYLogScale) {
+			return (int)((yLog10Series[index] - yLog10Lower) * yPixelsPerDecade);
+		}
+		return getYGridIndex(y(index));
+	}
 }
@@ -3,8 +3,8 @@
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
- * which is available at https://www.eclipse.org/legal/epl-2.0/
- *
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
  * SPDX-License-Identifier: EPL-2.0
  * 
  * Contributors:
@@ -12,51 +12,176 @@
  *******************************************************************************/
 package org.eclipse.swtchart.internal.compress;
 
-import java.util.ArrayList;
+import org.eclipse.swtchart.IBarSeries.BarAggregation;
 
 /**
- * A compressor for bar series data.
+ * A compressor for bar series data. The bars in the same pixel column are aggregated into one bar, whose series index
+ * is the one of the highest bar, or of the lowest bar for {@link BarAggregation#MIN}.
  */
 public class CompressBarSeries extends Compress {
 
+	/** the aggregated Y coordinate in the current grid */
+	private double aggregatedY;
+	/** the series index of the bar representing the current grid, or -1 */
+	private int representativeIndex;
+	/** the aggregation of the bars in a grid */
+	private BarAggregation aggregation = BarAggregation.MAX;
+
 	@Override
-	protected void addNecessaryPlots(ArrayList<Double> xList, ArrayList<Double> yList, ArrayList<Integer> indexList) {
-
-		double prevX = xSeries[0];
-		double maxY = Double.NaN;
-		int prevIndex = 0;
-		for(int i = 0; i < xSeries.length && i < ySeries.length; i++) {
-			if(xSeries[i] >= config.getXLowerValue()) {
-				if(isInSameGridXAsPrevious(xSeries[i])) {
-					if(maxY < ySeries[i]) {
-						maxY = ySeries[i];
-					}
-				} else {
-					if(!Double.isNaN(maxY)) {
-						addToList(xList, yList, indexList, prevX, maxY, prevIndex);
-					}
-					prevX = xSeries[i];
-					maxY = ySeries[i];
-					prevIndex = i;
+	protected void addNecessaryPlots() {
+
+		aggregatedY = Double.NaN;
+		representativeIndex = -1;
+		int size = getSeriesSize();
+		int[] range = getXIndexRange();
+		// the pyramid has no sums
+		int level = aggregation == BarAggregation.SUM ? -1 : getLevelOfDetailLevel(range[0], range[1]);
+		if(level >= 0) {
+			// the first point right of the x range belongs to the grids as well
+			addBuckets(level, range[0], Math.min(size, range[1] + 1));
+		} else {
+			// the points left of the x range are skipped anyway
+			for(int i = getFirstIndexInXRange(); i < size; i++) {
+				if(x(i) >= config.getXLowerValue()) {
+					addToGrid(i, i);
+				}
+				if(x(i) > config.getXUpperValue()) {
+					break;
 				}
 			}
-			if(xSeries[i] > config.getXUpperValue()) {
-				break;
+		}
+		addBar();
+	}
+
+	/**
+	 * Adds the buckets of the given level in the index range. Buckets which are within one grid are added as a whole,
+	 * the others are split into the buckets of the level below.
+	 * 
+	 * @param level
+	 *            the level of the pyramid
+	 * @param from
+	 *            the first index (inclusive)
+	 * @param to
+	 *            the last index (exclusive)
+	 */
+	private void addBuckets(int level, int from, int to) {
+
+		LevelOfDetail levelOfDetail = getLevelOfDetail();
+		int bucketSize = levelOfDetail.getBucketSize(level);
+		int i = from;
+		while(i < to) {
+			int bucket = i / bucketSize;
+			int start = bucket * bucketSize;
+			int end = (int)Math.min((long)start + bucketSize, to);
+			if(start == i && end - start == bucketSize && getXGridIndexAt(start) == getXGridIndexAt(end - 1)) {
+				addToGrid(start, aggregation == BarAggregation.MIN ? levelOfDetail.getMinIndex(level, bucket) : levelOfDetail.getMaxIndex(level, bucket));
+			} else if(level > 0) {
+				addBuckets(level - 1, i, end);
+			} else {
+				for(int j = i; j < end; j++) {
+					addToGrid(j, j);
+				}
 			}
+			i = end;
 		}
-		addToList(xList, yList, indexList, prevX, maxY, prevIndex);
 	}
 
 	/**
-	 * Checks if the given x coordinate is in the same grid as previous.
+	 * Adds a bar to the grid of the given point, after adding the bar of the current grid if the point is in the next
+	 * grid.
+	 * 
+	 * @param first
+	 *            the series index which determines the grid
+	 * @param index
+	 *            the series index of the bar
+	 */
+	private void addToGrid(int first, int index) {
+
+		if(!isInSameGridXAsPrevious(first)) {
+			addBar();
+			aggregatedY = Double.NaN;
+			representativeIndex = -1;
+		}
+		double y = y(index);
+		// gaps have no bars
+		if(Double.isNaN(y)) {
+			return;
+		}
+		if(representativeIndex < 0) {
+			aggregatedY = y;
+			representativeIndex = index;
+			return;
+		}
+		switch(aggregation) {
+			case MIN:
+				if(y < aggregatedY) {
+					aggregatedY = y;
+					representativeIndex = index;
+				}
+				break;
+			case SUM:
+				aggregatedY += y;
+				if(y > y(representativeIndex)) {
+					representativeIndex = index;
+				}
+				break;
+			case MAX:
+			default:
+				if(y > aggregatedY) {
+					aggregatedY = y;
+					representativeIndex = index;
+				}
+				break;
+		}
+	}
+
+	/**
+	 * Adds the bar of the current grid, if there is one.
+	 */
+	private void addBar() {
+
+		if(representativeIndex >= 0) {
+			addToList(x(representativeIndex), aggregatedY, representativeIndex);
+		}
+	}
+
+	/**
+	 * Sets the aggregation of the bars in the same grid.
+	 * 
+	 * @param aggregation
+	 *            the bar aggregation
+	 */
+	public void setAggregation(BarAggregation aggregation) {
+
+		if(aggregation == null) {
+			aggregation = BarAggregation.MAX;
+		}
+		if(this.aggregation != aggregation) {
+			this.aggregation = aggregation;
+			invalidate();
+		}
+	}
+
+	/**
+	 * Gets the aggregation of the bars in the same grid.
+	 * 
+	 * @return the bar aggregation
+	 */
+	public BarAggregation getAggregation() {
+
+		return aggregation;
+	}
+
+	/**
+	 * Checks if the x coordinate of the source point at the given index is in the same grid as previous.
 	 * 
-	 * @param x
-	 *            the X coordinate
-	 * @return true if the given coordinate is in the same grid as previous
+	 * @param index
+	 *            the series index
+	 * @return true if the source point is in the same grid as previous
 	 */
-	private boolean isInSameGridXAsPrevious(double x) {
+	private boolean isInSameGridXAsPrevious(int index) {
 
-		int xGridIndex = (int)((x - config.getXLowerValue()) / (config.getXUpperValue() - config.getXLowerValue()) * config.getWidthInPixel());
+		int xGridIndex = getXGridIndexAt(index);
 		boolean isInSameGridAsPrevious = (xGridIndex == previousXGridIndex);
 		previousXGridIndex = xGridIndex;
 		return isInSameGridAsPrevious;
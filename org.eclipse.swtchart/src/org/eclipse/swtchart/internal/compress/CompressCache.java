@@ -0,0 +1,253 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * SWTChart contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.internal.compress;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * A cache of the compressed series of the recently used configurations, so that returning to a previous zoom level
+ * does not compress the series again.
+ * <p>
+ * The configurations are looked up by a key, whose ranges are quantized to about a pixel. The least recently used
+ * entries are evicted if the compressed series take more than the maximum size in bytes. The cache has to be cleared
+ * if the source series change.
+ * </p>
+ */
+public class CompressCache {
+
+	/** the default maximum size in bytes */
+	public static final long DEFAULT_MAX_SIZE = 1 << 20;
+	/** the estimated size of an entry without its compressed series */
+	private static final long ENTRY_OVERHEAD = 128;
+	private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+	private long maxSize = DEFAULT_MAX_SIZE;
+	private long size;
+
+	/**
+	 * Sets the maximum size of the compressed series in bytes, the least recently used entries are evicted if needed.
+	 *
+	 * @param maxSize
+	 *            the maximum size, 0 to disable the cache
+	 */
+	public void setMaxSize(long maxSize) {
+
+		this.maxSize = Math.max(0, maxSize);
+		evict();
+	}
+
+	/**
+	 * Gets the maximum size of the compressed series in bytes.
+	 *
+	 * @return the maximum size
+	 */
+	public long getMaxSize() {
+
+		return maxSize;
+	}
+
+	/**
+	 * Gets the size of the cached compressed series in bytes.
+	 *
+	 * @return the size
+	 */
+	public long getSize() {
+
+		return size;
+	}
+
+	/**
+	 * Gets the number of cached configurations.
+	 *
+	 * @return the number of entries
+	 */
+	public int getEntryCount() {
+
+		return entries.size();
+	}
+
+	/**
+	 * Stores the compressed series of the given configuration. The series are copied.
+	 *
+	 * @param config
+	 *            the configuration
+	 * @param xSeries
+	 *            the compressed X series
+	 * @param ySeries
+	 *            the compressed Y series
+	 * @param indexes
+	 *            the compressed series indexes
+	 * @param length
+	 *            the number of compressed points
+	 */
+	public void put(CompressConfig config, double[] xSeries, double[] ySeries, int[] indexes, int length) {
+
+		// the series are only copied if they fit into the cache
+		if(getEntrySize(length) > maxSize) {
+			return;
+		}
+		Entry entry = new Entry(new CompressConfig(config), Arrays.copyOf(xSeries, length), Arrays.copyOf(ySeries, length), Arrays.copyOf(indexes, length));
+		Entry previous = entries.put(new Key(config), entry);
+		if(previous != null) {
+			size -= previous.getSize();
+		}
+		size += entry.getSize();
+		evict();
+	}
+
+	/**
+	 * Gets the compressed series of the given configuration.
+	 *
+	 * @param config
+	 *            the configuration
+	 * @return the entry, or null if the configuration is not cached
+	 */
+	public Entry get(CompressConfig config) {
+
+		Entry entry = entries.get(new Key(config));
+		// the quantized key may match a configuration which is more than a pixel off
+		if(entry == null || !entry.config.equals(config)) {
+			return null;
+		}
+		return entry;
+	}
+
+	/**
+	 * Removes all entries.
+	 */
+	public void clear() {
+
+		entries.clear();
+		size = 0;
+	}
+
+	private static long getEntrySize(int length) {
+
+		return ENTRY_OVERHEAD + length * (long)(Double.BYTES * 2 + Integer.BYTES);
+	}
+
+	private void evict() {
+
+		Iterator<Entry> iterator = entries.values().iterator();
+		while(size > maxSize && iterator.hasNext()) {
+			size -= iterator.next().getSize();
+			iterator.remove();
+		}
+	}
+
+	/**
+	 * The compressed series of a configuration.
+	 */
+	public static class Entry {
+
+		private final CompressConfig config;
+		private final double[] xSeries;
+		private final double[] ySeries;
+		private final int[] indexes;
+
+		private Entry(CompressConfig config, double[] xSeries, double[] ySeries, int[] indexes) {
+
+			this.config = config;
+			this.xSeries = xSeries;
+			this.ySeries = ySeries;
+			this.indexes = indexes;
+		}
+
+		/**
+		 * Gets the compressed X series, which must not be modified.
+		 *
+		 * @return the compressed X series
+		 */
+		public double[] getXSeries() {
+
+			return xSeries;
+		}
+
+		/**
+		 * Gets the compressed Y series, which must not be modified.
+		 *
+		 * @return the compressed Y series
+		 */
+		public double[] getYSeries() {
+
+			return ySeries;
+		}
+
+		/**
+		 * Gets the compressed series indexes, which must not be modified.
+		 *
+		 * @return the compressed series indexes
+		 */
+		public int[] getIndexes() {
+
+			return indexes;
+		}
+
+		private long getSize() {
+
+			return getEntrySize(indexes.length);
+		}
+	}
+
+	/**
+	 * The key of a configuration. The ranges are rounded to a power of two close to the size of a pixel, so that
+	 * configurations which differ by a fraction of a pixel mostly have the same key.
+	 */
+	private static class Key {
+
+		private final long width;
+		private final long height;
+		private final long xLower;
+		private final long xUpper;
+		private final long yLower;
+		private final long yUpper;
+		private final boolean xLogScale;
+		private final boolean yLogScale;
+
+		private Key(CompressConfig config) {
+
+			width = config.getWidthInPixel();
+			height = config.getHeightInPixel();
+			double xStep = getStep(config.getXLowerValue(), config.getXUpperValue(), width);
+			double yStep = getStep(config.getYLowerValue(), config.getYUpperValue(), height);
+			xLower = Math.round(config.getXLowerValue() / xStep);
+			xUpper = Math.round(config.getXUpperValue() / xStep);
+			yLower = Math.round(config.getYLowerValue() / yStep);
+			yUpper = Math.round(config.getYUpperValue() / yStep);
+			xLogScale = config.isXLogScale();
+			yLogScale = config.isYLogScale();
+		}
+
+		private static double getStep(double lower, double upper, long pixels) {
+
+			return Math.scalb(1.0, Math.getExponent((upper - lower) / Math.max(1, pixels)));
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+
+			if(!(obj instanceof Key)) {
+				return false;
+			}
+			Key key = (Key)obj;
+			return width == key.width && height == key.height && xLower == key.xLower && xUpper == key.xUpper && yLower == key.yLower && yUpper == key.yUpper && xLogScale == key.xLogScale && yLogScale == key.yLogScale;
+		}
+
+		@Override
+		public int hashCode() {
+
+			return Arrays.hashCode(new long[]{width, height, xLower, xUpper, yLower, yUpper, xLogScale ? 1 : 0, yLogScale ? 1 : 0});
+		}
+	}
+}
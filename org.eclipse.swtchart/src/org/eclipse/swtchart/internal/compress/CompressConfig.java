@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.swtchart.internal.compress;
 
+import java.util.Objects;
+
 /**
  * Configuration for compression.
  */
@@ -97,10 +99,14 @@ public class CompressConfig {
 		return true;
 	}
 
+	/**
+	 * Gets the hash code, which only depends on the values compared exactly by {@link #equals(Object)}, since the
+	 * ranges are equal within a pixel. {@link CompressCache} looks up configurations by quantized ranges.
+	 */
 	@Override
 	public int hashCode() {
 
-		return 0;
+		return Objects.hash(widthInPixels, heightInPixels, xLogScale, yLogScale);
 	}
 
 	/**
@@ -12,12 +12,10 @@
  *******************************************************************************/
 package org.eclipse.swtchart.internal.compress;
 
-import java.util.ArrayList;
-
 /**
  * A compressor for line series data.
  */
-public class CompressLineSeries extends Compress {
+public class CompressLineSeries extends ChunkedCompress {
 
 	/** the state indicating the relation between previous and current data points */
 	enum STATE {
@@ -43,36 +41,143 @@ public class CompressLineSeries extends Compress {
 
 	/** the flag indicating whether the previous point is out of range */
 	private boolean isPrevOutOfRange;
+	/** the end of the x index range, nothing right of a gap beyond it can be connected to the x range */
+	private int xIndexRangeEnd;
+	/** the flag indicating whether a chunk of the index range is compressed */
+	private boolean isChunk;
+	/** the flag indicating whether the points have been compressed into pixel columns */
+	private boolean isColumnCompressed;
+	/** the pixel column whose points are collected from the pyramid */
+	private int column;
+	/** the indexes of the first, minimum, maximum and last point in the column */
+	private int[] columnIndexes = new int[4];
 
 	@Override
-	protected void addNecessaryPlots(ArrayList<Double> xList, ArrayList<Double> yList, ArrayList<Integer> indexList) {
+	protected void addNecessaryPlots() {
 
 		isPrevOutOfRange = true;
-		for(int i = 0; i < xSeries.length && i < ySeries.length; i++) {
+		isColumnCompressed = false;
+		int size = getSeriesSize();
+		int[] range = getXIndexRange();
+		int level = getLevelOfDetailLevel(range[0], range[1]);
+		if(level >= 0) {
+			// one point on each side of the x range to draw the lines into the range
+			addColumns(level, Math.max(0, range[0] - 1), Math.min(size, range[1] + 1));
+			return;
+		}
+		// the points left of the x range are never added, since the series is sorted
+		int from = getFirstIndexBeforeXRange();
+		xIndexRangeEnd = range[1];
+		// nothing right of the first point after the x range is added
+		int to = Math.min(size, range[1] + 1);
+		int chunks = getChunkCount(from, to);
+		if(chunks > 1) {
+			addChunks(from, to, chunks);
+		} else {
+			addPoints(from, size);
+		}
+	}
+
+	@Override
+	protected Object clone() throws CloneNotSupportedException {
+
+		CompressLineSeries compressor = (CompressLineSeries)super.clone();
+		// a copy may compress while this compressor compresses
+		compressor.columnIndexes = columnIndexes.clone();
+		return compressor;
+	}
+
+	/**
+	 * Continues the compression with the appended points. The state of the compression is derived from the point
+	 * before, and the grid of the previous point is kept. The pixel columns are compressed again.
+	 */
+	@Override
+	protected boolean addAppendedPlots(int from) {
+
+		if(isColumnCompressed || from == 0) {
+			return false;
+		}
+		// the compression has stepped out of the x range, and the appended points are right of it
+		if(x(from - 1) > xUpper) {
+			return true;
+		}
+		xIndexRangeEnd = getXIndexRange()[1];
+		isPrevOutOfRange = !isInRange(from - 1);
+		addPoints(Math.max(from, getFirstIndexBeforeXRange()), getSeriesSize());
+		return true;
+	}
+
+	/**
+	 * Compresses a chunk. The state at the start of the chunk is derived from the previous point, which is the same as
+	 * the state of a serial pass. Only the grid of the previous point is not known, so that a chunk may add one point
+	 * more than a serial pass, which draws the same pixels.
+	 */
+	@Override
+	protected void addChunk(int from, int to) {
+
+		isChunk = true;
+		isPrevOutOfRange = from == 0 || !isInRange(from - 1);
+		addPoints(from, to);
+	}
+
+	/**
+	 * Adds the compressed series of a chunk. A gap at the start of a chunk is only kept if there is a line to break.
+	 */
+	@Override
+	protected void addCompressedChunk(ChunkedCompress chunk) {
+
+		int start = 0;
+		if(chunk.compressedSize > 0 && Double.isNaN(chunk.compressedYSeries[0]) && (compressedSize == 0 || Double.isNaN(compressedYSeries[compressedSize - 1]))) {
+			start = 1;
+		}
+		for(int i = start; i < chunk.compressedSize; i++) {
+			addToList(chunk.compressedXSeries[i], chunk.compressedYSeries[i], chunk.compressedIndexes[i]);
+		}
+	}
+
+	/**
+	 * Adds the necessary points of the index range.
+	 * 
+	 * @param from
+	 *            the first index (inclusive)
+	 * @param to
+	 *            the last index (exclusive)
+	 */
+	private void addPoints(int from, int to) {
+
+		for(int i = from; i < to; i++) {
+			if(Double.isNaN(y(i))) {
+				addGap(i);
+				// nothing right of a gap can be connected to the x range
+				if(i >= xIndexRangeEnd) {
+					break;
+				}
+				continue;
+			}
 			STATE state = getState(i);
 			switch(state) {
 				case SteppingOutOfYRange:
-					addToList(xList, yList, indexList, xSeries[i], ySeries[i], i);
+					addToList(x(i), y(i), i);
 					break;
 				case SteppingOverYRange:
 				case SteppingInRange:
 				case SteppingInXRange:
-					addToList(xList, yList, indexList, xSeries[i - 1], ySeries[i - 1], i - 1);
-					addToList(xList, yList, indexList, xSeries[i], ySeries[i], i);
+					addPrevious(i);
+					addToList(x(i), y(i), i);
 					break;
 				case SteppingOverXRange:
 				case SteppingOutOfXRange:
-					addToList(xList, yList, indexList, xSeries[i - 1], ySeries[i - 1], i - 1);
-					addToList(xList, yList, indexList, xSeries[i], ySeries[i], i);
-					i = xSeries.length;
+					addPrevious(i);
+					addToList(x(i), y(i), i);
+					i = to;
 					break;
 				case SteppingOutOfRange:
-					addToList(xList, yList, indexList, xSeries[i], ySeries[i], i);
-					i = xSeries.length;
+					addToList(x(i), y(i), i);
+					i = to;
 					break;
 				case InRangeAgain:
-					if(!isInSameGridAsPrevious(xSeries[i], ySeries[i])) {
-						addToList(xList, yList, indexList, xSeries[i], ySeries[i], i);
+					if(!isInSameGridAsPrevious(i)) {
+						addToList(x(i), y(i), i);
 					}
 					break;
 				case OutOfRangeAgain:
@@ -83,6 +188,159 @@ public class CompressLineSeries extends Compress {
 		}
 	}
 
+	/**
+	 * Adds the point before the given index, unless it is a gap.
+	 * 
+	 * @param index
+	 *            the series index
+	 */
+	private void addPrevious(int index) {
+
+		if(!Double.isNaN(y(index - 1))) {
+			addToList(x(index - 1), y(index - 1), index - 1);
+		}
+	}
+
+	/**
+	 * Adds a gap, which breaks the line. A point with NaN as Y coordinate is added once for consecutive gaps and only if
+	 * there is a line to break.
+	 * 
+	 * @param index
+	 *            the series index of the gap
+	 */
+	private void addGap(int index) {
+
+		// a chunk does not know the points before, the gap is dropped when the chunks are added if not needed
+		if(compressedSize > 0 ? !Double.isNaN(compressedYSeries[compressedSize - 1]) : isChunk) {
+			addToList(x(index), Double.NaN, index);
+		}
+		isPrevOutOfRange = true;
+		previousXGridIndex = -1;
+		previousYGridIndex = -1;
+	}
+
+	/**
+	 * Adds the first, minimum, maximum and last point of each pixel column in the index range. The buckets of the
+	 * pyramid are used for the given level, otherwise every point is visited. The points out of the y range are left
+	 * to the clipping, and a gap breaks the line.
+	 * 
+	 * @param level
+	 *            the level of the pyramid, or -1 to visit every point
+	 * @param from
+	 *            the first index (inclusive)
+	 * @param to
+	 *            the last index (exclusive)
+	 */
+	protected void addColumns(int level, int from, int to) {
+
+		isPrevOutOfRange = true;
+		isColumnCompressed = true;
+		column = Integer.MIN_VALUE;
+		if(level >= 0) {
+			addBuckets(level, from, to);
+		} else {
+			for(int i = from; i < to; i++) {
+				addToColumn(i, i, i, i);
+			}
+		}
+		addColumn();
+	}
+
+	/**
+	 * Collects the buckets of the given level in the index range into pixel columns. Buckets which are within one
+	 * column are taken as a whole, the others are split into the buckets of the level below. The points out of the y
+	 * range are left to the clipping. Buckets without any valid point break the line, gaps within a pixel column are
+	 * not visible at this resolution.
+	 * 
+	 * @param level
+	 *            the level of the pyramid
+	 * @param from
+	 *            the first index (inclusive)
+	 * @param to
+	 *            the last index (exclusive)
+	 */
+	private void addBuckets(int level, int from, int to) {
+
+		LevelOfDetail levelOfDetail = getLevelOfDetail();
+		int bucketSize = levelOfDetail.getBucketSize(level);
+		int i = from;
+		while(i < to) {
+			int bucket = i / bucketSize;
+			int start = bucket * bucketSize;
+			int end = (int)Math.min((long)start + bucketSize, to);
+			if(start == i && end - start == bucketSize && getXGridIndexAt(start) == getXGridIndexAt(end - 1)) {
+				addToColumn(start, end - 1, levelOfDetail.getMinIndex(level, bucket), levelOfDetail.getMaxIndex(level, bucket));
+			} else if(level > 0) {
+				addBuckets(level - 1, i, end);
+			} else {
+				for(int j = i; j < end; j++) {
+					addToColumn(j, j, j, j);
+				}
+			}
+			i = end;
+		}
+	}
+
+	/**
+	 * Adds the points of an index range within one pixel column to the column. The current column is added first if
+	 * the points are in the next column.
+	 * 
+	 * @param first
+	 *            the index of the first point
+	 * @param last
+	 *            the index of the last point
+	 * @param minIndex
+	 *            the index of the point with the minimum Y coordinate
+	 * @param maxIndex
+	 *            the index of the point with the maximum Y coordinate
+	 */
+	private void addToColumn(int first, int last, int minIndex, int maxIndex) {
+
+		if(Double.isNaN(y(minIndex))) {
+			// the points are all gaps
+			addColumn();
+			column = Integer.MIN_VALUE;
+			addGap(first);
+			return;
+		}
+		int xGridIndex = getXGridIndexAt(first);
+		if(xGridIndex != column) {
+			addColumn();
+			column = xGridIndex;
+			columnIndexes[0] = first;
+			columnIndexes[1] = minIndex;
+			columnIndexes[2] = maxIndex;
+		} else {
+			if(y(minIndex) < y(columnIndexes[1]) || Double.isNaN(y(columnIndexes[1]))) {
+				columnIndexes[1] = minIndex;
+			}
+			if(y(maxIndex) > y(columnIndexes[2]) || Double.isNaN(y(columnIndexes[2]))) {
+				columnIndexes[2] = maxIndex;
+			}
+		}
+		columnIndexes[3] = last;
+	}
+
+	/**
+	 * Adds the first, minimum, maximum and last point of the current column in the order of the series, which draws
+	 * the same pixels as all points of the column.
+	 */
+	private void addColumn() {
+
+		if(column == Integer.MIN_VALUE) {
+			return;
+		}
+		int minIndex = Math.min(columnIndexes[1], columnIndexes[2]);
+		int maxIndex = Math.max(columnIndexes[1], columnIndexes[2]);
+		int previous = -1;
+		for(int index : new int[]{columnIndexes[0], minIndex, maxIndex, columnIndexes[3]}) {
+			if(index != previous && !Double.isNaN(y(index))) {
+				addToList(x(index), y(index), index);
+				previous = index;
+			}
+		}
+	}
+
 	/**
 	 * Gets the state for each plot.
 	 * 
@@ -93,8 +351,8 @@ public class CompressLineSeries extends Compress {
 	private STATE getState(int index) {
 
 		STATE state;
-		if(xLower <= xSeries[index] && xSeries[index] <= xUpper) {
-			if(yLower <= ySeries[index] && ySeries[index] <= yUpper) {
+		if(xLower <= x(index) && x(index) <= xUpper) {
+			if(yLower <= y(index) && y(index) <= yUpper) {
 				if(index > 0 && isPrevOutOfRange) {
 					state = STATE.SteppingInRange;
 				} else {
@@ -102,9 +360,9 @@ public class CompressLineSeries extends Compress {
 				}
 			} else {
 				if(isPrevOutOfRange) {
-					if(index > 0 && ((ySeries[index - 1] < yLower && ySeries[index] > yUpper) || ySeries[index - 1] > yUpper && ySeries[index] < yLower)) {
+					if(index > 0 && ((y(index - 1) < yLower && y(index) > yUpper) || y(index - 1) > yUpper && y(index) < yLower)) {
 						state = STATE.SteppingOverYRange;
-					} else if(index > 0 && xSeries[index - 1] < xLower && xSeries[index] > xLower) {
+					} else if(index > 0 && x(index - 1) < xLower && x(index) > xLower) {
 						state = STATE.SteppingInXRange;
 					} else {
 						state = STATE.OutOfRangeAgain;
@@ -116,20 +374,28 @@ public class CompressLineSeries extends Compress {
 		} else {
 			if(!isPrevOutOfRange) {
 				state = STATE.SteppingOutOfRange;
-			} else if(index > 0 && xSeries[index - 1] < xUpper && xSeries[index] > xUpper) {
+			} else if(index > 0 && x(index - 1) < xUpper && x(index) > xUpper) {
 				state = STATE.SteppingOutOfXRange;
-			} else if(index > 0 && xSeries[index - 1] < xLower && xSeries[index] > xUpper) {
+			} else if(index > 0 && x(index - 1) < xLower && x(index) > xUpper) {
 				state = STATE.SteppingOverXRange;
 			} else {
 				state = STATE.OutOfRangeAgain;
 			}
 		}
 		// set flag
-		if(xLower <= xSeries[index] && xSeries[index] <= xUpper && yLower <= ySeries[index] && ySeries[index] <= yUpper) {
-			isPrevOutOfRange = false;
-		} else {
-			isPrevOutOfRange = true;
-		}
+		isPrevOutOfRange = !isInRange(index);
 		return state;
 	}
+
+	/**
+	 * Gets the state indicating whether the point is in the x and y range.
+	 * 
+	 * @param index
+	 *            the series index
+	 * @return true if the point is in range
+	 */
+	private boolean isInRange(int index) {
+
+		return xLower <= x(index) && x(index) <= xUpper && yLower <= y(index) && y(index) <= yUpper;
+	}
 }
@@ -0,0 +1,32 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * 
+ * Contributors:
+ * SWTChart contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.internal.compress;
+
+/**
+ * A compressor for line series data which keeps the first, minimum, maximum and last point of each pixel column
+ * (M4). Unlike {@link CompressLineSeries}, which drops the points in the same grid cell as the previous point, the
+ * number of compressed points is at most four times the width regardless of the number of source points, and no
+ * peak is lost. The series has to be sorted by X.
+ */
+public class CompressMinMaxLineSeries extends CompressLineSeries {
+
+	@Override
+	protected void addNecessaryPlots() {
+
+		int size = getSeriesSize();
+		int[] range = getXIndexRange();
+		int level = getLevelOfDetailLevel(range[0], range[1]);
+		// one point on each side of the x range to draw the lines into the range
+		addColumns(level, Math.max(0, range[0] - 1), Math.min(size, range[1] + 1));
+	}
+}
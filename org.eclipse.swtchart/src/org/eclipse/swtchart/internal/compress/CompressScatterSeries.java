@@ -3,8 +3,8 @@
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
- * which is available at https://www.eclipse.org/legal/epl-2.0/
- *
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
  * SPDX-License-Identifier: EPL-2.0
  * 
  * Contributors:
@@ -12,75 +12,173 @@
  *******************************************************************************/
 package org.eclipse.swtchart.internal.compress;
 
-import java.util.ArrayList;
-
 /**
  * A compressor for scatter series data
  */
-public class CompressScatterSeries extends Compress {
+public class CompressScatterSeries extends ChunkedCompress {
 
 	/** the state indicating if line is visible */
 	private boolean isLineVisible;
-	/** flag indicating whether the grid is occupied */
-	private boolean occupied[][];
+	/** the pixels which are covered by the symbols */
+	private OccupancyBitmap occupied;
+	/** the radius of the pixels which a symbol may draw */
+	private int symbolRadius;
+	/** the radius of the pixels which a symbol surely fills */
+	private int coveredRadius;
+	/** the state indicating if the points at each pixel are counted */
+	private boolean isHitCounted;
 
 	@Override
-	protected void addNecessaryPlots(ArrayList<Double> xList, ArrayList<Double> yList, ArrayList<Integer> indexList) {
+	protected void addNecessaryPlots() {
 
 		if(isLineVisible) {
-			for(int i = 0; i < xSeries.length && i < ySeries.length; i++) {
-				if(!isInSameGridAsPrevious(xSeries[i], ySeries[i])) {
-					addToList(xList, yList, indexList, xSeries[i], ySeries[i], i);
-				}
+			int size = getSeriesSize();
+			int chunks = getChunkCount(0, size);
+			if(chunks > 1) {
+				addChunks(0, size, chunks);
+			} else {
+				addPoints(0, size);
 			}
 		} else {
 			int width = (int)config.getWidthInPixel();
 			int height = (int)config.getHeightInPixel();
 			if(width <= 0 || height <= 0) {
+				occupied = null;
 				return;
 			}
 			// initialize flag
-			occupied = new boolean[width][height];
-			for(int i = 0; i < xSeries.length && i < ySeries.length; i++) {
-				if(xSeries[i] >= xLower && xSeries[i] <= xUpper && ySeries[i] >= yLower && ySeries[i] <= yUpper && !isOccupied(xSeries[i], ySeries[i])) {
-					addToList(xList, yList, indexList, xSeries[i], ySeries[i], i);
-				}
+			occupied = new OccupancyBitmap(width, height, isHitCounted);
+			int[] range = getXIndexRange();
+			int chunks = getChunkCount(range[0], range[1]);
+			if(chunks > 1) {
+				addChunks(range[0], range[1], chunks);
+			} else {
+				addPoints(range[0], range[1]);
 			}
 		}
 	}
 
 	/**
-	 * check if the grid is already occupied
-	 * 
-	 * @param x
-	 *            the X coordinate
-	 * @param y
-	 *            the Y coordinate
-	 * @return true if the grid is already occupied
+	 * Compresses a chunk. With line, the grid of the point before the chunk is the previous grid as in a serial pass.
+	 * Without line, the chunk has its own occupied grid, and the points are checked against the occupied grid of the
+	 * series again when the chunks are added. A point which is not drawn in a chunk is covered by the points before it,
+	 * so it is not drawn by a serial pass either.
 	 */
-	private boolean isOccupied(double x, double y) {
-
-		int xGridIndex;
-		int yGridIndex;
-		// calculate the X grid index
-		if(config.isXLogScale()) {
-			double lower = Math.log10(config.getXLowerValue());
-			double upper = Math.log10(config.getXUpperValue());
-			xGridIndex = (int)((Math.log10(x) - lower) / (upper - lower) * config.getWidthInPixel());
+	@Override
+	protected void addChunk(int from, int to) {
+
+		if(isLineVisible) {
+			if(from > 0) {
+				isInSameGridAsPrevious(from - 1);
+			}
 		} else {
-			xGridIndex = (int)((x - config.getXLowerValue()) / (config.getXUpperValue() - config.getXLowerValue()) * config.getWidthInPixel());
+			occupied = new OccupancyBitmap(occupied.getWidth(), occupied.getHeight(), isHitCounted);
+		}
+		addPoints(from, to);
+	}
+
+	/**
+	 * Continues the compression with the appended points. With line, the grid of the point before is the previous
+	 * grid. Without line, the occupied grid of the last compression is kept.
+	 */
+	@Override
+	protected boolean addAppendedPlots(int from) {
+
+		if(isLineVisible) {
+			if(from > 0) {
+				isInSameGridAsPrevious(from - 1);
+			}
+			addPoints(from, getSeriesSize());
+		} else if(occupied != null) {
+			int[] range = getXIndexRange();
+			addPoints(Math.max(from, range[0]), range[1]);
 		}
-		// calculate the Y grid index
-		if(config.isYLogScale()) {
-			double lower = Math.log10(config.getYLowerValue());
-			double upper = Math.log10(config.getYUpperValue());
-			yGridIndex = (int)((Math.log10(y) - lower) / (upper - lower) * config.getHeightInPixel());
+		return true;
+	}
+
+	@Override
+	protected void addCompressedChunk(ChunkedCompress chunk) {
+
+		if(!isLineVisible) {
+			occupied.addHits(((CompressScatterSeries)chunk).occupied);
+		}
+		for(int i = 0; i < chunk.compressedSize; i++) {
+			int index = chunk.compressedIndexes[i];
+			if(isLineVisible || !isOccupied(getColumn(getXGridIndexAt(index)), getRow(getYGridIndexAt(index)))) {
+				addToList(chunk.compressedXSeries[i], chunk.compressedYSeries[i], index);
+			}
+		}
+	}
+
+	/**
+	 * Without line, the occupied grid is not cached, which keeps the hit counts and is continued by appended points.
+	 */
+	@Override
+	protected boolean isCacheable() {
+
+		return isLineVisible;
+	}
+
+	/**
+	 * Adds the necessary points of the index range.
+	 * 
+	 * @param from
+	 *            the first index (inclusive)
+	 * @param to
+	 *            the last index (exclusive)
+	 */
+	private void addPoints(int from, int to) {
+
+		if(isLineVisible) {
+			for(int i = from; i < to; i++) {
+				if(!isInSameGridAsPrevious(i)) {
+					addToList(x(i), y(i), i);
+				}
+			}
 		} else {
-			yGridIndex = (int)((y - config.getYLowerValue()) / (config.getYUpperValue() - config.getYLowerValue()) * config.getHeightInPixel());
+			for(int i = from; i < to; i++) {
+				if(x(i) >= xLower && x(i) <= xUpper && y(i) >= yLower && y(i) <= yUpper) {
+					int column = getColumn(getXGridIndexAt(i));
+					int row = getRow(getYGridIndexAt(i));
+					occupied.hit(column, row);
+					if(!isOccupied(column, row)) {
+						addToList(x(i), y(i), i);
+					}
+				}
+			}
 		}
-		boolean isOccupied = occupied[xGridIndex][yGridIndex];
-		occupied[xGridIndex][yGridIndex] = true;
-		return isOccupied;
+	}
+
+	/**
+	 * check if the pixels of the symbol are already occupied, otherwise they are occupied now
+	 * 
+	 * @param column
+	 *            the pixel column of the symbol
+	 * @param row
+	 *            the pixel row of the symbol
+	 * @return true if the pixels are already occupied
+	 */
+	private boolean isOccupied(int column, int row) {
+
+		return !occupied.cover(column, row, symbolRadius, coveredRadius);
+	}
+
+	/**
+	 * Gets the pixel column of the occupied grid for the given X grid index, the upper value of the x range is in the
+	 * last column.
+	 */
+	private int getColumn(int xGridIndex) {
+
+		return Math.min(xGridIndex, occupied.getWidth() - 1);
+	}
+
+	/**
+	 * Gets the pixel row of the occupied grid for the given Y grid index, the upper value of the y range is in the last
+	 * row.
+	 */
+	private int getRow(int yGridIndex) {
+
+		return Math.min(yGridIndex, occupied.getHeight() - 1);
 	}
 
 	/**
@@ -91,6 +189,69 @@ public class CompressScatterSeries extends Compress {
 	 */
 	public void setLineVisible(boolean visible) {
 
-		isLineVisible = visible;
+		if(isLineVisible != visible) {
+			isLineVisible = visible;
+			invalidate();
+		}
+	}
+
+	/**
+	 * Sets the pixels of the symbols, if the line is not visible. A point is only added if its symbol draws a pixel
+	 * which is not covered by the symbols of the points before. By default, a symbol is a single pixel.
+	 * 
+	 * @param radius
+	 *            the radius of the pixels which a symbol may draw
+	 * @param coveredRadius
+	 *            the radius of the pixels which a symbol surely fills, e.g. the square inscribed in a circle, which
+	 *            must not exceed the radius
+	 */
+	public void setSymbolFootprint(int radius, int coveredRadius) {
+
+		radius = Math.max(0, radius);
+		coveredRadius = Math.max(0, Math.min(radius, coveredRadius));
+		if(symbolRadius != radius || this.coveredRadius != coveredRadius) {
+			symbolRadius = radius;
+			this.coveredRadius = coveredRadius;
+			invalidate();
+		}
+	}
+
+	/**
+	 * Sets the state indicating if the points at each pixel are counted, e.g. for density shading.
+	 * 
+	 * @param counted
+	 *            true to count the points, if the line is not visible
+	 * @see #getHitCount(double, double)
+	 */
+	public void setHitCounted(boolean counted) {
+
+		if(isHitCounted != counted) {
+			isHitCounted = counted;
+			invalidate();
+		}
+	}
+
+	/**
+	 * Gets the number of points in the x and y range at the pixel of the given coordinate.
+	 * 
+	 * @param x
+	 *            the X coordinate
+	 * @param y
+	 *            the Y coordinate
+	 * @return the number of points, or 0 if the points are not counted
+	 */
+	public int getHitCount(double x, double y) {
+
+		return occupied == null ? 0 : occupied.getHitCount(getColumn(getXGridIndex(x)), getRow(getYGridIndex(y)));
+	}
+
+	/**
+	 * Gets the maximum number of points at a pixel.
+	 * 
+	 * @return the maximum number of points, or 0 if the points are not counted
+	 */
+	public int getMaxHitCount() {
+
+		return occupied == null ? 0 : occupied.getMaxHitCount();
 	}
 }
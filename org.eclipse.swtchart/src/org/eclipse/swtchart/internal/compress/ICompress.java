@@ -12,6 +12,8 @@
  *******************************************************************************/
 package org.eclipse.swtchart.internal.compress;
 
+import org.eclipse.swtchart.model.DoubleIndexedSeriesModel;
+
 /**
  * A Compressor.
  */
@@ -38,6 +40,39 @@ public interface ICompress {
 	 */
 	public abstract int[] getCompressedIndexes();
 
+	/**
+	 * Gets the number of points in the compressed series.
+	 * 
+	 * @return the compressed size
+	 */
+	public abstract int getCompressedSize();
+
+	/**
+	 * Gets the compressed X series without copying it. The array is owned by
+	 * the compressor and reused by the next compression, so it must not be
+	 * modified and only the first {@link #getCompressedSize()} values are
+	 * valid.
+	 * 
+	 * @return the array backing the compressed X series
+	 */
+	public abstract double[] getCompressedXBuffer();
+
+	/**
+	 * Gets the compressed Y series without copying it.
+	 * 
+	 * @return the array backing the compressed Y series
+	 * @see #getCompressedXBuffer()
+	 */
+	public abstract double[] getCompressedYBuffer();
+
+	/**
+	 * Gets the compressed series indexes without copying them.
+	 * 
+	 * @return the array backing the compressed series indexes
+	 * @see #getCompressedXBuffer()
+	 */
+	public abstract int[] getCompressedIndexBuffer();
+
 	/**
 	 * Sets X series which have to be sorted.
 	 * 
@@ -54,6 +89,49 @@ public interface ICompress {
 	 */
 	public abstract void setYSeries(double[] ySeries);
 
+	/**
+	 * Sets the X and Y series from the given model. The values are read
+	 * directly from the model while compressing instead of being copied.
+	 * 
+	 * @param model
+	 *            the series model
+	 */
+	public abstract void setSeries(DoubleIndexedSeriesModel model);
+
+	/**
+	 * Sets the X and Y series from the given model, which has the points of
+	 * the current model and points appended from the given index. If the
+	 * configuration does not change, the next compression only adds the
+	 * appended points to the compressed series. Otherwise, this is the same as
+	 * {@link #setSeries(DoubleIndexedSeriesModel)}.
+	 * 
+	 * @param model
+	 *            the series model
+	 * @param from
+	 *            the index of the first appended point
+	 */
+	public abstract void appendSeries(DoubleIndexedSeriesModel model, int from);
+
+	/**
+	 * Sets the multi-resolution pyramid of the series model, which is used to
+	 * compress large series without visiting every point. The pyramid is
+	 * ignored if it has not been built for the current series model.
+	 * 
+	 * @param levelOfDetail
+	 *            the pyramid, or null to compress the source points
+	 */
+	public abstract void setLevelOfDetail(LevelOfDetail levelOfDetail);
+
+	/**
+	 * Sets the maximum size in bytes of the compressed series which are
+	 * cached for the recently used configurations, so that returning to a
+	 * previous zoom level does not compress the series again.
+	 * 
+	 * @param size
+	 *            the size in bytes, 0 to disable the cache
+	 */
+	public abstract void setCacheSize(long size);
+
 	/**
 	 * Ignores the points which are in the same grid as the previous point.
 	 * 
@@ -0,0 +1,223 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * 
+ * Contributors:
+ * SWTChart contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.internal.compress;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.eclipse.swtchart.model.DoubleIndexedSeriesModel;
+
+/**
+ * A multi-resolution pyramid of a series, which lets compressors draw large series without visiting every point.
+ * <p>
+ * The points are grouped into buckets of {@value #BASE_BUCKET_SIZE} points, and every further level groups
+ * {@value #FACTOR} buckets of the level below. For each bucket the source indexes of the minimum and maximum y value
+ * are stored, the first and last point of a bucket are given by its bounds. The levels need about two thirds of a byte
+ * per point and are built in parallel. The pyramid is a snapshot of the model, it has to be rebuilt if the model
+ * changes.
+ * </p>
+ */
+public class LevelOfDetail {
+
+	/** the number of points per bucket of the lowest level */
+	public static final int BASE_BUCKET_SIZE = 16;
+	/** the number of buckets of a level which are grouped in a bucket of the next level */
+	public static final int FACTOR = 4;
+	/** the number of buckets which are built by one task */
+	private static final int BUCKETS_PER_TASK = 4096;
+	private final DoubleIndexedSeriesModel model;
+	private final int size;
+	/** the indexes of the minimum y values per level and bucket */
+	private final int[][] minIndexes;
+	/** the indexes of the maximum y values per level and bucket */
+	private final int[][] maxIndexes;
+
+	/**
+	 * Builds the pyramid for the given model.
+	 *
+	 * @param model
+	 *            the model, whose values must not change while the pyramid is used
+	 */
+	public LevelOfDetail(DoubleIndexedSeriesModel model) {
+
+		this.model = model;
+		this.size = model.size();
+		List<int[]> minList = new ArrayList<int[]>();
+		List<int[]> maxList = new ArrayList<int[]>();
+		int bucketSize = BASE_BUCKET_SIZE;
+		int[] minLevel = null;
+		int[] maxLevel = null;
+		while(bucketSize <= size) {
+			int buckets = (int)(((long)size + bucketSize - 1) / bucketSize);
+			int[] min = new int[buckets];
+			int[] max = new int[buckets];
+			if(minLevel == null) {
+				buildBaseLevel(min, max);
+			} else {
+				buildLevel(minLevel, maxLevel, min, max);
+			}
+			minList.add(min);
+			maxList.add(max);
+			minLevel = min;
+			maxLevel = max;
+			if(bucketSize > Integer.MAX_VALUE / FACTOR) {
+				break;
+			}
+			bucketSize *= FACTOR;
+		}
+		minIndexes = minList.toArray(new int[minList.size()][]);
+		maxIndexes = maxList.toArray(new int[maxList.size()][]);
+	}
+
+	/**
+	 * Gets the model of the pyramid.
+	 *
+	 * @return the model
+	 */
+	public DoubleIndexedSeriesModel getModel() {
+
+		return model;
+	}
+
+	/**
+	 * Gets the number of points the pyramid has been built for.
+	 *
+	 * @return the number of points
+	 */
+	public int size() {
+
+		return size;
+	}
+
+	/**
+	 * Gets the number of levels.
+	 *
+	 * @return the number of levels
+	 */
+	public int getLevelCount() {
+
+		return minIndexes.length;
+	}
+
+	/**
+	 * Gets the number of points per bucket of the given level.
+	 *
+	 * @param level
+	 *            the level
+	 * @return the number of points per bucket
+	 */
+	public int getBucketSize(int level) {
+
+		int bucketSize = BASE_BUCKET_SIZE;
+		for(int i = 0; i < level; i++) {
+			bucketSize *= FACTOR;
+		}
+		return bucketSize;
+	}
+
+	/**
+	 * Gets the coarsest level whose buckets do not contain more than the given number of points.
+	 *
+	 * @param pointsPerPixel
+	 *            the number of points per pixel
+	 * @return the level, or -1 if the points have to be drawn without the pyramid
+	 */
+	public int getLevel(double pointsPerPixel) {
+
+		int level = -1;
+		while(level + 1 < getLevelCount() && getBucketSize(level + 1) <= pointsPerPixel) {
+			level++;
+		}
+		return level;
+	}
+
+	/**
+	 * Gets the index of the point with the minimum y value of a bucket, NaN values are ignored.
+	 *
+	 * @param level
+	 *            the level
+	 * @param bucket
+	 *            the bucket
+	 * @return the source index
+	 */
+	public int getMinIndex(int level, int bucket) {
+
+		return minIndexes[level][bucket];
+	}
+
+	/**
+	 * Gets the index of the point with the maximum y value of a bucket, NaN values are ignored.
+	 *
+	 * @param level
+	 *            the level
+	 * @param bucket
+	 *            the bucket
+	 * @return the source index
+	 */
+	public int getMaxIndex(int level, int bucket) {
+
+		return maxIndexes[level][bucket];
+	}
+
+	private void buildBaseLevel(int[] min, int[] max) {
+
+		IntStream.range(0, (min.length + BUCKETS_PER_TASK - 1) / BUCKETS_PER_TASK).parallel().forEach(task -> {
+			int last = Math.min(min.length, (task + 1) * BUCKETS_PER_TASK);
+			for(int bucket = task * BUCKETS_PER_TASK; bucket < last; bucket++) {
+				int from = bucket * BASE_BUCKET_SIZE;
+				int to = Math.min(size, from + BASE_BUCKET_SIZE);
+				int minIndex = from;
+				int maxIndex = from;
+				double minY = model.y(from);
+				double maxY = minY;
+				for(int i = from + 1; i < to; i++) {
+					double y = model.y(i);
+					if(y < minY || Double.isNaN(minY)) {
+						minY = y;
+						minIndex = i;
+					}
+					if(y > maxY || Double.isNaN(maxY)) {
+						maxY = y;
+						maxIndex = i;
+					}
+				}
+				min[bucket] = minIndex;
+				max[bucket] = maxIndex;
+			}
+		});
+	}
+
+	private void buildLevel(int[] lowerMin, int[] lowerMax, int[] min, int[] max) {
+
+		IntStream.range(0, (min.length + BUCKETS_PER_TASK - 1) / BUCKETS_PER_TASK).parallel().forEach(task -> {
+			int last = Math.min(min.length, (task + 1) * BUCKETS_PER_TASK);
+			for(int bucket = task * BUCKETS_PER_TASK; bucket < last; bucket++) {
+				int from = bucket * FACTOR;
+				int to = Math.min(lowerMin.length, from + FACTOR);
+				int minIndex = lowerMin[from];
+				int maxIndex = lowerMax[from];
+				for(int i = from + 1; i < to; i++) {
+					if(model.y(lowerMin[i]) < model.y(minIndex) || Double.isNaN(model.y(minIndex))) {
+						minIndex = lowerMin[i];
+					}
+					if(model.y(lowerMax[i]) > model.y(maxIndex) || Double.isNaN(model.y(maxIndex))) {
+						maxIndex = lowerMax[i];
+					}
+				}
+				min[bucket] = minIndex;
+				max[bucket] = maxIndex;
+			}
+		});
+	}
+}
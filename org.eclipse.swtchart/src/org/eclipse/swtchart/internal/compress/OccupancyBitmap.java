@@ -0,0 +1,196 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * SWTChart contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.internal.compress;
+
+/**
+ * A bitmap of the pixels of the plot area which are covered by the symbols drawn so far. A symbol only has to be drawn
+ * if it covers a pixel which is not covered yet, so the number of drawn symbols depends on the plot area rather than
+ * on the number of points. Optionally, the number of points at each pixel is counted, e.g. for density shading.
+ */
+public class OccupancyBitmap {
+
+	private final int width;
+	private final int height;
+	private final int wordsPerRow;
+	private final long[] bits;
+	private final int[] hitCounts;
+	private int maxHitCount;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param width
+	 *            the width in pixels
+	 * @param height
+	 *            the height in pixels
+	 * @param countHits
+	 *            true to count the points at each pixel
+	 */
+	public OccupancyBitmap(int width, int height, boolean countHits) {
+
+		this.width = width;
+		this.height = height;
+		wordsPerRow = (width + 63) >>> 6;
+		bits = new long[wordsPerRow * height];
+		hitCounts = countHits ? new int[width * height] : null;
+	}
+
+	/**
+	 * Gets the width in pixels.
+	 *
+	 * @return the width
+	 */
+	public int getWidth() {
+
+		return width;
+	}
+
+	/**
+	 * Gets the height in pixels.
+	 *
+	 * @return the height
+	 */
+	public int getHeight() {
+
+		return height;
+	}
+
+	/**
+	 * Covers the pixels of a symbol. The symbol has to be drawn if a pixel within the given radius is not covered yet,
+	 * in which case the pixels within the covered radius are set. The covered radius must not exceed the pixels which
+	 * the symbol surely fills, e.g. the square inscribed in a circle. Pixels outside the bitmap are ignored.
+	 *
+	 * @param x
+	 *            the pixel column of the center
+	 * @param y
+	 *            the pixel row of the center
+	 * @param radius
+	 *            the radius of the pixels which the symbol may draw
+	 * @param coveredRadius
+	 *            the radius of the pixels which the symbol fills
+	 * @return true if the symbol covers a pixel which is not covered yet
+	 */
+	public boolean cover(int x, int y, int radius, int coveredRadius) {
+
+		if(!isCovered(x, y, radius)) {
+			set(x, y, coveredRadius);
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Counts a point at the given pixel, if the hits are counted.
+	 *
+	 * @param x
+	 *            the pixel column
+	 * @param y
+	 *            the pixel row
+	 */
+	public void hit(int x, int y) {
+
+		if(hitCounts != null && x >= 0 && x < width && y >= 0 && y < height) {
+			maxHitCount = Math.max(maxHitCount, ++hitCounts[y * width + x]);
+		}
+	}
+
+	/**
+	 * Adds the hits counted by the given bitmap of the same size.
+	 *
+	 * @param bitmap
+	 *            the bitmap
+	 */
+	public void addHits(OccupancyBitmap bitmap) {
+
+		if(hitCounts == null || bitmap.hitCounts == null) {
+			return;
+		}
+		for(int i = 0; i < hitCounts.length; i++) {
+			hitCounts[i] += bitmap.hitCounts[i];
+			maxHitCount = Math.max(maxHitCount, hitCounts[i]);
+		}
+	}
+
+	/**
+	 * Gets the number of points at the given pixel.
+	 *
+	 * @param x
+	 *            the pixel column
+	 * @param y
+	 *            the pixel row
+	 * @return the number of points, or 0 if the hits are not counted
+	 */
+	public int getHitCount(int x, int y) {
+
+		if(hitCounts == null || x < 0 || x >= width || y < 0 || y >= height) {
+			return 0;
+		}
+		return hitCounts[y * width + x];
+	}
+
+	/**
+	 * Gets the maximum number of points at a pixel.
+	 *
+	 * @return the maximum number of points
+	 */
+	public int getMaxHitCount() {
+
+		return maxHitCount;
+	}
+
+	private boolean isCovered(int x, int y, int radius) {
+
+		int fromX = Math.max(0, x - radius);
+		int toX = Math.min(width - 1, x + radius);
+		int fromY = Math.max(0, y - radius);
+		int toY = Math.min(height - 1, y + radius);
+		if(fromX > toX || fromY > toY) {
+			// nothing to draw within the bitmap
+			return true;
+		}
+		for(int row = fromY; row <= toY; row++) {
+			int offset = row * wordsPerRow;
+			for(int word = fromX >>> 6; word <= toX >>> 6; word++) {
+				long mask = getMask(word, fromX, toX);
+				if((bits[offset + word] & mask) != mask) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	private void set(int x, int y, int radius) {
+
+		int fromX = Math.max(0, x - radius);
+		int toX = Math.min(width - 1, x + radius);
+		int fromY = Math.max(0, y - radius);
+		int toY = Math.min(height - 1, y + radius);
+		for(int row = fromY; row <= toY; row++) {
+			int offset = row * wordsPerRow;
+			for(int word = fromX >>> 6; word <= toX >>> 6; word++) {
+				bits[offset + word] |= getMask(word, fromX, toX);
+			}
+		}
+	}
+
+	/**
+	 * Gets the bits of the given word which are within the pixel columns.
+	 */
+	private static long getMask(int word, int fromX, int toX) {
+
+		int first = Math.max(fromX, word << 6) & 63;
+		int last = Math.min(toX, (word << 6) + 63) & 63;
+		return (-1L << first) & (-1L >>> (63 - last));
+	}
+}
@@ -28,7 +28,7 @@ import org.eclipse.swtchart.internal.axis.Axis;
 import org.eclipse.swtchart.internal.compress.CompressBarSeries;
 import org.eclipse.swtchart.internal.compress.CompressScatterSeries;
 import org.eclipse.swtchart.model.CartesianSeriesModel;
-import org.eclipse.swtchart.model.DoubleArraySeriesModel;
+import org.eclipse.swtchart.model.DoubleIndexedSeriesModel;
 
 /**
  * Bar series.
@@ -47,6 +47,8 @@ public class BarSeries<T> extends Series<T> implements IBarSeries<T> {
 	private boolean barOverlay;
 	/** the bar width style */
 	private BarWidthStyle barWidthStyle;
+	/** the aggregation of the bars in a pixel column */
+	private BarAggregation barAggregation;
 	/** the initial bar width in pixels */
 	public static final int INITIAL_BAR_WIDTH = 20;
 	/** the initial bar padding in percentage */
@@ -74,6 +76,7 @@ public class BarSeries<T> extends Series<T> implements IBarSeries<T> {
 		barWidth = INITIAL_PADDING;
 		padding = INITIAL_PADDING;
 		barOverlay = false;
+		barAggregation = BarAggregation.MAX;
 		type = SeriesType.BAR;
 		compressor = new CompressBarSeries();
 	}
@@ -132,6 +135,30 @@ public class BarSeries<T> extends Series<T> implements IBarSeries<T> {
 		this.barOverlay = barOverlay;
 	}
 
+	@Override
+	public BarAggregation getBarAggregation() {
+
+		return barAggregation;
+	}
+
+	@Override
+	public void setBarAggregation(BarAggregation aggregation) {
+
+		if(aggregation == null) {
+			this.barAggregation = BarAggregation.MAX;
+		} else {
+			this.barAggregation = aggregation;
+		}
+	}
+
+	@Override
+	protected void prepareCompressor() {
+
+		if(compressor instanceof CompressBarSeries) {
+			((CompressBarSeries)compressor).setAggregation(barAggregation);
+		}
+	}
+
 	@Override
 	public Color getBarColor() {
 
@@ -161,16 +188,12 @@ public class BarSeries<T> extends Series<T> implements IBarSeries<T> {
 		if(((Axis)chart.getAxisSet().getXAxis(xAxisId)).isValidCategoryAxis()) {
 			return compressedBounds;
 		}
-		double[] xSeries = getXSeries();
-		Rectangle[] rs = new Rectangle[xSeries.length];
-		double[] comporessedXSeries = compressor.getCompressedXSeries();
-		int cnt = 0;
-		for(int i = 0; i < xSeries.length; i++) {
-			if(cnt < comporessedXSeries.length && comporessedXSeries[cnt] == xSeries[i]) {
-				if(compressedBounds[cnt].width != 0 && compressedBounds[cnt].height != 0) {
-					rs[i] = compressedBounds[cnt];
-				}
-				cnt++;
+		Rectangle[] rs = new Rectangle[getXSeries().length];
+		// the riser of an aggregated pixel column belongs to the bar of its series index
+		int[] indexes = compressor.getCompressedIndexBuffer();
+		for(int i = 0; i < compressedBounds.length; i++) {
+			if(compressedBounds[i].width != 0 && compressedBounds[i].height != 0 && indexes[i] < rs.length) {
+				rs[indexes[i]] = compressedBounds[i];
 			}
 		}
 		return rs;
@@ -185,23 +208,25 @@ public class BarSeries<T> extends Series<T> implements IBarSeries<T> {
 
 		Axis xAxis = (Axis)chart.getAxisSet().getXAxis(xAxisId);
 		Axis yAxis = (Axis)chart.getAxisSet().getYAxis(yAxisId);
-		// get x and y series
-		double[] xseries = compressor.getCompressedXSeries();
-		double[] yseries = compressor.getCompressedYSeries();
-		int[] indexes = compressor.getCompressedIndexes();
+		// get x and y series, the arrays of the compressor are read without copying them
+		int size = compressor.getCompressedSize();
+		double[] xseries = compressor.getCompressedXBuffer();
+		double[] yseries = compressor.getCompressedYBuffer();
+		int[] indexes = compressor.getCompressedIndexBuffer();
 		if(xAxis.isValidCategoryAxis()) {
-			for(int i = 0; i < xseries.length; i++) {
+			xseries = new double[size];
+			for(int i = 0; i < size; i++) {
 				xseries[i] = indexes[i];
 			}
 		}
-		Rectangle[] rectangles = new Rectangle[xseries.length];
+		Rectangle[] rectangles = new Rectangle[size];
 		Range xRange = xAxis.getRange();
 		Range yRange = yAxis.getRange();
-		for(int i = 0; i < xseries.length; i++) {
+		for(int i = 0; i < size; i++) {
 			int x = xAxis.getPixelCoordinate(xseries[i]);
 			int y = yAxis.getPixelCoordinate(isValidStackSeries() ? stackSeries[indexes[i]] : yseries[i]);
 			double baseYCoordinate = yAxis.getRange().lower > 0 ? yAxis.getRange().lower : 0;
-			double riserwidth = getRiserWidth(xseries, i, xAxis, xRange.lower, xRange.upper);
+			double riserwidth = getRiserWidth(xseries, size, i, xAxis, xRange.lower, xRange.upper);
 			double riserHeight = Math.abs(yAxis.getPixelCoordinate(yseries[i], yRange.lower, yRange.upper) - yAxis.getPixelCoordinate(yAxis.isLogScaleEnabled() ? yRange.lower : baseYCoordinate, yRange.lower, yRange.upper));
 			// adjust riser x coordinate and riser width for multiple series
 			int riserCnt = xAxis.getNumRisers();
@@ -293,8 +318,8 @@ public class BarSeries<T> extends Series<T> implements IBarSeries<T> {
 	protected void setCompressor() {
 
 		CartesianSeriesModel<T> dataModel = getDataModel();
-		if(dataModel instanceof DoubleArraySeriesModel) {
-			if(((DoubleArraySeriesModel)dataModel).isXMonotoneIncreasing()) {
+		if(dataModel instanceof DoubleIndexedSeriesModel) {
+			if(((DoubleIndexedSeriesModel)dataModel).isXMonotoneIncreasing()) {
 				compressor = new CompressBarSeries();
 				return;
 			}
@@ -312,13 +337,13 @@ public class BarSeries<T> extends Series<T> implements IBarSeries<T> {
 		if(axis.getDirection() == Direction.X) {
 			double[] xSeries = getXSeries();
 			Range xRange = getXRange();
-			double lowerRiserWidth = getRiserWidth(xSeries, 0, axis, xRange.lower, xRange.upper);
-			double upperRiserWidth = getRiserWidth(xSeries, xSeries.length - 1, axis, xRange.lower, xRange.upper);
+			double lowerRiserWidth = getRiserWidth(xSeries, xSeries.length, 0, axis, xRange.lower, xRange.upper);
+			double upperRiserWidth = getRiserWidth(xSeries, xSeries.length, xSeries.length - 1, axis, xRange.lower, xRange.upper);
 			lowerPlotMargin = (int)(lowerRiserWidth / 2d + MARGIN_AT_MIN_MAX_PLOT);
 			upperPlotMargin = (int)(upperRiserWidth / 2d + MARGIN_AT_MIN_MAX_PLOT);
 			range = getXRange();
 		} else {
-			range = getYRange();
+			range = axis.isAutoScaleEnabled() ? getVisibleYRange() : getYRange();
 			if(range.upper < 0) {
 				range.upper = 0;
 			}
@@ -336,6 +361,8 @@ public class BarSeries<T> extends Series<T> implements IBarSeries<T> {
 	 *
 	 * @param series
 	 *            the X series
+	 * @param size
+	 *            the number of values in the X series
 	 * @param index
 	 *            the series index
 	 * @param xAxis
@@ -346,18 +373,18 @@ public class BarSeries<T> extends Series<T> implements IBarSeries<T> {
 	 *            the max value of range
 	 * @return the raiser width in pixels
 	 */
-	private int getRiserWidth(double[] series, int index, Axis xAxis, double min, double max) {
+	private int getRiserWidth(double[] series, int size, int index, Axis xAxis, double min, double max) {
 
-		if(series.length == 0) {
+		if(size == 0) {
 			return 1;
 		}
 		// get two x coordinates
 		double upper;
 		double lower;
-		if(series.length == 1) {
+		if(size == 1) {
 			upper = series[0] + 0.5;
 			lower = series[0] - 0.5;
-		} else if(index != series.length - 1 && (index == 0 || series[index + 1] - series[index] < series[index] - series[index - 1])) {
+		} else if(index != size - 1 && (index == 0 || series[index + 1] - series[index] < series[index] - series[index - 1])) {
 			upper = series[index + 1];
 			lower = series[index];
 		} else {
@@ -404,15 +431,11 @@ public class BarSeries<T> extends Series<T> implements IBarSeries<T> {
 
 		// draw riser
 		Rectangle[] rs = getBoundsForCompressedSeries();
-		for(int i = 0; i < rs.length; i++) {
-			drawRiser(gc, rs[i].x, rs[i].y, rs[i].width, rs[i].height);
-		}
+		drawRisers(gc, rs);
 		// draw label and error bars
 		if(seriesLabel.isVisible() || xErrorBar.isVisible() || yErrorBar.isVisible()) {
-			double[] xSeries = getXSeries();
-			double[] ySeries = getYSeries();
-			double[] yseries = compressor.getCompressedYSeries();
-			int[] indexes = compressor.getCompressedIndexes();
+			double[] yseries = compressor.getCompressedYBuffer();
+			int[] indexes = compressor.getCompressedIndexBuffer();
 			for(int i = 0; i < rs.length; i++) {
 				seriesLabel.draw(gc, rs[i].x + rs[i].width / 2, rs[i].y + rs[i].height / 2, yseries[i], indexes[i], SWT.CENTER);
 				int h, v;
@@ -420,16 +443,16 @@ public class BarSeries<T> extends Series<T> implements IBarSeries<T> {
 					if(xAxis.isCategoryEnabled()) {
 						h = rs[i].x + rs[i].width / 2;
 					} else {
-						h = xAxis.getPixelCoordinate(xSeries[indexes[i]]);
+						h = xAxis.getPixelCoordinate(getXValue(indexes[i]));
 					}
-					v = yAxis.getPixelCoordinate(ySeries[indexes[i]]);
+					v = yAxis.getPixelCoordinate(getYValue(indexes[i]));
 				} else {
 					if(xAxis.isCategoryEnabled()) {
 						v = rs[i].y + rs[i].height / 2;
 					} else {
-						v = xAxis.getPixelCoordinate(xSeries[indexes[i]]);
+						v = xAxis.getPixelCoordinate(getXValue(indexes[i]));
 					}
-					h = yAxis.getPixelCoordinate(ySeries[indexes[i]]);
+					h = yAxis.getPixelCoordinate(getYValue(indexes[i]));
 				}
 				xErrorBar.draw(gc, h, v, xAxis, indexes[i]);
 				yErrorBar.draw(gc, h, v, yAxis, indexes[i]);
@@ -438,31 +461,30 @@ public class BarSeries<T> extends Series<T> implements IBarSeries<T> {
 	}
 
 	/**
-	 * Draws riser.
+	 * Draws risers. The state of the graphics context is set once for all risers.
 	 *
 	 * @param gc
 	 *            the graphics context
-	 * @param h
-	 *            the horizontal coordinate
-	 * @param v
-	 *            the vertical coordinate
-	 * @param width
-	 *            the riser width
-	 * @param height
-	 *            the riser height
+	 * @param rectangles
+	 *            the risers
 	 */
-	private void drawRiser(GC gc, int h, int v, int width, int height) {
+	private void drawRisers(GC gc, Rectangle[] rectangles) {
 
+		if(rectangles.length == 0) {
+			return;
+		}
 		int alpha = gc.getAlpha();
 		gc.setAlpha(ALPHA);
 		Color oldBackground = gc.getBackground();
 		gc.setBackground(getBarColor());
-		gc.fillRectangle(h, v, width, height);
 		gc.setLineStyle(SWT.LINE_SOLID);
 		Color frameColor = getFrameColor(getBarColor());
 		Color oldForeground = gc.getForeground();
 		gc.setForeground(frameColor);
-		gc.drawRectangle(h, v, width, height);
+		for(Rectangle rectangle : rectangles) {
+			gc.fillRectangle(rectangle.x, rectangle.y, rectangle.width, rectangle.height);
+			gc.drawRectangle(rectangle.x, rectangle.y, rectangle.width, rectangle.height);
+		}
 		frameColor.dispose();
 		gc.setAlpha(alpha);
 		gc.setBackground(oldBackground);
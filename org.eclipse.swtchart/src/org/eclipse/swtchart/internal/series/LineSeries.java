@@ -25,14 +25,16 @@ import org.eclipse.swt.widgets.Display;
 import org.eclipse.swtchart.Chart;
 import org.eclipse.swtchart.IAxis.Direction;
 import org.eclipse.swtchart.ILineSeries;
+import org.eclipse.swtchart.ILineSeries.LineCompression;
 import org.eclipse.swtchart.LineStyle;
 import org.eclipse.swtchart.Range;
 import org.eclipse.swtchart.internal.Util;
 import org.eclipse.swtchart.internal.axis.Axis;
 import org.eclipse.swtchart.internal.compress.CompressLineSeries;
+import org.eclipse.swtchart.internal.compress.CompressMinMaxLineSeries;
 import org.eclipse.swtchart.internal.compress.CompressScatterSeries;
 import org.eclipse.swtchart.model.CartesianSeriesModel;
-import org.eclipse.swtchart.model.DoubleArraySeriesModel;
+import org.eclipse.swtchart.model.DoubleIndexedSeriesModel;
 
 /**
  * Line series.
@@ -57,6 +59,8 @@ public class LineSeries<T> extends Series<T> implements ILineSeries<T> {
 	private boolean areaEnabled = false;
 	/** the state indicating if step chart is enabled */
 	private boolean stepEnabled = false;
+	/** the line compression, which is the one of the chart by default */
+	private LineCompression lineCompression = LineCompression.DEFAULT;
 	/** the anti-aliasing value for drawing line */
 	private int antialias = DEFAULT_ANTIALIAS;
 	/** specific symbol */
@@ -102,13 +106,15 @@ public class LineSeries<T> extends Series<T> implements ILineSeries<T> {
 	@Override
 	public void setLineStyle(LineStyle style) {
 
+		boolean isLineVisible = lineStyle != LineStyle.NONE;
 		if(style == null) {
 			this.lineStyle = DEFAULT_LINE_STYLE;
-			return;
+		} else {
+			this.lineStyle = style;
 		}
-		this.lineStyle = style;
-		if(compressor instanceof CompressScatterSeries) {
-			((CompressScatterSeries)compressor).setLineVisible(style != LineStyle.NONE);
+		if(isLineVisible != (lineStyle != LineStyle.NONE)) {
+			// the points of a series without line are compressed by the pixels of their symbols
+			((SeriesSet)chart.getSeriesSet()).updateCompressor(this);
 		}
 	}
 
@@ -241,9 +247,14 @@ public class LineSeries<T> extends Series<T> implements ILineSeries<T> {
 	protected void setCompressor() {
 
 		CartesianSeriesModel<T> dataModel = getDataModel();
-		if(dataModel instanceof DoubleArraySeriesModel) {
-			if(((DoubleArraySeriesModel)dataModel).isXMonotoneIncreasing()) {
-				compressor = new CompressLineSeries();
+		if(dataModel instanceof DoubleIndexedSeriesModel && getLineStyle() != LineStyle.NONE) {
+			if(((DoubleIndexedSeriesModel)dataModel).isXMonotoneIncreasing()) {
+				LineCompression compression = lineCompression == LineCompression.DEFAULT ? chart.getLineCompression() : lineCompression;
+				if(compression == LineCompression.MIN_MAX) {
+					compressor = new CompressMinMaxLineSeries();
+				} else {
+					compressor = new CompressLineSeries();
+				}
 				return;
 			}
 		}
@@ -251,6 +262,41 @@ public class LineSeries<T> extends Series<T> implements ILineSeries<T> {
 		((CompressScatterSeries)compressor).setLineVisible(getLineStyle() != LineStyle.NONE);
 	}
 
+	@Override
+	protected void prepareCompressor() {
+
+		if(!(compressor instanceof CompressScatterSeries)) {
+			return;
+		}
+		int radius = 0;
+		int coveredRadius = 0;
+		// a symbol can only be left out if the symbols covering it look the same
+		if(symbolColors.length == 0 && !getLabel().isVisible() && !getXErrorBar().isVisible() && !getYErrorBar().isVisible()) {
+			switch(symbolType) {
+				case CIRCLE:
+					radius = symbolSize;
+					coveredRadius = (int)(symbolSize * Math.sqrt(0.5)) - 1;
+					break;
+				case SQUARE:
+					radius = symbolSize;
+					coveredRadius = symbolSize - 1;
+					break;
+				case DIAMOND:
+					radius = symbolSize;
+					coveredRadius = symbolSize / 2 - 1;
+					break;
+				case TRIANGLE:
+				case INVERTED_TRIANGLE:
+					radius = symbolSize;
+					coveredRadius = symbolSize / 3 - 1;
+					break;
+				default:
+					break;
+			}
+		}
+		((CompressScatterSeries)compressor).setSymbolFootprint(radius, coveredRadius);
+	}
+
 	@Override
 	public void enableArea(boolean enabled) {
 
@@ -275,6 +321,25 @@ public class LineSeries<T> extends Series<T> implements ILineSeries<T> {
 		return stepEnabled;
 	}
 
+	@Override
+	public void setLineCompression(LineCompression lineCompression) {
+
+		if(lineCompression == null) {
+			lineCompression = LineCompression.DEFAULT;
+		}
+		if(this.lineCompression == lineCompression) {
+			return;
+		}
+		this.lineCompression = lineCompression;
+		((SeriesSet)chart.getSeriesSet()).updateCompressor(this);
+	}
+
+	@Override
+	public LineCompression getLineCompression() {
+
+		return lineCompression;
+	}
+
 	@Override
 	public Range getAdjustedRange(Axis axis, int length) {
 
@@ -282,7 +347,7 @@ public class LineSeries<T> extends Series<T> implements ILineSeries<T> {
 		if(axis.getDirection() == Direction.X) {
 			range = getXRange();
 		} else {
-			range = getYRange();
+			range = axis.isAutoScaleEnabled() ? getVisibleYRange() : getYRange();
 		}
 		int lowerPlotMargin = getSymbolSize() + MARGIN_AT_MIN_MAX_PLOT;
 		int upperPlotMargin = getSymbolSize() + MARGIN_AT_MIN_MAX_PLOT;
@@ -382,15 +447,17 @@ public class LineSeries<T> extends Series<T> implements ILineSeries<T> {
 	 */
 	private void drawLineAndArea(GC gc, int width, int height, Axis xAxis, Axis yAxis) {
 
-		// get x and y series
-		double[] xseries = compressor.getCompressedXSeries();
-		double[] yseries = compressor.getCompressedYSeries();
-		if(xseries.length == 0 || yseries.length == 0) {
+		// get x and y series, the arrays of the compressor are read without copying them
+		int size = compressor.getCompressedSize();
+		if(size == 0) {
 			return;
 		}
-		int[] indexes = compressor.getCompressedIndexes();
+		double[] xseries = compressor.getCompressedXBuffer();
+		double[] yseries = compressor.getCompressedYBuffer();
+		int[] indexes = compressor.getCompressedIndexBuffer();
 		if(xAxis.isValidCategoryAxis()) {
-			for(int i = 0; i < xseries.length; i++) {
+			xseries = new double[size];
+			for(int i = 0; i < size; i++) {
 				xseries[i] = indexes[i];
 			}
 		}
@@ -399,7 +466,11 @@ public class LineSeries<T> extends Series<T> implements ILineSeries<T> {
 		gc.setForeground(getLineColor());
 		boolean isHorizontal = xAxis.isHorizontalAxis();
 		if(stepEnabled || areaEnabled || stackEnabled) {
-			for(int i = 0; i < xseries.length - 1; i++) {
+			for(int i = 0; i < size - 1; i++) {
+				if(Double.isNaN(yseries[i]) || Double.isNaN(yseries[i + 1])) {
+					// a gap breaks the line
+					continue;
+				}
 				int[] p = getLinePoints(xseries, yseries, indexes, i, xAxis, yAxis);
 				// draw line
 				if(lineStyle != LineStyle.NONE) {
@@ -422,9 +493,9 @@ public class LineSeries<T> extends Series<T> implements ILineSeries<T> {
 			}
 		} else {
 			if(lineStyle == LineStyle.SOLID) {
-				drawLine(gc, xAxis, yAxis, xseries, yseries, isHorizontal);
+				drawLine(gc, xAxis, yAxis, xseries, yseries, size, isHorizontal);
 			} else if(lineStyle != LineStyle.NONE) {
-				drawLineWithStyle(gc, xAxis, yAxis, xseries, yseries, isHorizontal);
+				drawLineWithStyle(gc, xAxis, yAxis, xseries, yseries, size, isHorizontal);
 			}
 		}
 		gc.setForeground(oldForeground);
@@ -438,21 +509,33 @@ public class LineSeries<T> extends Series<T> implements ILineSeries<T> {
 	 * for solid line style until that bug is fixed and the workaround is
 	 * removed.
 	 */
-	private static void drawLine(GC gc, Axis xAxis, Axis yAxis, double[] xseries, double[] yseries, boolean isHorizontal) {
+	private static void drawLine(GC gc, Axis xAxis, Axis yAxis, double[] xseries, double[] yseries, int size, boolean isHorizontal) {
 
 		double xLower = xAxis.getRange().lower;
 		double xUpper = xAxis.getRange().upper;
 		double yLower = yAxis.getRange().lower;
 		double yUpper = yAxis.getRange().upper;
-		int prevX = xAxis.getPixelCoordinate(xseries[0], xLower, xUpper);
-		int prevY = yAxis.getPixelCoordinate(yseries[0], yLower, yUpper);
+		boolean isPrevValid = false;
+		int prevX = 0;
+		int prevY = 0;
 		boolean drawVerticalLine = false;
 		int verticalLineYLower = 0;
 		int verticalLineYUpper = 0;
-		for(int i = 0; i < xseries.length - 1; i++) {
-			int x = xAxis.getPixelCoordinate(xseries[i + 1], xLower, xUpper);
-			int y = yAxis.getPixelCoordinate(yseries[i + 1], yLower, yUpper);
-			if(x == prevX && i < xseries.length - 2) {
+		for(int i = 0; i < size; i++) {
+			if(Double.isNaN(yseries[i])) {
+				// a gap breaks the line
+				if(drawVerticalLine) {
+					drawVerticalLine(gc, prevX, verticalLineYLower, verticalLineYUpper, isHorizontal);
+					drawVerticalLine = false;
+				}
+				isPrevValid = false;
+				continue;
+			}
+			int x = xAxis.getPixelCoordinate(xseries[i], xLower, xUpper);
+			int y = yAxis.getPixelCoordinate(yseries[i], yLower, yUpper);
+			if(!isPrevValid) {
+				isPrevValid = true;
+			} else if(x == prevX && i < size - 1) {
 				if(drawVerticalLine) {
 					// extend vertical line
 					verticalLineYLower = Math.min(verticalLineYLower, y);
@@ -466,11 +549,7 @@ public class LineSeries<T> extends Series<T> implements ILineSeries<T> {
 			} else {
 				// draw vertical line
 				if(drawVerticalLine) {
-					if(isHorizontal) {
-						gc.drawLine(prevX, verticalLineYLower, prevX, verticalLineYUpper);
-					} else {
-						gc.drawLine(verticalLineYLower, prevX, verticalLineYUpper, prevX);
-					}
+					drawVerticalLine(gc, prevX, verticalLineYLower, verticalLineYUpper, isHorizontal);
 					drawVerticalLine = false;
 				}
 				// draw non-vertical line
@@ -485,6 +564,15 @@ public class LineSeries<T> extends Series<T> implements ILineSeries<T> {
 		}
 	}
 
+	private static void drawVerticalLine(GC gc, int x, int yLower, int yUpper, boolean isHorizontal) {
+
+		if(isHorizontal) {
+			gc.drawLine(x, yLower, x, yUpper);
+		} else {
+			gc.drawLine(yLower, x, yUpper, x);
+		}
+	}
+
 	/**
 	 * Draws the line segments with line style.
 	 * <p>
@@ -506,27 +594,42 @@ public class LineSeries<T> extends Series<T> implements ILineSeries<T> {
 	 *            the x series
 	 * @param yseries
 	 *            the y series
+	 * @param size
+	 *            the number of points in the series
 	 * @param isHorizontal
 	 *            true if orientation is horizontal
 	 */
-	private static void drawLineWithStyle(GC gc, Axis xAxis, Axis yAxis, double[] xseries, double[] yseries, boolean isHorizontal) {
+	private static void drawLineWithStyle(GC gc, Axis xAxis, Axis yAxis, double[] xseries, double[] yseries, int size, boolean isHorizontal) {
 
 		double xLower = xAxis.getRange().lower;
 		double xUpper = xAxis.getRange().upper;
 		double yLower = yAxis.getRange().lower;
 		double yUpper = yAxis.getRange().upper;
 		List<Integer> pointList = new ArrayList<Integer>();
-		int prevX = xAxis.getPixelCoordinate(xseries[0], xLower, xUpper);
-		int prevY = yAxis.getPixelCoordinate(yseries[0], yLower, yUpper);
-		// add initial point
-		addPoint(pointList, prevX, prevY, isHorizontal);
+		int prevX = 0;
+		int prevY = 0;
 		boolean drawVerticalLine = false;
 		int verticalLineYLower = 0;
 		int verticalLineYUpper = 0;
-		for(int i = 0; i < xseries.length - 1; i++) {
-			int x = xAxis.getPixelCoordinate(xseries[i + 1], xLower, xUpper);
-			int y = yAxis.getPixelCoordinate(yseries[i + 1], yLower, yUpper);
-			if(x == prevX && i < xseries.length - 2) {
+		for(int i = 0; i < size; i++) {
+			if(Double.isNaN(yseries[i])) {
+				// a gap breaks the line
+				if(drawVerticalLine) {
+					addPoint(pointList, prevX, verticalLineYLower, isHorizontal);
+					addPoint(pointList, prevX, verticalLineYUpper, isHorizontal);
+					addPoint(pointList, prevX, prevY, isHorizontal);
+					drawVerticalLine = false;
+				}
+				drawPolyline(gc, pointList);
+				pointList.clear();
+				continue;
+			}
+			int x = xAxis.getPixelCoordinate(xseries[i], xLower, xUpper);
+			int y = yAxis.getPixelCoordinate(yseries[i], yLower, yUpper);
+			if(pointList.isEmpty()) {
+				// add initial point
+				addPoint(pointList, x, y, isHorizontal);
+			} else if(x == prevX && i < size - 1) {
 				if(drawVerticalLine) {
 					// extend vertical line
 					verticalLineYLower = Math.min(verticalLineYLower, y);
@@ -551,6 +654,14 @@ public class LineSeries<T> extends Series<T> implements ILineSeries<T> {
 			prevX = x;
 			prevY = y;
 		}
+		drawPolyline(gc, pointList);
+	}
+
+	private static void drawPolyline(GC gc, List<Integer> pointList) {
+
+		if(pointList.isEmpty()) {
+			return;
+		}
 		int[] polyline = new int[pointList.size()];
 		for(int i = 0; i < polyline.length; i++) {
 			polyline[i] = pointList.get(i);
@@ -619,13 +730,18 @@ public class LineSeries<T> extends Series<T> implements ILineSeries<T> {
 	 */
 	private void drawSymbolAndLabel(GC gc, int width, int height, Axis xAxis, Axis yAxis) {
 
-		// get x and y series
-		double[] xseries = compressor.getCompressedXSeries();
-		double[] yseries = compressor.getCompressedYSeries();
-		int[] indexes = compressor.getCompressedIndexes();
+		// get x and y series, the arrays of the compressor are read without copying them
+		int size = compressor.getCompressedSize();
+		double[] xseries = compressor.getCompressedXBuffer();
+		double[] yseries = compressor.getCompressedYBuffer();
+		int[] indexes = compressor.getCompressedIndexBuffer();
 		if(xAxis.isValidCategoryAxis()) {
 			boolean isValidStackSeries = isValidStackSeries();
-			for(int i = 0; i < xseries.length; i++) {
+			xseries = new double[size];
+			if(isValidStackSeries) {
+				yseries = new double[size];
+			}
+			for(int i = 0; i < size; i++) {
 				xseries[i] = indexes[i];
 				if(isValidStackSeries) {
 					yseries[i] = stackSeries[indexes[i]];
@@ -633,7 +749,11 @@ public class LineSeries<T> extends Series<T> implements ILineSeries<T> {
 			}
 		}
 		// draw symbol and label
-		for(int i = 0; i < xseries.length; i++) {
+		for(int i = 0; i < size; i++) {
+			if(Double.isNaN(yseries[i])) {
+				// gaps have no symbol
+				continue;
+			}
 			Color color;
 			if(symbolColors.length > indexes[i]) {
 				color = symbolColors[indexes[i]];
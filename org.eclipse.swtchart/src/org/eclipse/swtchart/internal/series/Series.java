@@ -12,6 +12,8 @@
 package org.eclipse.swtchart.internal.series;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.stream.StreamSupport;
@@ -29,11 +31,20 @@ import org.eclipse.swtchart.ISeries;
 import org.eclipse.swtchart.ISeriesLabel;
 import org.eclipse.swtchart.Range;
 import org.eclipse.swtchart.internal.axis.Axis;
+import org.eclipse.swtchart.internal.compress.Compress;
 import org.eclipse.swtchart.internal.compress.ICompress;
+import org.eclipse.swtchart.internal.compress.LevelOfDetail;
 import org.eclipse.swtchart.model.CartesianSeriesModel;
+import org.eclipse.swtchart.model.ChunkedSeriesModel;
 import org.eclipse.swtchart.model.DateArraySeriesModel;
+import org.eclipse.swtchart.model.DateSeriesModel;
 import org.eclipse.swtchart.model.DoubleArraySeriesModel;
+import org.eclipse.swtchart.model.DoubleIndexedSeriesModel;
 import org.eclipse.swtchart.model.IndexedSeriesModel;
+import org.eclipse.swtchart.model.RegularDateSeriesModel;
+import org.eclipse.swtchart.model.RegularSeriesModel;
+import org.eclipse.swtchart.model.SeriesModel;
+import org.eclipse.swtchart.model.SeriesModelListener;
 
 /**
  * Series.
@@ -75,6 +86,36 @@ abstract public class Series<T> implements ISeries<T> {
 	/** the list of dispose listeners */
 	private List<IDisposeListener> listeners;
 	private CartesianSeriesModel<T> model;
+	/** the state indicating if the level of detail pyramid is enabled */
+	private boolean levelOfDetailEnabled;
+	/** the level of detail pyramid of the data model */
+	private LevelOfDetail levelOfDetail;
+	/** the state indicating if the compressor has been chosen for a data model with a sorted X series */
+	private boolean isCompressorXMonotoneIncreasing;
+	/** the listener updating the compressor when the data model changes */
+	private final SeriesModelListener modelListener = new SeriesModelListener() {
+
+		@Override
+		public void rangeChanged(SeriesModel<?> model) {
+
+			checkRange();
+		}
+
+		@Override
+		public void pointsAppended(SeriesModel<?> model, int from, int to) {
+
+			// rebuilding the pyramid on every change would cost more than it saves
+			levelOfDetail = null;
+			appendToCompressor(from);
+		}
+
+		@Override
+		public void pointsUpdated(SeriesModel<?> model, int from, int to) {
+
+			levelOfDetail = null;
+			updateCompressor();
+		}
+	};
 
 	/**
 	 * Constructor.
@@ -158,10 +199,77 @@ abstract public class Series<T> implements ISeries<T> {
 	@Override
 	public void setDataModel(CartesianSeriesModel<T> model) {
 
+		CartesianSeriesModel<T> previous = this.model;
+		if(previous != null) {
+			previous.removeSeriesModelListener(modelListener);
+		}
 		this.model = model;
+		if(model != null) {
+			model.addSeriesModelListener(modelListener);
+		}
+		if(previous instanceof ChunkedSeriesModel && model instanceof ChunkedSeriesModel && ((ChunkedSeriesModel)model).startsWith((ChunkedSeriesModel)previous)) {
+			// a new version with appended points, as for the appended points of a mutable model
+			levelOfDetail = null;
+			appendToCompressor(((ChunkedSeriesModel)previous).size());
+		} else {
+			buildLevelOfDetail();
+			updateCompressor();
+		}
+		checkRange();
+	}
+
+	/**
+	 * Builds the level of detail pyramid of the data model if it is enabled and the data model has primitive access
+	 * and a sorted X series.
+	 */
+	private void buildLevelOfDetail() {
+
+		levelOfDetail = null;
+		if(levelOfDetailEnabled && model instanceof DoubleIndexedSeriesModel && ((DoubleIndexedSeriesModel)model).isXMonotoneIncreasing()) {
+			levelOfDetail = new LevelOfDetail((DoubleIndexedSeriesModel)model);
+		}
+	}
+
+	/**
+	 * Updates the compressor with the current data model. Models giving primitive access are read by the compressor
+	 * directly, so this does not copy their data.
+	 */
+	void updateCompressor() {
+
 		setCompressor();
-		compressor.setXSeries(getXSeries());
-		compressor.setYSeries(getYSeries());
+		isCompressorXMonotoneIncreasing = model instanceof DoubleIndexedSeriesModel && ((DoubleIndexedSeriesModel)model).isXMonotoneIncreasing();
+		if(model instanceof DoubleIndexedSeriesModel) {
+			compressor.setSeries((DoubleIndexedSeriesModel)model);
+			compressor.setLevelOfDetail(levelOfDetail);
+		} else {
+			compressor.setXSeries(getXSeries());
+			compressor.setYSeries(getYSeries());
+		}
+	}
+
+	/**
+	 * Updates the compressor with the points appended to the data model from the given index, so that only the
+	 * appended points are compressed if the ranges of the axes do not change. The compressor is replaced if the order
+	 * of the X series has changed.
+	 * 
+	 * @param from
+	 *            the index of the first appended point
+	 */
+	private void appendToCompressor(int from) {
+
+		if(compressor != null && model instanceof DoubleIndexedSeriesModel && ((DoubleIndexedSeriesModel)model).isXMonotoneIncreasing() == isCompressorXMonotoneIncreasing) {
+			compressor.appendSeries((DoubleIndexedSeriesModel)model, from);
+			compressor.setLevelOfDetail(levelOfDetail);
+		} else {
+			updateCompressor();
+		}
+	}
+
+	/**
+	 * Disables log scale and stack if the range of the data model contains values which are not positive.
+	 */
+	private void checkRange() {
+
 		Range xRange = getXRange();
 		if(xRange.lower <= 0) {
 			IAxis axis = chart.getAxisSet().getXAxis(xAxisId);
@@ -193,6 +301,25 @@ abstract public class Series<T> implements ISeries<T> {
 		((SeriesSet)chart.getSeriesSet()).updateStackAndRiserData();
 	}
 
+	@Override
+	public void enableLevelOfDetail(boolean enabled) {
+
+		if(levelOfDetailEnabled == enabled) {
+			return;
+		}
+		levelOfDetailEnabled = enabled;
+		buildLevelOfDetail();
+		if(compressor != null) {
+			compressor.setLevelOfDetail(levelOfDetail);
+		}
+	}
+
+	@Override
+	public boolean isLevelOfDetailEnabled() {
+
+		return levelOfDetailEnabled;
+	}
+
 	@SuppressWarnings("unchecked")
 	@Override
 	public void setXSeries(double[] series) {
@@ -229,9 +356,27 @@ abstract public class Series<T> implements ISeries<T> {
 		if(dataModel == null) {
 			return new Date[0];
 		}
+		if(dataModel instanceof DoubleIndexedSeriesModel) {
+			DoubleIndexedSeriesModel indexedModel = (DoubleIndexedSeriesModel)dataModel;
+			Date[] dates = new Date[indexedModel.size()];
+			for(int i = 0; i < dates.length; i++) {
+				dates[i] = new Date((long)indexedModel.x(i));
+			}
+			return dates;
+		}
 		return StreamSupport.stream(dataModel.spliterator(), false).filter(t -> dataModel.getX(t) != null).map(value -> new Date(dataModel.getX(value).longValue())).toArray(Date[]::new);
 	}
 
+	@Override
+	public List<Date> getXDates() {
+
+		CartesianSeriesModel<T> dataModel = getDataModel();
+		if(dataModel instanceof DateSeriesModel) {
+			return ((DateSeriesModel)dataModel).getDates();
+		}
+		return Collections.unmodifiableList(Arrays.asList(getXDateSeries()));
+	}
+
 	@Override
 	public double[] getXSeries() {
 
@@ -239,7 +384,13 @@ abstract public class Series<T> implements ISeries<T> {
 		if(dataModel == null) {
 			return new double[0];
 		}
-		return StreamSupport.stream(dataModel.spliterator(), false).filter(t -> dataModel.getX(t) != null).mapToDouble(value -> dataModel.getX(value).doubleValue()).toArray();
+		if(dataModel instanceof DoubleIndexedSeriesModel) {
+			DoubleIndexedSeriesModel indexedModel = (DoubleIndexedSeriesModel)dataModel;
+			double[] xSeries = new double[indexedModel.size()];
+			indexedModel.copyX(0, xSeries, 0, xSeries.length);
+			return xSeries;
+		}
+		return StreamSupport.stream(dataModel.spliterator(), false).mapToDouble(value -> toDouble(dataModel.getX(value))).toArray();
 	}
 
 	@SuppressWarnings("unchecked")
@@ -250,17 +401,32 @@ abstract public class Series<T> implements ISeries<T> {
 			SWT.error(SWT.ERROR_NULL_ARGUMENT);
 			return; // to suppress warning...
 		}
-		double[] xSeries = getXSeries();
 		double[] ySeries = new double[series.length];
 		System.arraycopy(series, 0, ySeries, 0, series.length);
-		if(ySeries.length != xSeries.length) {
-			xSeries = new double[ySeries.length];
-			for(int i = 0; i < xSeries.length; i++) {
-				xSeries[i] = i;
+		CartesianSeriesModel<T> dataModel = getDataModel();
+		if(dataModel instanceof RegularSeriesModel) {
+			/*
+			 * Keep the sampling if the size does not change, the x coordinates
+			 * are implicit anyway.
+			 */
+			RegularSeriesModel regularModel = (RegularSeriesModel)dataModel;
+			if(regularModel.size() == ySeries.length) {
+				if(regularModel instanceof RegularDateSeriesModel) {
+					RegularDateSeriesModel dateModel = (RegularDateSeriesModel)regularModel;
+					setDataModel((CartesianSeriesModel<T>)new RegularDateSeriesModel(dateModel.getStart(), dateModel.getInterval(), ySeries));
+				} else {
+					setDataModel((CartesianSeriesModel<T>)new RegularSeriesModel(regularModel.getX0(), regularModel.getDx(), ySeries));
+				}
+				return;
+			}
+		} else {
+			double[] xSeries = getXSeries();
+			if(ySeries.length == xSeries.length) {
+				setDataModel((CartesianSeriesModel<T>)new DoubleArraySeriesModel(xSeries, ySeries));
+				return;
 			}
 		}
-		DoubleArraySeriesModel arraySeriesModel = new DoubleArraySeriesModel(xSeries, ySeries);
-		setDataModel((CartesianSeriesModel<T>)arraySeriesModel);
+		setDataModel((CartesianSeriesModel<T>)new RegularSeriesModel(0, 1, ySeries));
 	}
 
 	@Override
@@ -270,7 +436,26 @@ abstract public class Series<T> implements ISeries<T> {
 		if(dataModel == null) {
 			return new double[0];
 		}
-		return StreamSupport.stream(dataModel.spliterator(), false).filter(t -> dataModel.getY(t) != null).mapToDouble(value -> dataModel.getY(value).doubleValue()).toArray();
+		if(dataModel instanceof DoubleIndexedSeriesModel) {
+			DoubleIndexedSeriesModel indexedModel = (DoubleIndexedSeriesModel)dataModel;
+			double[] ySeries = new double[indexedModel.size()];
+			indexedModel.copyY(0, ySeries, 0, ySeries.length);
+			return ySeries;
+		}
+		return StreamSupport.stream(dataModel.spliterator(), false).mapToDouble(value -> toDouble(dataModel.getY(value))).toArray();
+	}
+
+	/**
+	 * Converts a coordinate of the model, a missing coordinate is a gap and
+	 * converted to NaN, which keeps the x and y series in sync.
+	 *
+	 * @param value
+	 *            the coordinate or null
+	 * @return the value
+	 */
+	private static double toDouble(Number value) {
+
+		return value == null ? Double.NaN : value.doubleValue();
 	}
 
 	/**
@@ -326,9 +511,9 @@ abstract public class Series<T> implements ISeries<T> {
 		CartesianSeriesModel<T> dataModel = getDataModel();
 		if(dataModel != null) {
 			Number number = dataModel.getMinY();
-			min = number == null ? 0 : number.doubleValue();
+			min = number == null || Double.isNaN(number.doubleValue()) ? 0 : number.doubleValue();
 			number = dataModel.getMaxY();
-			max = number == null ? 0 : number.doubleValue();
+			max = number == null || Double.isNaN(number.doubleValue()) ? 0 : number.doubleValue();
 		}
 		Axis xAxis = (Axis)chart.getAxisSet().getXAxis(xAxisId);
 		if(isValidStackSeries() && xAxis.isValidCategoryAxis()) {
@@ -351,11 +536,38 @@ abstract public class Series<T> implements ISeries<T> {
 		return compressor;
 	}
 
+	/**
+	 * Replaces the compressor by a copy which has compressed the series in another thread, unless the compressor has
+	 * been replaced or changed since the copy has been created.
+	 *
+	 * @param compressor
+	 *            the compressor which has been copied
+	 * @param copy
+	 *            the copy
+	 * @return true if the compressor has been replaced
+	 */
+	protected boolean replaceCompressor(Compress compressor, Compress copy) {
+
+		if(this.compressor != compressor || !compressor.handOver(copy)) {
+			return false;
+		}
+		this.compressor = copy;
+		return true;
+	}
+
 	/**
 	 * Sets the compressor.
 	 */
 	abstract protected void setCompressor();
 
+	/**
+	 * Updates the settings of the compressor which depend on the appearance of the series, before the series is
+	 * compressed.
+	 */
+	protected void prepareCompressor() {
+
+	}
+
 	@Override
 	public int getXAxisId() {
 
@@ -436,6 +648,98 @@ abstract public class Series<T> implements ISeries<T> {
 		return new Point(getPixelCoordinate(hAxis, index), getPixelCoordinate(vAxis, index));
 	}
 
+	@Override
+	public int[] getXIndexRange(double lower, double upper) {
+
+		int size = getSize();
+		int[] range = findXIndexRange(lower, upper, size);
+		if(range == null) {
+			return new int[]{0, size};
+		}
+		int from = Math.min(size, Math.max(0, range[0] - 1));
+		int to = Math.min(size, Math.max(from, range[1] + 1));
+		return new int[]{from, to};
+	}
+
+	/**
+	 * Gets the Y range of the series points within the current range of the X
+	 * axis. The range is answered by the min/max index of the data model if the
+	 * X series is sorted.
+	 *
+	 * @return the Y range of the visible points, or the Y range of the series
+	 *         if no point is visible
+	 */
+	public Range getVisibleYRange() {
+
+		CartesianSeriesModel<T> dataModel = getDataModel();
+		IAxis xAxis = chart.getAxisSet().getXAxis(xAxisId);
+		if(!(dataModel instanceof DoubleIndexedSeriesModel) || xAxis == null || isValidStackSeries()) {
+			return getYRange();
+		}
+		DoubleIndexedSeriesModel indexedModel = (DoubleIndexedSeriesModel)dataModel;
+		Range xRange = xAxis.getRange();
+		int size = indexedModel.size();
+		double[] minMax;
+		int[] range = findXIndexRange(xRange.lower, xRange.upper, size);
+		if(range != null) {
+			minMax = indexedModel.getMinMaxY(range[0], range[1]);
+		} else {
+			minMax = new double[]{Double.NaN, Double.NaN};
+			for(int i = 0; i < size; i++) {
+				double x = indexedModel.x(i);
+				if(x >= xRange.lower && x <= xRange.upper) {
+					double y = indexedModel.y(i);
+					if(Double.isNaN(minMax[0]) || y < minMax[0]) {
+						minMax[0] = y;
+					}
+					if(Double.isNaN(minMax[1]) || y > minMax[1]) {
+						minMax[1] = y;
+					}
+				}
+			}
+		}
+		if(Double.isNaN(minMax[0]) || Double.isNaN(minMax[1])) {
+			return getYRange();
+		}
+		return new Range(minMax[0], minMax[1]);
+	}
+
+	/**
+	 * Gets the number of points of the data model.
+	 *
+	 * @return the number of points
+	 */
+	private int getSize() {
+
+		CartesianSeriesModel<T> dataModel = getDataModel();
+		if(dataModel instanceof IndexedSeriesModel<?>) {
+			return ((IndexedSeriesModel<?>)dataModel).size();
+		}
+		return getXSeries().length;
+	}
+
+	/**
+	 * Searches the range of series indexes whose X coordinates are within the
+	 * given range.
+	 *
+	 * @return the first index (inclusive) and the last index (exclusive), or
+	 *         <code>null</code> if the X series is not sorted
+	 */
+	private int[] findXIndexRange(double lower, double upper, int size) {
+
+		CartesianSeriesModel<T> dataModel = getDataModel();
+		IAxis xAxis = chart.getAxisSet().getXAxis(xAxisId);
+		if(xAxis != null && xAxis.isCategoryEnabled()) {
+			// the X coordinate of a category is its index
+			int from = (int)Math.min(size, Math.max(0, Math.ceil(lower)));
+			int to = (int)Math.min(size, Math.floor(upper) + 1);
+			return new int[]{from, Math.max(from, to)};
+		} else if(dataModel instanceof DoubleIndexedSeriesModel && ((DoubleIndexedSeriesModel)dataModel).isXMonotoneIncreasing()) {
+			return ((DoubleIndexedSeriesModel)dataModel).getXIndexRange(lower, upper);
+		}
+		return null;
+	}
+
 	/**
 	 * Gets the pixel coordinates with given axis and series index.
 	 *
@@ -460,7 +764,7 @@ abstract public class Series<T> implements ISeries<T> {
 					if(index < 0 || indexedModel.size() <= index) {
 						throw new IllegalArgumentException("Series index is out of range."); //$NON-NLS-1$
 					}
-					dataCoordinate = dataModel.getX(indexedModel.itemAt(index)).doubleValue();
+					dataCoordinate = getXValue(index);
 				}
 			} else if(axis.getDirection() == Direction.Y) {
 				if(isValidStackSeries()) {
@@ -472,7 +776,7 @@ abstract public class Series<T> implements ISeries<T> {
 					if(index < 0 || indexedModel.size() <= index) {
 						throw new IllegalArgumentException("Series index is out of range."); //$NON-NLS-1$
 					}
-					dataCoordinate = dataModel.getY(indexedModel.itemAt(index)).doubleValue();
+					dataCoordinate = getYValue(index);
 				}
 			} else {
 				throw new IllegalStateException("unknown axis direction"); //$NON-NLS-1$
@@ -484,6 +788,46 @@ abstract public class Series<T> implements ISeries<T> {
 		}
 	}
 
+	/**
+	 * Gets the X value at the given series index, without boxing if the model
+	 * supports it.
+	 *
+	 * @param index
+	 *            the series index
+	 * @return the X value
+	 */
+	@SuppressWarnings("unchecked")
+	protected double getXValue(int index) {
+
+		CartesianSeriesModel<T> dataModel = getDataModel();
+		if(dataModel instanceof DoubleIndexedSeriesModel) {
+			return ((DoubleIndexedSeriesModel)dataModel).x(index);
+		} else if(dataModel instanceof IndexedSeriesModel<?>) {
+			return dataModel.getX(((IndexedSeriesModel<T>)dataModel).itemAt(index)).doubleValue();
+		}
+		return getXSeries()[index];
+	}
+
+	/**
+	 * Gets the Y value at the given series index, without boxing if the model
+	 * supports it.
+	 *
+	 * @param index
+	 *            the series index
+	 * @return the Y value
+	 */
+	@SuppressWarnings("unchecked")
+	protected double getYValue(int index) {
+
+		CartesianSeriesModel<T> dataModel = getDataModel();
+		if(dataModel instanceof DoubleIndexedSeriesModel) {
+			return ((DoubleIndexedSeriesModel)dataModel).y(index);
+		} else if(dataModel instanceof IndexedSeriesModel<?>) {
+			return dataModel.getY(((IndexedSeriesModel<T>)dataModel).itemAt(index)).doubleValue();
+		}
+		return getYSeries()[index];
+	}
+
 	/**
 	 * Gets the range with given margin.
 	 *
@@ -540,6 +884,9 @@ abstract public class Series<T> implements ISeries<T> {
 	 */
 	protected void dispose() {
 
+		if(model != null) {
+			model.removeSeriesModelListener(modelListener);
+		}
 		for(IDisposeListener listener : listeners) {
 			listener.disposed(new Event());
 		}
@@ -15,14 +15,20 @@
 package org.eclipse.swtchart.internal.series;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.events.DisposeEvent;
 import org.eclipse.swt.events.DisposeListener;
 import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.widgets.Display;
 import org.eclipse.swtchart.Chart;
 import org.eclipse.swtchart.IAxis;
 import org.eclipse.swtchart.IAxis.Direction;
@@ -31,8 +37,11 @@ import org.eclipse.swtchart.ISeries.SeriesType;
 import org.eclipse.swtchart.ISeriesSet;
 import org.eclipse.swtchart.Range;
 import org.eclipse.swtchart.internal.axis.Axis;
+import org.eclipse.swtchart.internal.compress.Compress;
 import org.eclipse.swtchart.internal.compress.CompressConfig;
 import org.eclipse.swtchart.internal.compress.ICompress;
+import org.eclipse.swtchart.model.DoubleIndexedSeriesModel;
+import org.eclipse.swtchart.model.IndexedSeriesModel;
 
 /**
  * A series container.
@@ -43,6 +52,12 @@ public class SeriesSet implements ISeriesSet {
 	private final Chart chart;
 	/** the series */
 	private LinkedHashMap<String, Series<?>> seriesMap;
+	/** the pool compressing the series in parallel, which is created when it is needed */
+	private ForkJoinPool compressPool;
+	/** the number of compressions, a compression in the pool is discarded if it is not the latest one */
+	private volatile int compressGeneration;
+	/** the compression in the pool, or null */
+	private Future<?> compressFuture;
 
 	/**
 	 * Constructor.
@@ -221,6 +236,11 @@ public class SeriesSet implements ISeriesSet {
 		for(Entry<String, Series<?>> entry : seriesMap.entrySet()) {
 			entry.getValue().dispose();
 		}
+		cancelCompressAsync();
+		if(compressPool != null) {
+			compressPool.shutdown();
+			compressPool = null;
+		}
 	}
 
 	/**
@@ -243,60 +263,245 @@ public class SeriesSet implements ISeriesSet {
 	}
 
 	/**
-	 * Compresses all series data.
+	 * Compresses all series data. The compressors are independent of each
+	 * other, so the series are compressed in parallel if the chart allows it
+	 * and there are enough points. The method returns when all series are
+	 * compressed, unless the chart compresses them asynchronously.
 	 */
 	public void compressAllSeries() {
 
 		if(!chart.isCompressEnabled()) {
 			return;
 		}
-		//
+		// the result of a previous asynchronous compression is out of date
+		cancelCompressAsync();
 		try {
-			CompressConfig config = new CompressConfig();
 			final int PRECISION = 2;
 			Point p = chart.getPlotArea().getSize();
 			int width = p.x * PRECISION;
 			int height = p.y * PRECISION;
-			config.setSizeInPixel(width, height);
+			List<Series<?>> seriesList = new ArrayList<Series<?>>();
+			List<ICompress> compressors = new ArrayList<ICompress>();
+			List<CompressConfig> configs = new ArrayList<CompressConfig>();
+			long points = 0;
 			for(ISeries<?> series : getSeries()) {
-				int xAxisId = series.getXAxisId();
-				int yAxisId = series.getYAxisId();
-				IAxis xAxis = chart.getAxisSet().getXAxis(xAxisId);
-				IAxis yAxis = chart.getAxisSet().getYAxis(yAxisId);
-				if(xAxis == null || yAxis == null) {
-					continue;
-				}
-				Range xRange = xAxis.getRange();
-				Range yRange = yAxis.getRange();
-				if(xRange == null || yRange == null) {
+				CompressConfig config = getCompressConfig((Series<?>)series, width, height);
+				if(config == null) {
 					continue;
 				}
-				double xMin = xRange.lower;
-				double xMax = xRange.upper;
-				double yMin = yRange.lower;
-				double yMax = yRange.upper;
-				config.setXLogScale(xAxis.isLogScaleEnabled());
-				config.setYLogScale(yAxis.isLogScaleEnabled());
-				double lower = xMin - (xMax - xMin) * 0.015;
-				double upper = xMax + (xMax - xMin) * 0.015;
-				if(xAxis.isLogScaleEnabled()) {
-					lower = ((Series<?>)series).getXRange().lower;
+				((Series<?>)series).prepareCompressor();
+				ICompress compressor = ((Series<?>)series).getCompressor();
+				compressor.setCacheSize(chart.getCompressCacheSize());
+				seriesList.add((Series<?>)series);
+				compressors.add(compressor);
+				configs.add(config);
+				if(series.getDataModel() instanceof IndexedSeriesModel) {
+					points += ((IndexedSeriesModel<?>)series.getDataModel()).size();
 				}
-				config.setXRange(lower, upper);
-				lower = yMin - (yMax - yMin) * 0.015;
-				upper = yMax + (yMax - yMin) * 0.015;
-				if(yAxis.isLogScaleEnabled()) {
-					lower = ((Series<?>)series).getYRange().lower;
+			}
+			if(chart.isCompressAsync()) {
+				compressAsync(seriesList, compressors, configs);
+			}
+			int parallelism = chart.getCompressParallelism();
+			if(parallelism > 1 && compressors.size() > 1 && points >= chart.getParallelCompressThreshold()) {
+				getCompressPool(parallelism).submit(() -> IntStream.range(0, compressors.size()).parallel().forEach(i -> compressors.get(i).compress(configs.get(i)))).get();
+			} else {
+				for(int i = 0; i < compressors.size(); i++) {
+					compressors.get(i).compress(configs.get(i));
 				}
-				config.setYRange(lower, upper);
-				ICompress compressor = ((Series<?>)series).getCompressor();
-				compressor.compress(config);
 			}
 		} catch(Exception e) {
 			System.out.println(e);
 		}
 	}
 
+	/**
+	 * Compresses the given series only, e.g. when its compressor has been
+	 * created again.
+	 * 
+	 * @param series
+	 *            the series
+	 */
+	private void compressSeries(Series<?> series) {
+
+		if(!chart.isCompressEnabled()) {
+			return;
+		}
+		final int PRECISION = 2;
+		Point p = chart.getPlotArea().getSize();
+		CompressConfig config = getCompressConfig(series, p.x * PRECISION, p.y * PRECISION);
+		if(config == null) {
+			return;
+		}
+		series.prepareCompressor();
+		ICompress compressor = series.getCompressor();
+		compressor.setCacheSize(chart.getCompressCacheSize());
+		compressor.compress(config);
+	}
+
+	/**
+	 * Gets the configuration to compress the given series with the current
+	 * ranges of its axes.
+	 * 
+	 * @param series
+	 *            the series
+	 * @param width
+	 *            the width in pixels
+	 * @param height
+	 *            the height in pixels
+	 * @return the configuration, or null if the axes of the series have no
+	 *         range
+	 */
+	private CompressConfig getCompressConfig(Series<?> series, int width, int height) {
+
+		IAxis xAxis = chart.getAxisSet().getXAxis(series.getXAxisId());
+		IAxis yAxis = chart.getAxisSet().getYAxis(series.getYAxisId());
+		if(xAxis == null || yAxis == null) {
+			return null;
+		}
+		Range xRange = xAxis.getRange();
+		Range yRange = yAxis.getRange();
+		if(xRange == null || yRange == null) {
+			return null;
+		}
+		CompressConfig config = new CompressConfig();
+		config.setSizeInPixel(width, height);
+		double xMin = xRange.lower;
+		double xMax = xRange.upper;
+		double yMin = yRange.lower;
+		double yMax = yRange.upper;
+		config.setXLogScale(xAxis.isLogScaleEnabled());
+		config.setYLogScale(yAxis.isLogScaleEnabled());
+		double lower = xMin - (xMax - xMin) * 0.015;
+		double upper = xMax + (xMax - xMin) * 0.015;
+		if(xAxis.isLogScaleEnabled()) {
+			lower = series.getXRange().lower;
+		}
+		config.setXRange(lower, upper);
+		lower = yMin - (yMax - yMin) * 0.015;
+		upper = yMax + (yMax - yMin) * 0.015;
+		if(yAxis.isLogScaleEnabled()) {
+			lower = series.getYRange().lower;
+		}
+		config.setYRange(lower, upper);
+		return config;
+	}
+
+	/**
+	 * Compresses the series in the pool which have compressed series of the
+	 * previous ranges, so that they are drawn rescaled until the compression
+	 * has finished. Copies of the compressors compress the series, and replace
+	 * the compressors in the UI thread, followed by a single redraw. The
+	 * series compressed in the pool are removed from the given lists, the
+	 * remaining ones have to be compressed by the caller.
+	 * 
+	 * @param seriesList
+	 *            the series
+	 * @param compressors
+	 *            the compressors of the series
+	 * @param configs
+	 *            the configurations of the compressors
+	 */
+	private void compressAsync(List<Series<?>> seriesList, List<ICompress> compressors, List<CompressConfig> configs) {
+
+		List<Series<?>> asyncSeries = new ArrayList<Series<?>>();
+		List<Compress> originals = new ArrayList<Compress>();
+		List<Compress> copies = new ArrayList<Compress>();
+		List<CompressConfig> asyncConfigs = new ArrayList<CompressConfig>();
+		for(int i = compressors.size() - 1; i >= 0; i--) {
+			ICompress compressor = compressors.get(i);
+			// the compressor of a circular series belongs to its model
+			if(!(compressor instanceof Compress) || seriesList.get(i) instanceof CircularSeries) {
+				continue;
+			}
+			Compress copy = ((Compress)compressor).copyToCompress(configs.get(i));
+			if(copy != null) {
+				asyncSeries.add(seriesList.remove(i));
+				originals.add((Compress)compressors.remove(i));
+				copies.add(copy);
+				asyncConfigs.add(configs.remove(i));
+			}
+		}
+		if(copies.isEmpty()) {
+			return;
+		}
+		int generation = compressGeneration;
+		Display display = chart.getDisplay();
+		compressFuture = getCompressPool(chart.getCompressParallelism()).submit(() -> {
+			IntStream.range(0, copies.size()).parallel().forEach(i -> {
+				if(generation == compressGeneration) {
+					copies.get(i).compress(asyncConfigs.get(i));
+				}
+			});
+			if(generation == compressGeneration) {
+				display.asyncExec(() -> replaceCompressors(generation, asyncSeries, originals, copies));
+			}
+		});
+	}
+
+	/**
+	 * Replaces the compressors by the copies which have compressed the series
+	 * in the pool, unless a later compression has been started or the
+	 * compressors have been changed meanwhile.
+	 * 
+	 * @param generation
+	 *            the generation of the compression
+	 * @param asyncSeries
+	 *            the series
+	 * @param originals
+	 *            the compressors of the series
+	 * @param copies
+	 *            the copies of the compressors
+	 */
+	private void replaceCompressors(int generation, List<Series<?>> asyncSeries, List<Compress> originals, List<Compress> copies) {
+
+		if(generation != compressGeneration || chart.isDisposed()) {
+			return;
+		}
+		compressFuture = null;
+		boolean replaced = false;
+		for(int i = 0; i < copies.size(); i++) {
+			if(asyncSeries.get(i).replaceCompressor(originals.get(i), copies.get(i))) {
+				replaced = true;
+			}
+		}
+		if(replaced) {
+			chart.redraw();
+		}
+	}
+
+	/**
+	 * Discards the compression in the pool, if any. The compression is
+	 * cancelled if it has not been started yet, otherwise its result is
+	 * ignored.
+	 */
+	private void cancelCompressAsync() {
+
+		compressGeneration++;
+		if(compressFuture != null) {
+			compressFuture.cancel(false);
+			compressFuture = null;
+		}
+	}
+
+	/**
+	 * Gets the pool which compresses the series in parallel.
+	 * 
+	 * @param parallelism
+	 *            the number of threads
+	 * @return the pool
+	 */
+	private ForkJoinPool getCompressPool(int parallelism) {
+
+		if(compressPool == null || compressPool.getParallelism() != parallelism) {
+			if(compressPool != null) {
+				compressPool.shutdown();
+			}
+			compressPool = new ForkJoinPool(parallelism);
+		}
+		return compressPool;
+	}
+
 	/**
 	 * Updates the compressor associated with the given axis.
 	 * <p>
@@ -316,15 +521,13 @@ public class SeriesSet implements ISeriesSet {
 			}
 			ICompress compressor = ((Series<?>)series).getCompressor();
 			if(axis.isValidCategoryAxis()) {
-				String[] categorySeries = axis.getCategorySeries();
-				if(categorySeries == null) {
+				double[] xSeries = getCategoryXSeries(axis);
+				if(xSeries == null) {
 					continue;
 				}
-				double[] xSeries = new double[categorySeries.length];
-				for(int i = 0; i < xSeries.length; i++) {
-					xSeries[i] = i;
-				}
 				compressor.setXSeries(xSeries);
+			} else if(series.getDataModel() instanceof DoubleIndexedSeriesModel) {
+				compressor.setSeries((DoubleIndexedSeriesModel)series.getDataModel());
 			} else if(((Series<?>)series).getXSeries() != null) {
 				compressor.setXSeries(((Series<?>)series).getXSeries());
 			}
@@ -332,6 +535,69 @@ public class SeriesSet implements ISeriesSet {
 		compressAllSeries();
 	}
 
+	/**
+	 * Creates the compressor of the given series again, e.g. when its line
+	 * compression has been changed, and compresses only this series. The
+	 * compressors of the other series are kept.
+	 * 
+	 * @param series
+	 *            the series
+	 */
+	public void updateCompressor(Series<?> series) {
+
+		if(series.getDataModel() == null) {
+			return;
+		}
+		series.updateCompressor();
+		IAxis xAxis = chart.getAxisSet().getXAxis(series.getXAxisId());
+		if(xAxis != null && ((Axis)xAxis).isValidCategoryAxis()) {
+			double[] xSeries = getCategoryXSeries((Axis)xAxis);
+			if(xSeries != null) {
+				series.getCompressor().setXSeries(xSeries);
+			}
+		}
+		compressSeries(series);
+	}
+
+	/**
+	 * Gets the X series of the indexes of the categories of the given axis.
+	 * 
+	 * @param axis
+	 *            the category axis
+	 * @return the X series, or null if the axis has no category series
+	 */
+	private double[] getCategoryXSeries(Axis axis) {
+
+		String[] categorySeries = axis.getCategorySeries();
+		if(categorySeries == null) {
+			return null;
+		}
+		double[] xSeries = new double[categorySeries.length];
+		for(int i = 0; i < xSeries.length; i++) {
+			xSeries[i] = i;
+		}
+		return xSeries;
+	}
+
+	/**
+	 * Creates the compressors of all series again, e.g. when the line
+	 * compression has been changed.
+	 */
+	public void updateCompressors() {
+
+		for(ISeries<?> series : getSeries()) {
+			if(series.getDataModel() != null) {
+				((Series<?>)series).updateCompressor();
+			}
+		}
+		for(IAxis axis : chart.getAxisSet().getXAxes()) {
+			if(((Axis)axis).isValidCategoryAxis()) {
+				updateCompressor((Axis)axis);
+			}
+		}
+		compressAllSeries();
+	}
+
 	/**
 	 * Updates the stack and riser data.
 	 */
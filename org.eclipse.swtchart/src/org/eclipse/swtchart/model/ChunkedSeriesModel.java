@@ -0,0 +1,240 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Lablicate GmbH.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * Contributors:
+ * SWTChart contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.model;
+
+import java.util.Arrays;
+
+/**
+ * An immutable series model whose points are stored in chunks of {@value #CHUNK_SIZE} points. Appending points creates
+ * a new model, which shares the full chunks with this model and only copies the last chunk, so the cost of an append
+ * does not depend on the size of the series.
+ * <p>
+ * Since a model never changes, it can be read by any thread while other threads create new versions, e.g. the paint
+ * code reads a consistent snapshot while an acquisition thread appends. {@link ChunkedSeriesWriter} publishes the
+ * versions to other threads.
+ * </p>
+ */
+public class ChunkedSeriesModel implements DoubleIndexedSeriesModel {
+
+	/** the number of points per chunk */
+	public static final int CHUNK_SIZE = 1 << 12;
+	private static final int CHUNK_SHIFT = 12;
+	private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+	/** the empty model */
+	public static final ChunkedSeriesModel EMPTY = new ChunkedSeriesModel(new double[0][], new double[0][], 0, 0, 0, Double.NaN, Double.NaN, true);
+	private final double[][] xChunks;
+	private final double[][] yChunks;
+	private final int size;
+	private final double minX;
+	private final double maxX;
+	private final double minY;
+	private final double maxY;
+	private final boolean isXMonotoneIncreasing;
+	private MinMaxIndex minMaxIndex;
+
+	private ChunkedSeriesModel(double[][] xChunks, double[][] yChunks, int size, double minX, double maxX, double minY, double maxY, boolean isXMonotoneIncreasing) {
+
+		this.xChunks = xChunks;
+		this.yChunks = yChunks;
+		this.size = size;
+		this.minX = minX;
+		this.maxX = maxX;
+		this.minY = minY;
+		this.maxY = maxY;
+		this.isXMonotoneIncreasing = isXMonotoneIncreasing;
+	}
+
+	/**
+	 * Creates a new model with the given points appended, this model is not changed. The arrays are copied.
+	 *
+	 * @param xSeries
+	 *            the x values
+	 * @param ySeries
+	 *            the y values
+	 * @return the new model
+	 */
+	public ChunkedSeriesModel append(double[] xSeries, double[] ySeries) {
+
+		if(xSeries.length != ySeries.length) {
+			throw new IllegalArgumentException(Messages.getString(Messages.X_Y_LENGTH_DOESNT_MATCH));
+		}
+		if(xSeries.length == 0) {
+			return this;
+		}
+		int newSize = size + xSeries.length;
+		int chunks = ((newSize - 1) >>> CHUNK_SHIFT) + 1;
+		// the full chunks are shared
+		double[][] newXChunks = Arrays.copyOf(xChunks, chunks);
+		double[][] newYChunks = Arrays.copyOf(yChunks, chunks);
+		double minX = this.minX;
+		double maxX = this.maxX;
+		double minY = this.minY;
+		double maxY = this.maxY;
+		boolean isXMonotoneIncreasing = this.isXMonotoneIncreasing;
+		double lastX = size > 0 ? x(size - 1) : Double.NEGATIVE_INFINITY;
+		int index = size;
+		for(int i = 0; i < xSeries.length; i++, index++) {
+			int chunk = index >>> CHUNK_SHIFT;
+			int offset = index & CHUNK_MASK;
+			if(offset == 0 || i == 0) {
+				// a new chunk, or a copy of the last chunk of this model
+				int length = Math.min(CHUNK_SIZE, newSize - (chunk << CHUNK_SHIFT));
+				newXChunks[chunk] = offset == 0 ? new double[length] : Arrays.copyOf(xChunks[chunk], length);
+				newYChunks[chunk] = offset == 0 ? new double[length] : Arrays.copyOf(yChunks[chunk], length);
+			}
+			double x = xSeries[i];
+			double y = ySeries[i];
+			newXChunks[chunk][offset] = x;
+			newYChunks[chunk][offset] = y;
+			if(index == 0) {
+				minX = maxX = x;
+			} else {
+				minX = Math.min(minX, x);
+				maxX = Math.max(maxX, x);
+			}
+			// gaps are not part of the range
+			if(y < minY || Double.isNaN(minY)) {
+				minY = y;
+			}
+			if(y > maxY || Double.isNaN(maxY)) {
+				maxY = y;
+			}
+			if(lastX > x) {
+				isXMonotoneIncreasing = false;
+			}
+			lastX = x;
+		}
+		return new ChunkedSeriesModel(newXChunks, newYChunks, newSize, minX, maxX, minY, maxY, isXMonotoneIncreasing);
+	}
+
+	/**
+	 * Checks whether this model starts with the points of the given model, e.g. since it has been created by appending
+	 * points to it. The full chunks are compared by identity, so this does not depend on the size of the series.
+	 *
+	 * @param model
+	 *            the model
+	 * @return <code>true</code> if the points of the given model are the first points of this model
+	 */
+	public boolean startsWith(ChunkedSeriesModel model) {
+
+		if(model.size > size) {
+			return false;
+		}
+		int fullChunks = model.size >>> CHUNK_SHIFT;
+		for(int i = 0; i < fullChunks; i++) {
+			if(xChunks[i] != model.xChunks[i] || yChunks[i] != model.yChunks[i]) {
+				return false;
+			}
+		}
+		// the last chunk of the given model has been copied
+		for(int index = fullChunks << CHUNK_SHIFT; index < model.size; index++) {
+			if(Double.compare(x(index), model.x(index)) != 0 || Double.compare(y(index), model.y(index)) != 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public boolean isXMonotoneIncreasing() {
+
+		return isXMonotoneIncreasing;
+	}
+
+	@Override
+	public int size() {
+
+		return size;
+	}
+
+	@Override
+	public double x(int index) {
+
+		if(index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException();
+		}
+		return xChunks[index >>> CHUNK_SHIFT][index & CHUNK_MASK];
+	}
+
+	@Override
+	public double y(int index) {
+
+		if(index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException();
+		}
+		return yChunks[index >>> CHUNK_SHIFT][index & CHUNK_MASK];
+	}
+
+	@Override
+	public void copyX(int from, double[] destination, int offset, int length) {
+
+		copy(xChunks, from, destination, offset, length);
+	}
+
+	@Override
+	public void copyY(int from, double[] destination, int offset, int length) {
+
+		copy(yChunks, from, destination, offset, length);
+	}
+
+	@Override
+	public double[] getMinMaxY(int from, int to) {
+
+		return getMinMaxIndex().getMinMaxY(from, to);
+	}
+
+	private synchronized MinMaxIndex getMinMaxIndex() {
+
+		if(minMaxIndex == null) {
+			minMaxIndex = new MinMaxIndex(this);
+		}
+		return minMaxIndex;
+	}
+
+	@Override
+	public Number getMinX() {
+
+		return size > 0 ? minX : 0;
+	}
+
+	@Override
+	public Number getMaxX() {
+
+		return size > 0 ? maxX : 0;
+	}
+
+	@Override
+	public Number getMinY() {
+
+		return size > 0 ? minY : 0;
+	}
+
+	@Override
+	public Number getMaxY() {
+
+		return size > 0 ? maxY : 0;
+	}
+
+	private void copy(double[][] chunks, int from, double[] destination, int offset, int length) {
+
+		if(from < 0 || length < 0 || from + length > size) {
+			throw new IndexOutOfBoundsException();
+		}
+		while(length > 0) {
+			int position = from & CHUNK_MASK;
+			int count = Math.min(length, CHUNK_SIZE - position);
+			System.arraycopy(chunks[from >>> CHUNK_SHIFT], position, destination, offset, count);
+			from += count;
+			offset += count;
+			length -= count;
+		}
+	}
+}
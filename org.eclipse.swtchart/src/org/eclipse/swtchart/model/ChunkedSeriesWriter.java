@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Lablicate GmbH.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * Contributors:
+ * SWTChart contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.model;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Publishes the versions of a {@link ChunkedSeriesModel} from producer threads without locking. Producers call
+ * {@link #append(double[], double[])}, and the UI thread passes the latest version to the series, e.g.
+ *
+ * <pre>
+ * writer.append(x, y);
+ * display.asyncExec(() -&gt; series.setDataModel(writer.getModel()));
+ * </pre>
+ *
+ * which does not copy any data. A version is never changed, so painting always reads a consistent snapshot.
+ */
+public class ChunkedSeriesWriter {
+
+	private final AtomicReference<ChunkedSeriesModel> model = new AtomicReference<ChunkedSeriesModel>(ChunkedSeriesModel.EMPTY);
+
+	/**
+	 * Appends the given points, the method can be called by several threads concurrently.
+	 *
+	 * @param xSeries
+	 *            the x values
+	 * @param ySeries
+	 *            the y values
+	 * @return the version which contains the points
+	 */
+	public ChunkedSeriesModel append(double[] xSeries, double[] ySeries) {
+
+		while(true) {
+			ChunkedSeriesModel current = model.get();
+			ChunkedSeriesModel next = current.append(xSeries, ySeries);
+			if(model.compareAndSet(current, next)) {
+				return next;
+			}
+		}
+	}
+
+	/**
+	 * Removes all points.
+	 */
+	public void clear() {
+
+		model.set(ChunkedSeriesModel.EMPTY);
+	}
+
+	/**
+	 * Gets the latest version.
+	 *
+	 * @return the model
+	 */
+	public ChunkedSeriesModel getModel() {
+
+		return model.get();
+	}
+}
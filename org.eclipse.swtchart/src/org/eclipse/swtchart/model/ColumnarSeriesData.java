@@ -0,0 +1,212 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Lablicate GmbH.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * Contributors:
+ * SWTChart contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A columnar data store with one X column that is shared by any number of Y columns, e.g. channels recorded over
+ * the same time axis. The X statistics are computed once for all columns, each column is shown by a
+ * {@link ColumnarSeriesModel} which only references the store and its column index.
+ */
+public class ColumnarSeriesData {
+
+	private final double[] xdata;
+	private final double minX;
+	private final double maxX;
+	private boolean isXMonotoneIncreasing = true;
+	private final List<double[]> columns = new ArrayList<>();
+	private final List<double[]> columnRanges = new ArrayList<>();
+	private final List<MinMaxIndex> columnIndexes = new ArrayList<>();
+	private double lastXValue = Double.NaN;
+	private int lastXIndex;
+
+	public ColumnarSeriesData(double[] xSeries) {
+
+		this.xdata = xSeries;
+		if(xSeries.length > 0) {
+			double minX = xSeries[0];
+			double maxX = xSeries[0];
+			for(int i = 1; i < xSeries.length; i++) {
+				if(minX > xSeries[i]) {
+					minX = xSeries[i];
+				}
+				if(maxX < xSeries[i]) {
+					maxX = xSeries[i];
+				}
+				if(xSeries[i - 1] > xSeries[i]) {
+					isXMonotoneIncreasing = false;
+				}
+			}
+			this.minX = minX;
+			this.maxX = maxX;
+		} else {
+			this.minX = 0;
+			this.maxX = 0;
+		}
+	}
+
+	/**
+	 * Adds a Y column to the store.
+	 * 
+	 * @param ySeries
+	 *            the Y values, which must have the same length as the X column
+	 * @return the index of the new column
+	 */
+	public synchronized int addColumn(double[] ySeries) {
+
+		if(xdata.length != ySeries.length) {
+			throw new IllegalArgumentException(Messages.getString(Messages.X_Y_LENGTH_DOESNT_MATCH));
+		}
+		double minY = 0;
+		double maxY = 0;
+		if(ySeries.length > 0) {
+			minY = ySeries[0];
+			maxY = ySeries[0];
+			for(int i = 1; i < ySeries.length; i++) {
+				if(minY > ySeries[i] || Double.isNaN(minY)) {
+					minY = ySeries[i];
+				}
+				if(maxY < ySeries[i] || Double.isNaN(maxY)) {
+					maxY = ySeries[i];
+				}
+			}
+		}
+		columns.add(ySeries);
+		columnRanges.add(new double[]{minY, maxY});
+		columnIndexes.add(null);
+		return columns.size() - 1;
+	}
+
+	/**
+	 * Gets the series model showing the given column.
+	 * 
+	 * @param column
+	 *            the column index
+	 * @return the series model
+	 */
+	public ColumnarSeriesModel getSeriesModel(int column) {
+
+		return new ColumnarSeriesModel(this, column);
+	}
+
+	/**
+	 * @return the number of Y columns
+	 */
+	public synchronized int getColumnCount() {
+
+		return columns.size();
+	}
+
+	/**
+	 * @return the number of rows, i.e. the length of the X column
+	 */
+	public int size() {
+
+		return xdata.length;
+	}
+
+	public double x(int index) {
+
+		return xdata[index];
+	}
+
+	public double y(int column, int index) {
+
+		return column(column)[index];
+	}
+
+	public void copyX(int from, double[] destination, int offset, int length) {
+
+		System.arraycopy(xdata, from, destination, offset, length);
+	}
+
+	public void copyY(int column, int from, double[] destination, int offset, int length) {
+
+		System.arraycopy(column(column), from, destination, offset, length);
+	}
+
+	public boolean isXMonotoneIncreasing() {
+
+		return isXMonotoneIncreasing;
+	}
+
+	public double getMinX() {
+
+		return minX;
+	}
+
+	public double getMaxX() {
+
+		return maxX;
+	}
+
+	public synchronized double getMinY(int column) {
+
+		return columnRanges.get(column)[0];
+	}
+
+	public synchronized double getMaxY(int column) {
+
+		return columnRanges.get(column)[1];
+	}
+
+	/**
+	 * Gets the first index whose x coordinate is not less than the given value. The result of the last search is
+	 * kept, so all columns compressed for the same x range share one search.
+	 * 
+	 * @param value
+	 *            the x value to search for
+	 * @return the first index with an x coordinate &gt;= value, or {@link #size()} if there is no such index
+	 * @see DoubleIndexedSeriesModel#firstIndexOfX(double)
+	 */
+	public synchronized int firstIndexOfX(double value) {
+
+		if(Double.compare(value, lastXValue) != 0) {
+			int low = 0;
+			int high = xdata.length;
+			while(low < high) {
+				int middle = (low + high) >>> 1;
+				if(xdata[middle] < value) {
+					low = middle + 1;
+				} else {
+					high = middle;
+				}
+			}
+			lastXValue = value;
+			lastXIndex = low;
+		}
+		return lastXIndex;
+	}
+
+	/**
+	 * Gets the min/max index of the given column, which is built on first use and shared by all models of the column.
+	 * 
+	 * @param column
+	 *            the column index
+	 * @return the min/max index
+	 */
+	public synchronized MinMaxIndex getMinMaxIndex(int column) {
+
+		MinMaxIndex index = columnIndexes.get(column);
+		if(index == null) {
+			index = new MinMaxIndex(getSeriesModel(column));
+			columnIndexes.set(column, index);
+		}
+		return index;
+	}
+
+	synchronized double[] column(int column) {
+
+		return columns.get(column);
+	}
+}
@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Lablicate GmbH.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * Contributors:
+ * SWTChart contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.model;
+
+/**
+ * A series model showing one Y column of a {@link ColumnarSeriesData} over its shared X column. The model holds no
+ * data of its own.
+ */
+public class ColumnarSeriesModel implements DoubleIndexedSeriesModel {
+
+	private final ColumnarSeriesData data;
+	private final int column;
+	private final double[] ydata;
+
+	public ColumnarSeriesModel(ColumnarSeriesData data, int column) {
+
+		if(column < 0 || column >= data.getColumnCount()) {
+			throw new IndexOutOfBoundsException();
+		}
+		this.data = data;
+		this.column = column;
+		this.ydata = data.column(column);
+	}
+
+	/**
+	 * @return the data store of this model
+	 */
+	public ColumnarSeriesData getData() {
+
+		return data;
+	}
+
+	/**
+	 * @return the index of the Y column shown by this model
+	 */
+	public int getColumn() {
+
+		return column;
+	}
+
+	@Override
+	public int size() {
+
+		return data.size();
+	}
+
+	@Override
+	public double x(int index) {
+
+		return data.x(index);
+	}
+
+	@Override
+	public double y(int index) {
+
+		return ydata[index];
+	}
+
+	@Override
+	public boolean isXMonotoneIncreasing() {
+
+		return data.isXMonotoneIncreasing();
+	}
+
+	@Override
+	public int firstIndexOfX(double value) {
+
+		return data.firstIndexOfX(value);
+	}
+
+	@Override
+	public void copyX(int from, double[] destination, int offset, int length) {
+
+		data.copyX(from, destination, offset, length);
+	}
+
+	@Override
+	public void copyY(int from, double[] destination, int offset, int length) {
+
+		System.arraycopy(ydata, from, destination, offset, length);
+	}
+
+	@Override
+	public double[] getMinMaxY(int from, int to) {
+
+		return data.getMinMaxIndex(column).getMinMaxY(from, to);
+	}
+
+	@Override
+	public Number getMaxX() {
+
+		return data.getMaxX();
+	}
+
+	@Override
+	public Number getMinX() {
+
+		return data.getMinX();
+	}
+
+	@Override
+	public Number getMaxY() {
+
+		return data.getMaxY(column);
+	}
+
+	@Override
+	public Number getMinY() {
+
+		return data.getMinY(column);
+	}
+}
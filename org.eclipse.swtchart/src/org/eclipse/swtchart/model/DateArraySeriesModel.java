@@ -12,13 +12,13 @@ package org.eclipse.swtchart.model;
 
 import java.util.Date;
 
-public class DateArraySeriesModel extends DoubleArraySeriesModel {
-
-	private Date[] dates;
+/**
+ * A series model for dates, which are converted to milliseconds since the epoch.
+ */
+public class DateArraySeriesModel extends DoubleArraySeriesModel implements DateSeriesModel {
 
 	public DateArraySeriesModel(Date[] dates, double[] ySeries) {
 		super(toXSeriesArray(dates), ySeries);
-		this.dates = dates;
 	}
 
 	private static double[] toXSeriesArray(Date[] dates) {
@@ -29,9 +29,4 @@ public class DateArraySeriesModel extends DoubleArraySeriesModel {
 		}
 		return xSeries;
 	}
-
-	public Date dateAt(int index) {
-
-		return dates[index];
-	}
 }
@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Lablicate GmbH.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * Contributors:
+ * SWTChart contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.model;
+
+import java.util.AbstractList;
+import java.util.Date;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A series model whose x coordinates are dates given as milliseconds since the epoch. The {@link Date} objects are
+ * created on demand, so a model does not need to keep one object per point.
+ */
+public interface DateSeriesModel extends DoubleIndexedSeriesModel {
+
+	/**
+	 * Gets the date of the given index in milliseconds since the epoch.
+	 *
+	 * @param index
+	 *            the index
+	 * @return the milliseconds since the epoch
+	 */
+	default long millisAt(int index) {
+
+		return (long)x(index);
+	}
+
+	/**
+	 * Gets the date of the given index. A new object is created for every call.
+	 *
+	 * @param index
+	 *            the index
+	 * @return the date
+	 */
+	default Date dateAt(int index) {
+
+		return new Date(millisAt(index));
+	}
+
+	/**
+	 * Gets a view of the dates of this model, which creates the {@link Date} objects when they are accessed.
+	 *
+	 * @return the unmodifiable list of dates
+	 */
+	default List<Date> getDates() {
+
+		class DateList extends AbstractList<Date> implements RandomAccess {
+
+			@Override
+			public Date get(int index) {
+
+				if(index < 0 || index >= size()) {
+					throw new IndexOutOfBoundsException();
+				}
+				return dateAt(index);
+			}
+
+			@Override
+			public int size() {
+
+				return DateSeriesModel.this.size();
+			}
+		}
+		return new DateList();
+	}
+}
@@ -11,31 +11,54 @@
  *******************************************************************************/
 package org.eclipse.swtchart.model;
 
+import java.util.BitSet;
 import java.util.Iterator;
 import java.util.stream.IntStream;
 
 /**
  * A series model that is based on plain arrays
+ * <p>
+ * Points can be disabled by a validity mask, the y coordinate of a disabled point is reported as NaN, i.e. the point
+ * is a gap in the series. The mask is not copied.
+ * </p>
  * 
  * @author Christoph Läubrich
  *
  */
-public class DoubleArraySeriesModel implements IndexedSeriesModel<Integer>, CartesianSeriesModel<Integer> {
+public class DoubleArraySeriesModel implements DoubleIndexedSeriesModel {
 
 	private final double[] xdata;
 	private final double[] ydata;
+	private final BitSet validity;
 	private final double minX;
 	private final double maxX;
 	private boolean isXMonotoneIncreasing = true;
 	private final double minY;
 	private final double maxY;
+	private MinMaxIndex minMaxIndex;
 
 	public DoubleArraySeriesModel(double[] xSeries, double[] ySeries) {
+		this(xSeries, ySeries, null);
+	}
+
+	/**
+	 * Creates a model with a validity mask.
+	 *
+	 * @param xSeries
+	 *            the x values
+	 * @param ySeries
+	 *            the y values
+	 * @param validity
+	 *            the mask with a set bit for each valid point, or null if all points with a y value other than NaN are
+	 *            valid
+	 */
+	public DoubleArraySeriesModel(double[] xSeries, double[] ySeries, BitSet validity) {
 		if(xSeries.length != ySeries.length) {
 			throw new IllegalArgumentException(Messages.getString(Messages.X_Y_LENGTH_DOESNT_MATCH));
 		}
 		this.xdata = xSeries;
 		this.ydata = ySeries;
+		this.validity = validity;
 		if(xSeries.length > 0) {
 			double minX = xSeries[0];
 			double maxX = xSeries[0];
@@ -57,14 +80,17 @@ public class DoubleArraySeriesModel implements IndexedSeriesModel<Integer>, Cart
 			this.maxX = 0;
 		}
 		if(ySeries.length > 0) {
-			// find the min and max value of y series
-			double minY = ySeries[0];
-			double maxY = ySeries[0];
-			for(int i = 1; i < ySeries.length; i++) {
-				if(minY > ySeries[i]) {
+			// find the min and max value of y series, gaps are skipped
+			double minY = Double.NaN;
+			double maxY = Double.NaN;
+			for(int i = 0; i < ySeries.length; i++) {
+				if(validity != null && !validity.get(i)) {
+					continue;
+				}
+				if(minY > ySeries[i] || Double.isNaN(minY)) {
 					minY = ySeries[i];
 				}
-				if(maxY < ySeries[i]) {
+				if(maxY < ySeries[i] || Double.isNaN(maxY)) {
 					maxY = ySeries[i];
 				}
 			}
@@ -76,6 +102,7 @@ public class DoubleArraySeriesModel implements IndexedSeriesModel<Integer>, Cart
 		}
 	}
 
+	@Override
 	public boolean isXMonotoneIncreasing() {
 
 		return isXMonotoneIncreasing;
@@ -115,12 +142,68 @@ public class DoubleArraySeriesModel implements IndexedSeriesModel<Integer>, Cart
 
 		int value = data.intValue();
 		if(value >= 0 && value < ydata.length) {
-			return ydata[data.intValue()];
+			return y(value);
 		} else {
 			return null;
 		}
 	}
 
+	@Override
+	public double x(int index) {
+
+		return xdata[index];
+	}
+
+	@Override
+	public double y(int index) {
+
+		if(validity != null && !validity.get(index)) {
+			return Double.NaN;
+		}
+		return ydata[index];
+	}
+
+	/**
+	 * Gets the validity mask.
+	 *
+	 * @return the mask with a set bit for each valid point, or null
+	 */
+	public BitSet getValidity() {
+
+		return validity;
+	}
+
+	@Override
+	public void copyX(int from, double[] destination, int offset, int length) {
+
+		System.arraycopy(xdata, from, destination, offset, length);
+	}
+
+	@Override
+	public void copyY(int from, double[] destination, int offset, int length) {
+
+		System.arraycopy(ydata, from, destination, offset, length);
+		if(validity != null) {
+			for(int i = validity.nextClearBit(from); i < from + length; i = validity.nextClearBit(i + 1)) {
+				destination[offset + i - from] = Double.NaN;
+			}
+		}
+	}
+
+	@Override
+	public double[] getMinMaxY(int from, int to) {
+
+		return getMinMaxIndex().getMinMaxY(from, to);
+	}
+
+	private synchronized MinMaxIndex getMinMaxIndex() {
+
+		if(minMaxIndex == null) {
+			minMaxIndex = new MinMaxIndex(this);
+		}
+		return minMaxIndex;
+	}
+
 	@Override
 	public Number getMaxX() {
 
@@ -0,0 +1,264 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Lablicate GmbH.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * Contributors:
+ * SWTChart contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.model;
+
+import java.util.Iterator;
+import java.util.stream.IntStream;
+
+/**
+ * A {@link CartesianSeriesModel} that gives access to its coordinates by index as primitive doubles, so consumers can
+ * read the data without boxing each point into {@link Integer} items and {@link Number} values.
+ * <p>
+ * The boxed methods of {@link CartesianSeriesModel} and {@link IndexedSeriesModel} are implemented on top of the
+ * primitive accessors, where the item of a point is its index.
+ * </p>
+ * <p>
+ * A point with a NaN y coordinate is a gap: it is not drawn, the line is broken at it and it is ignored by the
+ * statistics. Models with other means to mark invalid points report them with NaN y coordinates as well.
+ * </p>
+ */
+public interface DoubleIndexedSeriesModel extends IndexedSeriesModel<Integer>, CartesianSeriesModel<Integer> {
+
+	/**
+	 * Gets the x coordinate at the given index
+	 *
+	 * @param index
+	 * @return the x coordinate
+	 * @throws IndexOutOfBoundsException
+	 *             if index < 0 or >= {@link #size()}
+	 */
+	double x(int index);
+
+	/**
+	 * Gets the y coordinate at the given index
+	 *
+	 * @param index
+	 * @return the y coordinate
+	 * @throws IndexOutOfBoundsException
+	 *             if index < 0 or >= {@link #size()}
+	 */
+	double y(int index);
+
+	/**
+	 * Checks if the point at the given index is valid, i.e. it is not a gap in the series
+	 *
+	 * @param index
+	 * @return <code>true</code> if the y coordinate is not NaN
+	 * @throws IndexOutOfBoundsException
+	 *             if index < 0 or >= {@link #size()}
+	 */
+	default boolean isValid(int index) {
+
+		return !Double.isNaN(y(index));
+	}
+
+	/**
+	 * 
+	 * @return <code>true</code> if the x coordinates never decrease with the index, subclasses might provide more
+	 *         efficient implementation
+	 */
+	default boolean isXMonotoneIncreasing() {
+
+		for(int i = 1; i < size(); i++) {
+			if(x(i - 1) > x(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Gets the first index whose x coordinate is not less than the given value, the x coordinates must be monotone
+	 * increasing, subclasses might cache the result for shared x coordinates
+	 *
+	 * @param value
+	 *            the x value to search for
+	 * @return the first index with an x coordinate &gt;= value, or {@link #size()} if there is no such index
+	 */
+	default int firstIndexOfX(double value) {
+
+		int low = 0;
+		int high = size();
+		while(low < high) {
+			int middle = (low + high) >>> 1;
+			if(x(middle) < value) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Gets the last index whose x coordinate is not greater than the given value, the x coordinates must be monotone
+	 * increasing
+	 *
+	 * @param value
+	 *            the x value to search for
+	 * @return the last index with an x coordinate &lt;= value, or -1 if there is no such index
+	 */
+	default int lastIndexOfX(double value) {
+
+		int low = 0;
+		int high = size();
+		while(low < high) {
+			int middle = (low + high) >>> 1;
+			if(x(middle) <= value) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low - 1;
+	}
+
+	/**
+	 * Gets the range of indexes whose x coordinates are within the given interval. The range is found by binary search
+	 * if the x coordinates are monotone increasing, otherwise the whole range of indexes is returned as fallback.
+	 *
+	 * @param lower
+	 *            the lower x value
+	 * @param upper
+	 *            the upper x value
+	 * @return the first index (inclusive) and the last index (exclusive) as array of length 2
+	 */
+	default int[] getXIndexRange(double lower, double upper) {
+
+		if(!isXMonotoneIncreasing()) {
+			return new int[]{0, size()};
+		}
+		int from = firstIndexOfX(lower);
+		int to = lastIndexOfX(upper) + 1;
+		return new int[]{from, Math.max(from, to)};
+	}
+
+	/**
+	 * Gets the minimum and maximum y coordinate of the points in the given index range, NaN values are ignored.
+	 * Implementations with immutable data should answer this from a {@link MinMaxIndex} that is built on first use.
+	 *
+	 * @param from
+	 *            the first index (inclusive)
+	 * @param to
+	 *            the last index (exclusive)
+	 * @return the minimum and maximum y coordinate as array of length 2, or NaN values if the range contains no values
+	 */
+	default double[] getMinMaxY(int from, int to) {
+
+		double min = Double.POSITIVE_INFINITY;
+		double max = Double.NEGATIVE_INFINITY;
+		for(int i = from; i < to; i++) {
+			double value = y(i);
+			if(value < min) {
+				min = value;
+			}
+			if(value > max) {
+				max = value;
+			}
+		}
+		if(min > max) {
+			return new double[]{Double.NaN, Double.NaN};
+		}
+		return new double[]{min, max};
+	}
+
+	/**
+	 * Copies <code>length</code> x coordinates starting at index <code>from</code> into the destination array,
+	 * implementations backed by arrays should override this with a bulk copy
+	 *
+	 * @param from
+	 *            the first index to copy
+	 * @param destination
+	 *            the array to copy into
+	 * @param offset
+	 *            the first position in the destination array
+	 * @param length
+	 *            the number of values to copy
+	 */
+	default void copyX(int from, double[] destination, int offset, int length) {
+
+		for(int i = 0; i < length; i++) {
+			destination[offset + i] = x(from + i);
+		}
+	}
+
+	/**
+	 * Copies <code>length</code> y coordinates starting at index <code>from</code> into the destination array,
+	 * implementations backed by arrays should override this with a bulk copy
+	 *
+	 * @param from
+	 *            the first index to copy
+	 * @param destination
+	 *            the array to copy into
+	 * @param offset
+	 *            the first position in the destination array
+	 * @param length
+	 *            the number of values to copy
+	 */
+	default void copyY(int from, double[] destination, int offset, int length) {
+
+		for(int i = 0; i < length; i++) {
+			destination[offset + i] = y(from + i);
+		}
+	}
+
+	/**
+	 * 
+	 * @return the minimum y value, gaps are ignored, or NaN if there are no values
+	 */
+	@Override
+	default Number getMinY() {
+
+		return getMinMaxY(0, size())[0];
+	}
+
+	/**
+	 * 
+	 * @return the maximum y value, gaps are ignored, or NaN if there are no values
+	 */
+	@Override
+	default Number getMaxY() {
+
+		return getMinMaxY(0, size())[1];
+	}
+
+	@Override
+	default Integer itemAt(int index) throws IndexOutOfBoundsException {
+
+		return index;
+	}
+
+	@Override
+	default Iterator<Integer> iterator() {
+
+		return IntStream.range(0, size()).iterator();
+	}
+
+	@Override
+	default Number getX(Integer data) {
+
+		int index = data.intValue();
+		if(index >= 0 && index < size()) {
+			return x(index);
+		}
+		return null;
+	}
+
+	@Override
+	default Number getY(Integer data) {
+
+		int index = data.intValue();
+		if(index >= 0 && index < size()) {
+			return y(index);
+		}
+		return null;
+	}
+}
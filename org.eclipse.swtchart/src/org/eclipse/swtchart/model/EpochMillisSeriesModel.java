@@ -0,0 +1,191 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Lablicate GmbH.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * Contributors:
+ * SWTChart contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.model;
+
+import java.util.Iterator;
+import java.util.stream.IntStream;
+
+/**
+ * A date series model that is based on an array of milliseconds since the epoch, so it needs neither {@link java.util.Date}
+ * objects nor a double array for the x coordinates. The arrays are not copied.
+ */
+public class EpochMillisSeriesModel implements DateSeriesModel {
+
+	private final long[] millis;
+	private final double[] ydata;
+	private final long minX;
+	private final long maxX;
+	private boolean isXMonotoneIncreasing = true;
+	private final double minY;
+	private final double maxY;
+	private MinMaxIndex minMaxIndex;
+
+	public EpochMillisSeriesModel(long[] millis, double[] ySeries) {
+		if(millis.length != ySeries.length) {
+			throw new IllegalArgumentException(Messages.getString(Messages.X_Y_LENGTH_DOESNT_MATCH));
+		}
+		this.millis = millis;
+		this.ydata = ySeries;
+		if(millis.length > 0) {
+			long minX = millis[0];
+			long maxX = millis[0];
+			for(int i = 1; i < millis.length; i++) {
+				if(minX > millis[i]) {
+					minX = millis[i];
+				}
+				if(maxX < millis[i]) {
+					maxX = millis[i];
+				}
+				if(millis[i - 1] > millis[i]) {
+					isXMonotoneIncreasing = false;
+				}
+			}
+			this.minX = minX;
+			this.maxX = maxX;
+		} else {
+			this.minX = 0;
+			this.maxX = 0;
+		}
+		if(ySeries.length > 0) {
+			double minY = ySeries[0];
+			double maxY = ySeries[0];
+			for(int i = 1; i < ySeries.length; i++) {
+				if(minY > ySeries[i] || Double.isNaN(minY)) {
+					minY = ySeries[i];
+				}
+				if(maxY < ySeries[i] || Double.isNaN(maxY)) {
+					maxY = ySeries[i];
+				}
+			}
+			this.minY = minY;
+			this.maxY = maxY;
+		} else {
+			this.minY = 0;
+			this.maxY = 0;
+		}
+	}
+
+	@Override
+	public boolean isXMonotoneIncreasing() {
+
+		return isXMonotoneIncreasing;
+	}
+
+	@Override
+	public Iterator<Integer> iterator() {
+
+		return IntStream.range(0, millis.length).iterator();
+	}
+
+	@Override
+	public int size() {
+
+		return millis.length;
+	}
+
+	@Override
+	public Integer itemAt(int index) throws IndexOutOfBoundsException {
+
+		return index;
+	}
+
+	@Override
+	public Number getX(Integer data) {
+
+		int value = data.intValue();
+		if(value >= 0 && value < millis.length) {
+			return millis[value];
+		} else {
+			return null;
+		}
+	}
+
+	@Override
+	public Number getY(Integer data) {
+
+		int value = data.intValue();
+		if(value >= 0 && value < ydata.length) {
+			return ydata[value];
+		} else {
+			return null;
+		}
+	}
+
+	@Override
+	public long millisAt(int index) {
+
+		return millis[index];
+	}
+
+	@Override
+	public double x(int index) {
+
+		return millis[index];
+	}
+
+	@Override
+	public double y(int index) {
+
+		return ydata[index];
+	}
+
+	@Override
+	public void copyX(int from, double[] destination, int offset, int length) {
+
+		for(int i = 0; i < length; i++) {
+			destination[offset + i] = millis[from + i];
+		}
+	}
+
+	@Override
+	public void copyY(int from, double[] destination, int offset, int length) {
+
+		System.arraycopy(ydata, from, destination, offset, length);
+	}
+
+	@Override
+	public double[] getMinMaxY(int from, int to) {
+
+		return getMinMaxIndex().getMinMaxY(from, to);
+	}
+
+	private synchronized MinMaxIndex getMinMaxIndex() {
+
+		if(minMaxIndex == null) {
+			minMaxIndex = new MinMaxIndex(this);
+		}
+		return minMaxIndex;
+	}
+
+	@Override
+	public Number getMaxX() {
+
+		return maxX;
+	}
+
+	@Override
+	public Number getMinX() {
+
+		return minX;
+	}
+
+	@Override
+	public Number getMaxY() {
+
+		return maxY;
+	}
+
+	@Override
+	public Number getMinY() {
+
+		return minY;
+	}
+}
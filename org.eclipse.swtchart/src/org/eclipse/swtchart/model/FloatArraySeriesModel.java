@@ -0,0 +1,158 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Lablicate GmbH.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * Contributors:
+ * SWTChart contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.model;
+
+/**
+ * A series model that is based on plain single precision arrays, which needs half of the memory of a
+ * {@link DoubleArraySeriesModel}. The values are widened to double when they are read.
+ */
+public class FloatArraySeriesModel implements DoubleIndexedSeriesModel {
+
+	private final float[] xdata;
+	private final float[] ydata;
+	private final double minX;
+	private final double maxX;
+	private boolean isXMonotoneIncreasing = true;
+	private final double minY;
+	private final double maxY;
+	private MinMaxIndex minMaxIndex;
+
+	public FloatArraySeriesModel(float[] xSeries, float[] ySeries) {
+
+		if(xSeries.length != ySeries.length) {
+			throw new IllegalArgumentException(Messages.getString(Messages.X_Y_LENGTH_DOESNT_MATCH));
+		}
+		this.xdata = xSeries;
+		this.ydata = ySeries;
+		if(xSeries.length > 0) {
+			float minX = xSeries[0];
+			float maxX = xSeries[0];
+			for(int i = 1; i < xSeries.length; i++) {
+				if(minX > xSeries[i]) {
+					minX = xSeries[i];
+				}
+				if(maxX < xSeries[i]) {
+					maxX = xSeries[i];
+				}
+				if(xSeries[i - 1] > xSeries[i]) {
+					isXMonotoneIncreasing = false;
+				}
+			}
+			this.minX = minX;
+			this.maxX = maxX;
+		} else {
+			this.minX = 0;
+			this.maxX = 0;
+		}
+		if(ySeries.length > 0) {
+			// find the min and max value of y series
+			float minY = ySeries[0];
+			float maxY = ySeries[0];
+			for(int i = 1; i < ySeries.length; i++) {
+				if(minY > ySeries[i] || Float.isNaN(minY)) {
+					minY = ySeries[i];
+				}
+				if(maxY < ySeries[i] || Float.isNaN(maxY)) {
+					maxY = ySeries[i];
+				}
+			}
+			this.minY = minY;
+			this.maxY = maxY;
+		} else {
+			this.minY = 0;
+			this.maxY = 0;
+		}
+	}
+
+	@Override
+	public boolean isXMonotoneIncreasing() {
+
+		return isXMonotoneIncreasing;
+	}
+
+	@Override
+	public int size() {
+
+		return xdata.length;
+	}
+
+	@Override
+	public double x(int index) {
+
+		return xdata[index];
+	}
+
+	@Override
+	public double y(int index) {
+
+		return ydata[index];
+	}
+
+	@Override
+	public void copyX(int from, double[] destination, int offset, int length) {
+
+		copy(xdata, from, destination, offset, length);
+	}
+
+	@Override
+	public void copyY(int from, double[] destination, int offset, int length) {
+
+		copy(ydata, from, destination, offset, length);
+	}
+
+	@Override
+	public double[] getMinMaxY(int from, int to) {
+
+		return getMinMaxIndex().getMinMaxY(from, to);
+	}
+
+	private synchronized MinMaxIndex getMinMaxIndex() {
+
+		if(minMaxIndex == null) {
+			minMaxIndex = new MinMaxIndex(this);
+		}
+		return minMaxIndex;
+	}
+
+	@Override
+	public Number getMaxX() {
+
+		return maxX;
+	}
+
+	@Override
+	public Number getMinX() {
+
+		return minX;
+	}
+
+	@Override
+	public Number getMaxY() {
+
+		return maxY;
+	}
+
+	@Override
+	public Number getMinY() {
+
+		return minY;
+	}
+
+	private static void copy(float[] source, int from, double[] destination, int offset, int length) {
+
+		if(from < 0 || length < 0 || from + length > source.length) {
+			throw new IndexOutOfBoundsException();
+		}
+		for(int i = 0; i < length; i++) {
+			destination[offset + i] = source[from + i];
+		}
+	}
+}
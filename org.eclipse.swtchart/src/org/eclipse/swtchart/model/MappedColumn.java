@@ -0,0 +1,253 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Lablicate GmbH.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * Contributors:
+ * SWTChart contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A read only column of double or float values that is stored outside of the Java heap, e.g. in a memory mapped file.
+ * <p>
+ * The value at index <code>i</code> starts at byte <code>offset + i * stride</code>, so columns can be stored one after
+ * another or interleaved with other columns. Files larger than 2 GB are mapped in several segments, a segment always
+ * starts at a value boundary.
+ * </p>
+ */
+public final class MappedColumn {
+
+	/**
+	 * The type of the stored values.
+	 */
+	public enum ValueType {
+		/** 8 byte IEEE 754 double values */
+		DOUBLE(Double.BYTES),
+		/** 4 byte IEEE 754 float values */
+		FLOAT(Float.BYTES);
+
+		private final int bytes;
+
+		private ValueType(int bytes) {
+
+			this.bytes = bytes;
+		}
+
+		/**
+		 *
+		 * @return the number of bytes of a single value
+		 */
+		public int getBytes() {
+
+			return bytes;
+		}
+	}
+
+	/** the maximum number of bytes of a single mapped segment */
+	private static final int MAX_SEGMENT_BYTES = 1 << 30;
+	private final ByteBuffer[] segments;
+	private final int segmentShift;
+	private final int segmentMask;
+	private final int stride;
+	private final int count;
+	private final ValueType type;
+	private final ByteOrder order;
+
+	/**
+	 * Creates a column that reads the values from the given buffer, e.g. a direct buffer. The values are read with the
+	 * byte order of the buffer, starting at position 0.
+	 *
+	 * @param buffer
+	 *            the buffer
+	 * @param stride
+	 *            the number of bytes from one value to the next
+	 * @param count
+	 *            the number of values
+	 * @param type
+	 *            the value type
+	 */
+	public MappedColumn(ByteBuffer buffer, int stride, int count, ValueType type) {
+
+		checkLayout(stride, type);
+		if(count < 0 || required(stride, count, type) > buffer.capacity()) {
+			throw new IllegalArgumentException(Messages.getString(Messages.INVALID_REGION));
+		}
+		this.segments = new ByteBuffer[]{buffer.duplicate().order(buffer.order())};
+		this.segmentShift = 31;
+		this.segmentMask = Integer.MAX_VALUE;
+		this.stride = stride;
+		this.count = count;
+		this.type = type;
+		this.order = buffer.order();
+	}
+
+	private MappedColumn(ByteBuffer[] segments, int segmentShift, int stride, int count, ValueType type, ByteOrder order) {
+
+		this.segments = segments;
+		this.segmentShift = segmentShift;
+		this.segmentMask = (1 << segmentShift) - 1;
+		this.stride = stride;
+		this.count = count;
+		this.type = type;
+		this.order = order;
+	}
+
+	/**
+	 * Maps a little endian column of the given file read only into memory.
+	 *
+	 * @param file
+	 *            the file
+	 * @param offset
+	 *            the position of the first value in bytes
+	 * @param stride
+	 *            the number of bytes from one value to the next
+	 * @param count
+	 *            the number of values
+	 * @param type
+	 *            the value type
+	 * @return the column
+	 * @throws IOException
+	 *             if the file can't be mapped
+	 */
+	public static MappedColumn map(Path file, long offset, int stride, int count, ValueType type) throws IOException {
+
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			return map(channel, offset, stride, count, type, ByteOrder.LITTLE_ENDIAN);
+		}
+	}
+
+	/**
+	 * Maps a column of the given channel read only into memory. The mapping stays valid after the channel has been
+	 * closed and is released when the column is garbage collected.
+	 *
+	 * @param channel
+	 *            the file channel
+	 * @param offset
+	 *            the position of the first value in bytes
+	 * @param stride
+	 *            the number of bytes from one value to the next
+	 * @param count
+	 *            the number of values
+	 * @param type
+	 *            the value type
+	 * @param order
+	 *            the byte order of the values
+	 * @return the column
+	 * @throws IOException
+	 *             if the channel can't be mapped
+	 */
+	public static MappedColumn map(FileChannel channel, long offset, int stride, int count, ValueType type, ByteOrder order) throws IOException {
+
+		checkLayout(stride, type);
+		if(offset < 0 || count < 0 || offset + required(stride, count, type) > channel.size()) {
+			throw new IllegalArgumentException(Messages.getString(Messages.INVALID_REGION));
+		}
+		int segmentShift = 31 - Integer.numberOfLeadingZeros(MAX_SEGMENT_BYTES / stride);
+		int valuesPerSegment = 1 << segmentShift;
+		ByteBuffer[] segments = new ByteBuffer[Math.max(1, (int)((count + (long)valuesPerSegment - 1) / valuesPerSegment))];
+		for(int i = 0; i < segments.length; i++) {
+			int values = Math.min(valuesPerSegment, count - i * valuesPerSegment);
+			long position = offset + (long)i * valuesPerSegment * stride;
+			segments[i] = channel.map(MapMode.READ_ONLY, position, required(stride, values, type)).order(order);
+		}
+		return new MappedColumn(segments, segmentShift, stride, count, type, order);
+	}
+
+	/**
+	 *
+	 * @return the number of values
+	 */
+	public int size() {
+
+		return count;
+	}
+
+	/**
+	 *
+	 * @return the value type
+	 */
+	public ValueType getValueType() {
+
+		return type;
+	}
+
+	/**
+	 * Gets the value at the given index.
+	 *
+	 * @param index
+	 *            the index
+	 * @return the value
+	 * @throws IndexOutOfBoundsException
+	 *             if index < 0 or >= {@link #size()}
+	 */
+	public double get(int index) {
+
+		if(index < 0 || index >= count) {
+			throw new IndexOutOfBoundsException(Integer.toString(index));
+		}
+		ByteBuffer segment = segments[index >>> segmentShift];
+		int position = (index & segmentMask) * stride;
+		return type == ValueType.DOUBLE ? segment.getDouble(position) : segment.getFloat(position);
+	}
+
+	/**
+	 * Copies <code>length</code> values starting at index <code>from</code> into the destination array.
+	 *
+	 * @param from
+	 *            the first index to copy
+	 * @param destination
+	 *            the array to copy into
+	 * @param offset
+	 *            the first position in the destination array
+	 * @param length
+	 *            the number of values to copy
+	 */
+	public void copy(int from, double[] destination, int offset, int length) {
+
+		if(from < 0 || length < 0 || from + length > count) {
+			throw new IndexOutOfBoundsException();
+		}
+		if(type != ValueType.DOUBLE || stride != Double.BYTES) {
+			for(int i = 0; i < length; i++) {
+				destination[offset + i] = get(from + i);
+			}
+			return;
+		}
+		/*
+		 * densely packed doubles are copied in bulk per segment
+		 */
+		while(length > 0) {
+			int position = from & segmentMask;
+			int values = (int)Math.min(length, (long)segmentMask - position + 1);
+			ByteBuffer segment = segments[from >>> segmentShift].duplicate().order(order);
+			segment.position(position * stride);
+			segment.asDoubleBuffer().get(destination, offset, values);
+			from += values;
+			offset += values;
+			length -= values;
+		}
+	}
+
+	private static void checkLayout(int stride, ValueType type) {
+
+		if(stride < type.getBytes()) {
+			throw new IllegalArgumentException(Messages.getString(Messages.STRIDE_TOO_SMALL));
+		}
+	}
+
+	private static long required(int stride, int count, ValueType type) {
+
+		return count == 0 ? 0 : (long)(count - 1) * stride + type.getBytes();
+	}
+}
@@ -0,0 +1,245 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Lablicate GmbH.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * Contributors:
+ * SWTChart contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.model;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.eclipse.swtchart.model.MappedColumn.ValueType;
+
+/**
+ * A read only series model whose coordinates are stored in {@link MappedColumn}s outside of the Java heap.
+ * <p>
+ * The compressor reads the coordinates directly from the columns, so only the visible points are copied to the heap.
+ * The min/max statistics are calculated on first request by a single sequential scan, unless the x coordinates are
+ * declared to be sorted in which case the x range is taken from the first and last point.
+ * </p>
+ */
+public class MappedSeriesModel implements DoubleIndexedSeriesModel {
+
+	private final MappedColumn xColumn;
+	private final MappedColumn yColumn;
+	private final int size;
+	private boolean xStatisticsValid;
+	private boolean yStatisticsValid;
+	private boolean xMonotoneIncreasing;
+	private double minX;
+	private double maxX;
+	private double minY;
+	private double maxY;
+	private MinMaxIndex minMaxIndex;
+
+	/**
+	 * Creates a model from the given columns.
+	 *
+	 * @param xColumn
+	 *            the x coordinates
+	 * @param yColumn
+	 *            the y coordinates
+	 */
+	public MappedSeriesModel(MappedColumn xColumn, MappedColumn yColumn) {
+
+		this(xColumn, yColumn, false);
+	}
+
+	/**
+	 * Creates a model from the given columns.
+	 *
+	 * @param xColumn
+	 *            the x coordinates
+	 * @param yColumn
+	 *            the y coordinates
+	 * @param xSorted
+	 *            <code>true</code> if the caller guarantees that the x coordinates never decrease, this avoids scanning
+	 *            the x column
+	 */
+	public MappedSeriesModel(MappedColumn xColumn, MappedColumn yColumn, boolean xSorted) {
+
+		if(xColumn.size() != yColumn.size()) {
+			throw new IllegalArgumentException(Messages.getString(Messages.X_Y_LENGTH_DOESNT_MATCH));
+		}
+		this.xColumn = xColumn;
+		this.yColumn = yColumn;
+		this.size = xColumn.size();
+		if(xSorted) {
+			xMonotoneIncreasing = true;
+			if(size > 0) {
+				minX = xColumn.get(0);
+				maxX = xColumn.get(size - 1);
+			}
+			xStatisticsValid = true;
+		}
+	}
+
+	/**
+	 * Maps a little endian file with interleaved (x, y) pairs read only into memory.
+	 *
+	 * @param file
+	 *            the file
+	 * @param offset
+	 *            the position of the first pair in bytes
+	 * @param count
+	 *            the number of pairs
+	 * @param type
+	 *            the value type of both coordinates
+	 * @param xSorted
+	 *            <code>true</code> if the x coordinates never decrease
+	 * @return the model
+	 * @throws IOException
+	 *             if the file can't be mapped
+	 */
+	public static MappedSeriesModel mapInterleaved(Path file, long offset, int count, ValueType type, boolean xSorted) throws IOException {
+
+		int stride = 2 * type.getBytes();
+		MappedColumn xColumn = MappedColumn.map(file, offset, stride, count, type);
+		MappedColumn yColumn = MappedColumn.map(file, offset + type.getBytes(), stride, count, type);
+		return new MappedSeriesModel(xColumn, yColumn, xSorted);
+	}
+
+	/**
+	 *
+	 * @return the column of the x coordinates
+	 */
+	public MappedColumn getXColumn() {
+
+		return xColumn;
+	}
+
+	/**
+	 *
+	 * @return the column of the y coordinates
+	 */
+	public MappedColumn getYColumn() {
+
+		return yColumn;
+	}
+
+	@Override
+	public int size() {
+
+		return size;
+	}
+
+	@Override
+	public double x(int index) {
+
+		return xColumn.get(index);
+	}
+
+	@Override
+	public double y(int index) {
+
+		return yColumn.get(index);
+	}
+
+	@Override
+	public void copyX(int from, double[] destination, int offset, int length) {
+
+		xColumn.copy(from, destination, offset, length);
+	}
+
+	@Override
+	public void copyY(int from, double[] destination, int offset, int length) {
+
+		yColumn.copy(from, destination, offset, length);
+	}
+
+	@Override
+	public boolean isXMonotoneIncreasing() {
+
+		updateXStatistics();
+		return xMonotoneIncreasing;
+	}
+
+	@Override
+	public double[] getMinMaxY(int from, int to) {
+
+		return getMinMaxIndex().getMinMaxY(from, to);
+	}
+
+	private synchronized MinMaxIndex getMinMaxIndex() {
+
+		if(minMaxIndex == null) {
+			minMaxIndex = new MinMaxIndex(this);
+		}
+		return minMaxIndex;
+	}
+
+	@Override
+	public Number getMinX() {
+
+		updateXStatistics();
+		return minX;
+	}
+
+	@Override
+	public Number getMaxX() {
+
+		updateXStatistics();
+		return maxX;
+	}
+
+	@Override
+	public Number getMinY() {
+
+		updateYStatistics();
+		return minY;
+	}
+
+	@Override
+	public Number getMaxY() {
+
+		updateYStatistics();
+		return maxY;
+	}
+
+	private synchronized void updateXStatistics() {
+
+		if(xStatisticsValid) {
+			return;
+		}
+		xMonotoneIncreasing = true;
+		if(size > 0) {
+			double previous = minX = maxX = xColumn.get(0);
+			for(int i = 1; i < size; i++) {
+				double x = xColumn.get(i);
+				if(x < previous) {
+					xMonotoneIncreasing = false;
+				}
+				minX = Math.min(minX, x);
+				maxX = Math.max(maxX, x);
+				previous = x;
+			}
+		}
+		xStatisticsValid = true;
+	}
+
+	private synchronized void updateYStatistics() {
+
+		if(yStatisticsValid) {
+			return;
+		}
+		if(size > 0) {
+			minY = maxY = yColumn.get(0);
+			for(int i = 1; i < size; i++) {
+				double y = yColumn.get(i);
+				// gaps are not part of the range
+				if(y < minY || Double.isNaN(minY)) {
+					minY = y;
+				}
+				if(y > maxY || Double.isNaN(maxY)) {
+					maxY = y;
+				}
+			}
+		}
+		yStatisticsValid = true;
+	}
+}
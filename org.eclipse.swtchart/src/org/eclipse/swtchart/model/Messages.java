@@ -22,6 +22,10 @@ public class Messages {
 	private static final ResourceBundle RESOURCE_BUNDLE = ResourceBundle.getBundle(BUNDLE_NAME);
 	
 	public static final String X_Y_LENGTH_DOESNT_MATCH = "X_Y_LENGTH_DOESNT_MATCH";
+	public static final String CAPACITY_MUST_BE_POSITIVE = "CAPACITY_MUST_BE_POSITIVE";
+	public static final String STRIDE_TOO_SMALL = "STRIDE_TOO_SMALL";
+	public static final String INVALID_REGION = "INVALID_REGION";
+	public static final String INTERVAL_MUST_BE_POSITIVE = "INTERVAL_MUST_BE_POSITIVE";
 
 	private Messages() {
 
@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Lablicate GmbH.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * Contributors:
+ * SWTChart contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.model;
+
+import java.util.Arrays;
+
+/**
+ * An index of the minimum and maximum y values of a series, which answers range queries in O(log n).
+ * <p>
+ * The y values are grouped into blocks of {@value #BLOCK_SIZE} points and a segment tree is built over the min/max of
+ * the blocks, so the index needs about half a byte per point. A query scans the partial blocks at both ends and takes
+ * the full blocks in between from the tree. The index is a snapshot, it has to be rebuilt if the y values change.
+ * </p>
+ */
+public class MinMaxIndex {
+
+	/** the number of points per block */
+	public static final int BLOCK_SIZE = 64;
+	private static final int BLOCK_SHIFT = 6;
+	private final DoubleIndexedSeriesModel model;
+	private final int size;
+	/** the number of leaves of the tree, a power of two */
+	private final int leaves;
+	private final double[] min;
+	private final double[] max;
+
+	/**
+	 * Builds the index for the y values of the given model.
+	 * 
+	 * @param model
+	 *            the model, whose y values must not change while the index is used
+	 */
+	public MinMaxIndex(DoubleIndexedSeriesModel model) {
+
+		this.model = model;
+		this.size = model.size();
+		int blocks = (size + BLOCK_SIZE - 1) >>> BLOCK_SHIFT;
+		int leaves = 1;
+		while(leaves < blocks) {
+			leaves <<= 1;
+		}
+		this.leaves = leaves;
+		min = new double[2 * leaves];
+		max = new double[2 * leaves];
+		Arrays.fill(min, Double.POSITIVE_INFINITY);
+		Arrays.fill(max, Double.NEGATIVE_INFINITY);
+		double[] buffer = new double[BLOCK_SIZE];
+		for(int block = 0; block < blocks; block++) {
+			int from = block << BLOCK_SHIFT;
+			int length = Math.min(BLOCK_SIZE, size - from);
+			model.copyY(from, buffer, 0, length);
+			double blockMin = Double.POSITIVE_INFINITY;
+			double blockMax = Double.NEGATIVE_INFINITY;
+			for(int i = 0; i < length; i++) {
+				double value = buffer[i];
+				if(value < blockMin) {
+					blockMin = value;
+				}
+				if(value > blockMax) {
+					blockMax = value;
+				}
+			}
+			min[leaves + block] = blockMin;
+			max[leaves + block] = blockMax;
+		}
+		for(int node = leaves - 1; node > 0; node--) {
+			min[node] = Math.min(min[2 * node], min[2 * node + 1]);
+			max[node] = Math.max(max[2 * node], max[2 * node + 1]);
+		}
+	}
+
+	/**
+	 * Gets the minimum and maximum y value of the points in the given index range, NaN values are ignored.
+	 * 
+	 * @param from
+	 *            the first index (inclusive)
+	 * @param to
+	 *            the last index (exclusive)
+	 * @return the minimum and maximum y value as array of length 2, or NaN values if the range contains no values
+	 */
+	public double[] getMinMaxY(int from, int to) {
+
+		if(from < 0 || to > size) {
+			throw new IndexOutOfBoundsException();
+		}
+		double[] result = {Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY};
+		int firstBlock = (from + BLOCK_SIZE - 1) >>> BLOCK_SHIFT;
+		int lastBlock = to >>> BLOCK_SHIFT;
+		if(firstBlock >= lastBlock) {
+			scan(from, to, result);
+		} else {
+			scan(from, firstBlock << BLOCK_SHIFT, result);
+			query(firstBlock, lastBlock, result);
+			scan(lastBlock << BLOCK_SHIFT, to, result);
+		}
+		if(result[0] > result[1]) {
+			result[0] = Double.NaN;
+			result[1] = Double.NaN;
+		}
+		return result;
+	}
+
+	private void scan(int from, int to, double[] result) {
+
+		for(int i = from; i < to; i++) {
+			double value = model.y(i);
+			if(value < result[0]) {
+				result[0] = value;
+			}
+			if(value > result[1]) {
+				result[1] = value;
+			}
+		}
+	}
+
+	private void query(int fromBlock, int toBlock, double[] result) {
+
+		int low = fromBlock + leaves;
+		int high = toBlock + leaves;
+		while(low < high) {
+			if((low & 1) == 1) {
+				result[0] = Math.min(result[0], min[low]);
+				result[1] = Math.max(result[1], max[low]);
+				low++;
+			}
+			if((high & 1) == 1) {
+				high--;
+				result[0] = Math.min(result[0], min[high]);
+				result[1] = Math.max(result[1], max[high]);
+			}
+			low >>>= 1;
+			high >>>= 1;
+		}
+	}
+}
@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Lablicate GmbH.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * Contributors:
+ * SWTChart contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.model;
+
+/**
+ * A date series model for regularly sampled data. The date of a point is computed from the start and the sampling
+ * interval, so there is no array of x coordinates at all. The y array is not copied.
+ */
+public class RegularDateSeriesModel extends RegularSeriesModel implements DateSeriesModel {
+
+	private final long start;
+	private final long interval;
+
+	/**
+	 * Creates a model with the given sampling.
+	 *
+	 * @param start
+	 *            the date of the first point in milliseconds since the epoch
+	 * @param interval
+	 *            the sampling interval in milliseconds, must be positive
+	 * @param ySeries
+	 *            the y values
+	 */
+	public RegularDateSeriesModel(long start, long interval, double[] ySeries) {
+		super(start, interval, ySeries);
+		this.start = start;
+		this.interval = interval;
+	}
+
+	/**
+	 * Gets the date of the first point.
+	 *
+	 * @return the milliseconds since the epoch
+	 */
+	public long getStart() {
+
+		return start;
+	}
+
+	/**
+	 * Gets the sampling interval.
+	 *
+	 * @return the interval in milliseconds
+	 */
+	public long getInterval() {
+
+		return interval;
+	}
+
+	@Override
+	public Number getX(Integer data) {
+
+		int value = data.intValue();
+		if(value >= 0 && value < size()) {
+			return millisAt(value);
+		} else {
+			return null;
+		}
+	}
+
+	@Override
+	public long millisAt(int index) {
+
+		if(index < 0 || index >= size()) {
+			throw new IndexOutOfBoundsException();
+		}
+		return start + index * interval;
+	}
+
+	@Override
+	public double x(int index) {
+
+		return millisAt(index);
+	}
+
+	@Override
+	public Number getMaxX() {
+
+		return size() > 0 ? millisAt(size() - 1) : 0L;
+	}
+
+	@Override
+	public Number getMinX() {
+
+		return size() > 0 ? start : 0L;
+	}
+}
@@ -0,0 +1,221 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Lablicate GmbH.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * Contributors:
+ * SWTChart contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.model;
+
+import java.util.Iterator;
+import java.util.stream.IntStream;
+
+/**
+ * A series model for uniformly sampled data. The x coordinate of a point is computed from the first x coordinate and
+ * the sampling interval, so there is no array of x coordinates at all and the range of indexes of an x interval is
+ * found by arithmetic. The y array is not copied.
+ */
+public class RegularSeriesModel implements DoubleIndexedSeriesModel {
+
+	private final double x0;
+	private final double dx;
+	private final double[] ydata;
+	private final double minY;
+	private final double maxY;
+	private MinMaxIndex minMaxIndex;
+
+	/**
+	 * Creates a model with the given sampling.
+	 *
+	 * @param x0
+	 *            the x coordinate of the first point
+	 * @param dx
+	 *            the sampling interval, must be positive
+	 * @param ySeries
+	 *            the y values
+	 */
+	public RegularSeriesModel(double x0, double dx, double[] ySeries) {
+		if(!(dx > 0)) {
+			throw new IllegalArgumentException(Messages.getString(Messages.INTERVAL_MUST_BE_POSITIVE));
+		}
+		this.x0 = x0;
+		this.dx = dx;
+		this.ydata = ySeries;
+		if(ySeries.length > 0) {
+			double minY = ySeries[0];
+			double maxY = ySeries[0];
+			for(int i = 1; i < ySeries.length; i++) {
+				if(minY > ySeries[i] || Double.isNaN(minY)) {
+					minY = ySeries[i];
+				}
+				if(maxY < ySeries[i] || Double.isNaN(maxY)) {
+					maxY = ySeries[i];
+				}
+			}
+			this.minY = minY;
+			this.maxY = maxY;
+		} else {
+			this.minY = 0;
+			this.maxY = 0;
+		}
+	}
+
+	/**
+	 * Gets the x coordinate of the first point.
+	 *
+	 * @return the first x coordinate
+	 */
+	public double getX0() {
+
+		return x0;
+	}
+
+	/**
+	 * Gets the sampling interval.
+	 *
+	 * @return the distance of the x coordinates
+	 */
+	public double getDx() {
+
+		return dx;
+	}
+
+	@Override
+	public boolean isXMonotoneIncreasing() {
+
+		return true;
+	}
+
+	@Override
+	public Iterator<Integer> iterator() {
+
+		return IntStream.range(0, ydata.length).iterator();
+	}
+
+	@Override
+	public int size() {
+
+		return ydata.length;
+	}
+
+	@Override
+	public Integer itemAt(int index) throws IndexOutOfBoundsException {
+
+		return index;
+	}
+
+	@Override
+	public Number getX(Integer data) {
+
+		int value = data.intValue();
+		if(value >= 0 && value < ydata.length) {
+			return x(value);
+		} else {
+			return null;
+		}
+	}
+
+	@Override
+	public Number getY(Integer data) {
+
+		int value = data.intValue();
+		if(value >= 0 && value < ydata.length) {
+			return ydata[value];
+		} else {
+			return null;
+		}
+	}
+
+	@Override
+	public double x(int index) {
+
+		if(index < 0 || index >= ydata.length) {
+			throw new IndexOutOfBoundsException();
+		}
+		return x0 + index * dx;
+	}
+
+	@Override
+	public double y(int index) {
+
+		return ydata[index];
+	}
+
+	@Override
+	public void copyX(int from, double[] destination, int offset, int length) {
+
+		for(int i = 0; i < length; i++) {
+			destination[offset + i] = x(from + i);
+		}
+	}
+
+	@Override
+	public void copyY(int from, double[] destination, int offset, int length) {
+
+		System.arraycopy(ydata, from, destination, offset, length);
+	}
+
+	@Override
+	public int firstIndexOfX(double value) {
+
+		if(!(value > x0)) {
+			return 0;
+		}
+		int index = (int)Math.min(ydata.length, Math.ceil((value - x0) / dx));
+		// correct the rounding of the division
+		while(index > 0 && x(index - 1) >= value) {
+			index--;
+		}
+		while(index < ydata.length && x(index) < value) {
+			index++;
+		}
+		return index;
+	}
+
+	@Override
+	public int lastIndexOfX(double value) {
+
+		return firstIndexOfX(Math.nextUp(value)) - 1;
+	}
+
+	@Override
+	public double[] getMinMaxY(int from, int to) {
+
+		return getMinMaxIndex().getMinMaxY(from, to);
+	}
+
+	private synchronized MinMaxIndex getMinMaxIndex() {
+
+		if(minMaxIndex == null) {
+			minMaxIndex = new MinMaxIndex(this);
+		}
+		return minMaxIndex;
+	}
+
+	@Override
+	public Number getMaxX() {
+
+		return ydata.length > 0 ? x(ydata.length - 1) : 0;
+	}
+
+	@Override
+	public Number getMinX() {
+
+		return ydata.length > 0 ? x(0) : 0;
+	}
+
+	@Override
+	public Number getMaxY() {
+
+		return maxY;
+	}
+
+	@Override
+	public Number getMinY() {
+
+		return minY;
+	}
+}
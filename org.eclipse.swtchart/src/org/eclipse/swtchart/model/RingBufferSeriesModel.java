@@ -0,0 +1,407 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Lablicate GmbH.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * Contributors:
+ * SWTChart contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.model;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * A series model for streaming data that is backed by a primitive ring buffer.
+ * <p>
+ * Appending a point is O(1) amortized. A bounded model keeps a sliding window of the latest <code>capacity</code>
+ * points and evicts the oldest ones, a growable model doubles its storage when full and never evicts. Index 0 always
+ * denotes the oldest point in the buffer. The min/max statistics are updated incrementally on append and only
+ * recalculated lazily if an evicted point was an extreme value. Registered {@link SeriesModelListener}s are notified
+ * about appended and updated points, so a chart only has to process the changed part of the data.
+ * </p>
+ * <p>
+ * The model is not thread safe, it is meant to be filled on the display thread.
+ * </p>
+ */
+public class RingBufferSeriesModel implements DoubleIndexedSeriesModel {
+
+	private final boolean growable;
+	private double[] xdata;
+	private double[] ydata;
+	/** the physical position of the oldest point */
+	private int head;
+	private int size;
+	/** the number of adjacent pairs in the buffer with a decreasing x */
+	private int xInversions;
+	private double minX;
+	private double maxX;
+	private double minY;
+	private double maxY;
+	private boolean statisticsValid = true;
+	private final List<SeriesModelListener> listeners = new CopyOnWriteArrayList<>();
+
+	/**
+	 * Creates a bounded model that keeps the latest <code>capacity</code> points.
+	 *
+	 * @param capacity
+	 *            the number of points to keep
+	 */
+	public RingBufferSeriesModel(int capacity) {
+
+		this(capacity, false);
+	}
+
+	/**
+	 * Creates a model with the given capacity.
+	 *
+	 * @param capacity
+	 *            the number of points to keep, or the initial capacity if the model is growable
+	 * @param growable
+	 *            <code>true</code> to grow the storage when it is full instead of evicting the oldest points
+	 */
+	public RingBufferSeriesModel(int capacity, boolean growable) {
+
+		if(capacity <= 0) {
+			throw new IllegalArgumentException(Messages.getString(Messages.CAPACITY_MUST_BE_POSITIVE));
+		}
+		this.growable = growable;
+		this.xdata = new double[capacity];
+		this.ydata = new double[capacity];
+	}
+
+	/**
+	 *
+	 * @return the number of points that fit into the buffer without growing or evicting
+	 */
+	public int getCapacity() {
+
+		return xdata.length;
+	}
+
+	/**
+	 *
+	 * @return <code>true</code> if the storage grows when it is full
+	 */
+	public boolean isGrowable() {
+
+		return growable;
+	}
+
+	/**
+	 * Appends a point, evicting the oldest point if the bounded buffer is full.
+	 *
+	 * @param x
+	 * @param y
+	 */
+	public void append(double x, double y) {
+
+		boolean rangeChanged = appendPoint(x, y);
+		fireAppended(size - 1, rangeChanged);
+	}
+
+	/**
+	 * Appends the given points.
+	 *
+	 * @param xSeries
+	 * @param ySeries
+	 */
+	public void append(double[] xSeries, double[] ySeries) {
+
+		if(xSeries.length != ySeries.length) {
+			throw new IllegalArgumentException(Messages.getString(Messages.X_Y_LENGTH_DOESNT_MATCH));
+		}
+		if(xSeries.length == 0) {
+			return;
+		}
+		boolean rangeChanged = false;
+		for(int i = 0; i < xSeries.length; i++) {
+			rangeChanged |= appendPoint(xSeries[i], ySeries[i]);
+		}
+		fireAppended(Math.max(0, size - xSeries.length), rangeChanged);
+	}
+
+	/**
+	 * Replaces the point at the given index.
+	 *
+	 * @param index
+	 *            the index of the point
+	 * @param x
+	 * @param y
+	 * @throws IndexOutOfBoundsException
+	 *             if index < 0 or >= {@link #size()}
+	 */
+	public void set(int index, double x, double y) {
+
+		checkIndex(index);
+		int position = physical(index);
+		double oldX = xdata[position];
+		double oldY = ydata[position];
+		if(index > 0) {
+			double previous = xdata[physical(index - 1)];
+			if(previous > oldX) {
+				xInversions--;
+			}
+			if(previous > x) {
+				xInversions++;
+			}
+		}
+		if(index < size - 1) {
+			double next = xdata[physical(index + 1)];
+			if(oldX > next) {
+				xInversions--;
+			}
+			if(x > next) {
+				xInversions++;
+			}
+		}
+		xdata[position] = x;
+		ydata[position] = y;
+		boolean rangeChanged = true;
+		if(statisticsValid) {
+			if(oldX == minX || oldX == maxX || oldY == minY || oldY == maxY) {
+				statisticsValid = false;
+			} else {
+				rangeChanged = updateRange(x, y);
+			}
+		}
+		for(SeriesModelListener listener : listeners) {
+			listener.pointsUpdated(this, index, index + 1);
+			if(rangeChanged) {
+				listener.rangeChanged(this);
+			}
+		}
+	}
+
+	/**
+	 * Appends a point without notifying the listeners.
+	 *
+	 * @return <code>true</code> if the range might have changed
+	 */
+	private boolean appendPoint(double x, double y) {
+
+		if(size == xdata.length) {
+			if(growable) {
+				grow();
+			} else {
+				evictOldest();
+			}
+		}
+		if(size > 0 && x(size - 1) > x) {
+			xInversions++;
+		}
+		int position = physical(size);
+		xdata[position] = x;
+		ydata[position] = y;
+		size++;
+		if(!statisticsValid) {
+			return true;
+		}
+		if(size == 1) {
+			minX = maxX = x;
+			minY = maxY = y;
+			return true;
+		}
+		return updateRange(x, y);
+	}
+
+	/**
+	 * Removes all points, the capacity is kept.
+	 */
+	public void clear() {
+
+		head = 0;
+		size = 0;
+		xInversions = 0;
+		minX = maxX = minY = maxY = 0;
+		statisticsValid = true;
+		for(SeriesModelListener listener : listeners) {
+			listener.pointsUpdated(this, 0, 0);
+			listener.rangeChanged(this);
+		}
+	}
+
+	@Override
+	public void addSeriesModelListener(SeriesModelListener listener) {
+
+		if(!listeners.contains(listener)) {
+			listeners.add(listener);
+		}
+	}
+
+	@Override
+	public void removeSeriesModelListener(SeriesModelListener listener) {
+
+		listeners.remove(listener);
+	}
+
+	@Override
+	public int size() {
+
+		return size;
+	}
+
+	@Override
+	public double x(int index) {
+
+		checkIndex(index);
+		return xdata[physical(index)];
+	}
+
+	@Override
+	public double y(int index) {
+
+		checkIndex(index);
+		return ydata[physical(index)];
+	}
+
+	@Override
+	public void copyX(int from, double[] destination, int offset, int length) {
+
+		copy(xdata, from, destination, offset, length);
+	}
+
+	@Override
+	public void copyY(int from, double[] destination, int offset, int length) {
+
+		copy(ydata, from, destination, offset, length);
+	}
+
+	@Override
+	public boolean isXMonotoneIncreasing() {
+
+		return xInversions == 0;
+	}
+
+	@Override
+	public Number getMinX() {
+
+		updateStatistics();
+		return minX;
+	}
+
+	@Override
+	public Number getMaxX() {
+
+		updateStatistics();
+		return maxX;
+	}
+
+	@Override
+	public Number getMinY() {
+
+		updateStatistics();
+		return minY;
+	}
+
+	@Override
+	public Number getMaxY() {
+
+		updateStatistics();
+		return maxY;
+	}
+
+	private void evictOldest() {
+
+		double x = xdata[head];
+		double y = ydata[head];
+		if(size > 1 && x > xdata[physical(1)]) {
+			xInversions--;
+		}
+		head = physical(1);
+		size--;
+		if(x == minX || x == maxX || y == minY || y == maxY) {
+			statisticsValid = false;
+		}
+	}
+
+	private boolean updateRange(double x, double y) {
+
+		boolean rangeChanged = x < minX || x > maxX || y < minY || y > maxY || Double.isNaN(minY);
+		minX = Math.min(minX, x);
+		maxX = Math.max(maxX, x);
+		// gaps are not part of the range
+		if(y < minY || Double.isNaN(minY)) {
+			minY = y;
+		}
+		if(y > maxY || Double.isNaN(maxY)) {
+			maxY = y;
+		}
+		return rangeChanged;
+	}
+
+	private void fireAppended(int from, boolean rangeChanged) {
+
+		for(SeriesModelListener listener : listeners) {
+			listener.pointsAppended(this, from, size);
+			if(rangeChanged) {
+				listener.rangeChanged(this);
+			}
+		}
+	}
+
+	private void grow() {
+
+		int capacity = xdata.length;
+		int newCapacity = capacity > Integer.MAX_VALUE / 2 ? Integer.MAX_VALUE - 8 : capacity * 2;
+		double[] x = new double[newCapacity];
+		double[] y = new double[newCapacity];
+		copy(xdata, 0, x, 0, size);
+		copy(ydata, 0, y, 0, size);
+		xdata = x;
+		ydata = y;
+		head = 0;
+	}
+
+	private void copy(double[] source, int from, double[] destination, int offset, int length) {
+
+		if(from < 0 || length < 0 || from + length > size) {
+			throw new IndexOutOfBoundsException();
+		}
+		int start = physical(from);
+		int first = Math.min(length, source.length - start);
+		System.arraycopy(source, start, destination, offset, first);
+		System.arraycopy(source, 0, destination, offset + first, length - first);
+	}
+
+	private void updateStatistics() {
+
+		if(statisticsValid) {
+			return;
+		}
+		if(size > 0) {
+			minX = maxX = x(0);
+			minY = maxY = y(0);
+			for(int i = 1; i < size; i++) {
+				int position = physical(i);
+				minX = Math.min(minX, xdata[position]);
+				maxX = Math.max(maxX, xdata[position]);
+				double y = ydata[position];
+				if(y < minY || Double.isNaN(minY)) {
+					minY = y;
+				}
+				if(y > maxY || Double.isNaN(maxY)) {
+					maxY = y;
+				}
+			}
+		} else {
+			minX = maxX = minY = maxY = 0;
+		}
+		statisticsValid = true;
+	}
+
+	private int physical(int index) {
+
+		int position = head + index;
+		return position < xdata.length ? position : position - xdata.length;
+	}
+
+	private void checkIndex(int index) {
+
+		if(index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException(Integer.toString(index));
+		}
+	}
+}
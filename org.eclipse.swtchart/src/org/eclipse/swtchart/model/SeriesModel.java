@@ -18,4 +18,23 @@ package org.eclipse.swtchart.model;
  * @param <SeriesTypes>
  */
 public interface SeriesModel<T> extends Iterable<T> {
+
+	/**
+	 * Adds a listener that is notified when the data of the model changes, models that never change might ignore the
+	 * listener
+	 * 
+	 * @param listener
+	 */
+	default void addSeriesModelListener(SeriesModelListener listener) {
+
+	}
+
+	/**
+	 * Removes the given listener
+	 * 
+	 * @param listener
+	 */
+	default void removeSeriesModelListener(SeriesModelListener listener) {
+
+	}
 }
@@ -0,0 +1,58 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Lablicate GmbH.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * Contributors:
+ * SWTChart contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.model;
+
+/**
+ * A listener that is notified when the data of a mutable {@link SeriesModel} changes. The index ranges refer to the
+ * indexes of the model after the change, where <code>from</code> is inclusive and <code>to</code> is exclusive.
+ */
+public interface SeriesModelListener {
+
+	/**
+	 * Invoked when the minimum or maximum values of the model might have changed, e.g. because an extreme point has
+	 * been removed. This is notified in addition to the event describing the change of the points.
+	 * 
+	 * @param model
+	 *            the model that has changed
+	 */
+	default void rangeChanged(SeriesModel<?> model) {
+
+	}
+
+	/**
+	 * Invoked when points have been appended to the model.
+	 * 
+	 * @param model
+	 *            the model that has changed
+	 * @param from
+	 *            the index of the first appended point
+	 * @param to
+	 *            the index after the last appended point
+	 */
+	default void pointsAppended(SeriesModel<?> model, int from, int to) {
+
+	}
+
+	/**
+	 * Invoked when the values of existing points have been changed, or when points have been removed, in which case
+	 * the index range might be empty.
+	 * 
+	 * @param model
+	 *            the model that has changed
+	 * @param from
+	 *            the index of the first changed point
+	 * @param to
+	 *            the index after the last changed point
+	 */
+	default void pointsUpdated(SeriesModel<?> model, int from, int to) {
+
+	}
+}